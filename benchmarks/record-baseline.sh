@@ -0,0 +1,46 @@
+#!/usr/bin/env bash
+# Records the JMH baseline of a release into benchmarks/baseline/<version>.json.
+#
+# Usage: benchmarks/record-baseline.sh <release-tag> [extra JMH options...]
+#
+# The release is built from a temporary git worktree, so the working tree is left alone. Run it on an
+# otherwise idle machine with at least MIN_CPUS cores: the Contended benchmarks run four threads, and
+# on fewer cores they measure time slicing instead of contention. Set FORCE=1 to record anyway.
+# FORKS, WARMUP_ITERATIONS and ITERATIONS override the run settings; extra options must not repeat them.
+set -euo pipefail
+
+if [ $# -lt 1 ]; then
+    echo "usage: $0 <release-tag> [extra JMH options...]" >&2
+    exit 2
+fi
+tag=$1
+shift
+
+min_cpus=${MIN_CPUS:-4}
+cpus=$(getconf _NPROCESSORS_ONLN)
+if [ "$cpus" -lt "$min_cpus" ] && [ "${FORCE:-0}" != 1 ]; then
+    echo "refusing to record a baseline on $cpus CPU(s); need $min_cpus (set FORCE=1 to override)" >&2
+    exit 1
+fi
+
+repo=$(git rev-parse --show-toplevel)
+git -C "$repo" rev-parse --verify --quiet "$tag^{commit}" > /dev/null || {
+    echo "unknown release tag: $tag" >&2
+    exit 1
+}
+version=${tag#v}
+output="$repo/benchmarks/baseline/$version.json"
+mkdir -p "$(dirname "$output")"
+
+worktree=$(mktemp -d)
+trap 'git -C "$repo" worktree remove --force "$worktree"' EXIT
+git -C "$repo" worktree add --detach "$worktree" "$tag" > /dev/null
+
+(cd "$worktree" && mvn -B -q install -DskipTests)
+(cd "$worktree/benchmarks" && mvn -B -q package)
+
+java -jar "$worktree/benchmarks/target/benchmarks.jar" \
+    -f "${FORKS:-3}" -wi "${WARMUP_ITERATIONS:-5}" -w 2s -i "${ITERATIONS:-10}" -r 2s \
+    -prof gc -rf json -rff "$output" "$@"
+
+echo "baseline for $tag written to $output"
@@ -0,0 +1,91 @@
+package com.scoreboard.football.benchmarks;
+
+import com.scoreboard.football.FootballMatch;
+import com.scoreboard.football.codec.GoalFlyweight;
+import com.scoreboard.football.codec.MatchCodec;
+import com.scoreboard.football.codec.MatchFlyweight;
+import com.scoreboard.football.codec.TeamFlyweight;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the binary wire codec: encoding and decoding a full match, and reading single fields
+ * through the flyweights without decoding.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class CodecBenchmark {
+    FootballMatch match;
+    String matchId;
+    String scorer;
+    ByteBuffer buffer;
+    ByteBuffer encodedMatch;
+    ByteBuffer encodedGoal;
+    MatchFlyweight matchFlyweight;
+    TeamFlyweight teamFlyweight;
+    GoalFlyweight goalFlyweight;
+
+    @Setup
+    public void setUp() {
+        match = Fixtures.match(1);
+        matchId = Fixtures.matchId(1);
+        scorer = Fixtures.playerName(1, "A", 7);
+        buffer = ByteBuffer.allocateDirect(4096);
+        encodedMatch = ByteBuffer.allocateDirect(4096);
+        MatchCodec.encode(encodedMatch, match);
+        encodedMatch.flip();
+        encodedGoal = ByteBuffer.allocateDirect(256);
+        MatchCodec.encodeGoal(encodedGoal, matchId, "Team1A", scorer, 1);
+        encodedGoal.flip();
+        matchFlyweight = new MatchFlyweight();
+        teamFlyweight = new TeamFlyweight();
+        goalFlyweight = new GoalFlyweight();
+    }
+
+    @Benchmark
+    public int encodeMatch() {
+        buffer.clear();
+        return MatchCodec.encode(buffer, match);
+    }
+
+    @Benchmark
+    public FootballMatch decodeMatch() {
+        encodedMatch.rewind();
+        return MatchCodec.decode(encodedMatch);
+    }
+
+    @Benchmark
+    public int encodeGoal() {
+        buffer.clear();
+        return MatchCodec.encodeGoal(buffer, matchId, "Team1A", scorer, 1);
+    }
+
+    /**
+     * Reads both team scores of an encoded match without decoding it.
+     */
+    @Benchmark
+    public int readScoresInPlace() {
+        MatchFlyweight flyweight = matchFlyweight.wrap(encodedMatch, 0);
+        return flyweight.teamOne(teamFlyweight).getScore() + flyweight.teamTwo(teamFlyweight).getScore();
+    }
+
+    @Benchmark
+    public boolean routeGoalInPlace() {
+        return goalFlyweight.wrap(encodedGoal, 0).matchIdEquals(matchId);
+    }
+}
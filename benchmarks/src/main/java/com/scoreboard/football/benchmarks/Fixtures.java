@@ -0,0 +1,71 @@
+package com.scoreboard.football.benchmarks;
+
+import com.scoreboard.football.FootballMatch;
+import com.scoreboard.football.modal.Player;
+import com.scoreboard.football.modal.Team;
+import com.scoreboard.football.service.MatchManager;
+
+/**
+ * Deterministic test data. Every match gets its own team and player names, as in a real season
+ * where a name belongs to one squad, so the player indexes grow with the number of matches. With
+ * shared names, jersey 1 and 2 of every squad are called "Goli" and "Skipper", the names
+ * {@link Team} gives goalkeepers and captains, so those two names are shared by every match.
+ */
+final class Fixtures {
+    static final int PLAYERS_PER_TEAM = 11;
+
+    private Fixtures() {
+    }
+
+    static String matchId(int index) {
+        return "Match" + index;
+    }
+
+    static String playerName(int matchIndex, String side, int number) {
+        return "Player" + matchIndex + side + number;
+    }
+
+    static String playerName(int matchIndex, String side, int number, boolean sharedNames) {
+        if (sharedNames && number <= 2) {
+            return number == 1 ? "Goli" : "Skipper";
+        }
+        return playerName(matchIndex, side, number);
+    }
+
+    static MatchManager populatedManager(int matchCount) {
+        return populatedManager(matchCount, false);
+    }
+
+    static MatchManager populatedManager(int matchCount, boolean sharedNames) {
+        MatchManager matchManager = new MatchManager();
+        for (int i = 0; i < matchCount; i++) {
+            matchManager.addMatch(matchId(i), match(i, sharedNames));
+        }
+        return matchManager;
+    }
+
+    static FootballMatch match(int index) {
+        return match(index, false);
+    }
+
+    static FootballMatch match(int index, boolean sharedNames) {
+        return new FootballMatch.Builder()
+                .teamOne(team(index, "A", sharedNames))
+                .teamTwo(team(index, "B", sharedNames))
+                .matchTitle("Match " + index)
+                .referee(new Player("Referee" + index, 99))
+                .build();
+    }
+
+    static Team team(int matchIndex, String side) {
+        return team(matchIndex, side, false);
+    }
+
+    static Team team(int matchIndex, String side, boolean sharedNames) {
+        Team team = new Team("Team" + matchIndex + side);
+        for (int number = 1; number <= PLAYERS_PER_TEAM; number++) {
+            team.addPlayer(new Player(playerName(matchIndex, side, number, sharedNames), number));
+        }
+        return team;
+    }
+}
@@ -0,0 +1,131 @@
+package com.scoreboard.football.benchmarks;
+
+import com.scoreboard.football.FootballMatch;
+import com.scoreboard.football.modal.Player;
+import com.scoreboard.football.service.MatchManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hot paths of {@link MatchManager} against a registry pre-filled with {@code matchCount} matches.
+ * Methods suffixed {@code Contended} run the same operation from four threads at once. With
+ * {@code sharedNames} every squad has a "Goli" and a "Skipper", as real squads do.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class MatchManagerBenchmark {
+    private static final int SPARE_MATCHES = 1024;
+
+    @Param({"1000", "100000", "1000000"})
+    int matchCount;
+
+    @Param({"false", "true"})
+    boolean sharedNames;
+
+    MatchManager matchManager;
+    FootballMatch[] matches;
+    FootballMatch[] spareMatches;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        matchManager = Fixtures.populatedManager(matchCount, sharedNames);
+        matches = new FootballMatch[matchCount];
+        for (int i = 0; i < matchCount; i++) {
+            matches[i] = matchManager.getMatchDetails(Fixtures.matchId(i));
+        }
+        spareMatches = new FootballMatch[SPARE_MATCHES];
+        for (int i = 0; i < SPARE_MATCHES; i++) {
+            spareMatches[i] = Fixtures.match(matchCount + i, sharedNames);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        final SplittableRandom random = new SplittableRandom(42);
+        int spare;
+
+        int nextMatch(int matchCount) {
+            return random.nextInt(matchCount);
+        }
+
+        int nextNumber() {
+            return 1 + random.nextInt(Fixtures.PLAYERS_PER_TEAM);
+        }
+    }
+
+    /**
+     * Registers a new match and removes it again, so the registry stays at {@code matchCount} for the
+     * whole run instead of growing with the number of invocations.
+     */
+    @Benchmark
+    public void addMatch(Cursor cursor) {
+        int spare = cursor.spare++ & (SPARE_MATCHES - 1);
+        String matchId = Fixtures.matchId(matchCount + spare);
+        matchManager.addMatch(matchId, spareMatches[spare]);
+        matchManager.removeMatch(matchId);
+    }
+
+    @Benchmark
+    public void scoreGoal(Cursor cursor) {
+        scoreRandomGoal(cursor);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void scoreGoalContended(Cursor cursor) {
+        scoreRandomGoal(cursor);
+    }
+
+    @Benchmark
+    public List<Player> getPlayersRanking(Cursor cursor) {
+        return matchManager.getPlayersRanking(Fixtures.matchId(cursor.nextMatch(matchCount)));
+    }
+
+    @Benchmark
+    public Player getPlayerDetails(Cursor cursor) {
+        return lookUpRandomPlayer(cursor);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Player getPlayerDetailsContended(Cursor cursor) {
+        return lookUpRandomPlayer(cursor);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 2, time = 5)
+    @Measurement(iterations = 3, time = 5)
+    public List<String> getAllPlayers() {
+        return matchManager.getAllPlayers();
+    }
+
+    private void scoreRandomGoal(Cursor cursor) {
+        int index = cursor.nextMatch(matchCount);
+        matchManager.scoreGoal(Fixtures.matchId(index), Fixtures.playerName(index, "A", cursor.nextNumber(), sharedNames),
+                matches[index].getTeamOne());
+    }
+
+    private Player lookUpRandomPlayer(Cursor cursor) {
+        int index = cursor.nextMatch(matchCount);
+        return matchManager.getPlayerDetails(Fixtures.playerName(index, "B", cursor.nextNumber(), sharedNames));
+    }
+}
@@ -0,0 +1,73 @@
+package com.scoreboard.football.benchmarks;
+
+import com.scoreboard.football.FootballMatch;
+import com.scoreboard.football.modal.Player;
+import com.scoreboard.football.modal.Team;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Construction costs of the model classes, independent of any registry size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ModelBenchmark {
+    Team teamOne;
+    Team teamTwo;
+    Player referee;
+    Player[] players;
+
+    @Setup
+    public void setUp() {
+        teamOne = Fixtures.team(0, "A");
+        teamTwo = Fixtures.team(0, "B");
+        referee = new Player("Referee", 99);
+        players = new Player[Fixtures.PLAYERS_PER_TEAM];
+        for (int i = 0; i < players.length; i++) {
+            players[i] = new Player(Fixtures.playerName(1, "A", i + 1), i + 1);
+        }
+    }
+
+    @Benchmark
+    public FootballMatch buildMatch() {
+        return new FootballMatch.Builder()
+                .teamOne(teamOne)
+                .teamTwo(teamTwo)
+                .matchTitle("Match")
+                .referee(referee)
+                .build();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public FootballMatch buildMatchContended() {
+        return buildMatch();
+    }
+
+    /**
+     * Fills an empty team to its full squad, i.e. eleven {@link Team#addPlayer} calls.
+     */
+    @Benchmark
+    public Team teamAddPlayer() {
+        Team team = new Team("Team");
+        for (Player player : players) {
+            team.addPlayer(player);
+        }
+        return team;
+    }
+}
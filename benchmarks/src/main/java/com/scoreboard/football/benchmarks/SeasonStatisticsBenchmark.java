@@ -0,0 +1,74 @@
+package com.scoreboard.football.benchmarks;
+
+import com.scoreboard.football.FootballMatch;
+import com.scoreboard.football.service.Leaderboard;
+import com.scoreboard.football.service.SeasonStatistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Season-wide aggregations over the columns of {@link SeasonStatistics}, on the common fork-join pool.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class SeasonStatisticsBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    int matchCount;
+
+    SeasonStatistics statistics;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        statistics = new SeasonStatistics();
+        for (int i = 0; i < matchCount; i++) {
+            FootballMatch match = Fixtures.match(i);
+            for (int goal = 0; goal < i % 5; goal++) {
+                match.getTeamOne().increaseScore(1, Fixtures.playerName(i, "A", goal % Fixtures.PLAYERS_PER_TEAM + 1));
+            }
+            statistics.recordMatch(Fixtures.matchId(i), match);
+        }
+    }
+
+    @Benchmark
+    public long goalCount() {
+        return statistics.getGoalCount();
+    }
+
+    @Benchmark
+    public long[] matchGoalDistribution() {
+        return statistics.getMatchGoalDistribution();
+    }
+
+    @Benchmark
+    public Map<String, Long> goalsByTeam() {
+        return statistics.getGoalsByTeam();
+    }
+
+    @Benchmark
+    public List<Leaderboard.LeaderboardEntry> topScorers() {
+        return statistics.getTopScorers(10);
+    }
+
+    @Benchmark
+    public Map<String, Long> goalsByPlayer() {
+        return statistics.getGoalsByPlayer();
+    }
+}
@@ -1,33 +1,59 @@
 package com.scoreboard.football;
 
+import com.scoreboard.football.common.MatchIdGenerator;
 import com.scoreboard.football.common.MatchStatus;
 import com.scoreboard.football.modal.Player;
 import com.scoreboard.football.modal.Team;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class FootballMatch {
     private String matchId;
-    private String matchTitle;
-    private Team teamOne;
-    private Team teamTwo;
+    private volatile String matchTitle;
+    private volatile Team teamOne;
+    private volatile Team teamTwo;
     private LocalDateTime startTime;
-    private Player referee;
-    private MatchStatus matchStatus;
+    private volatile Player referee;
+    private volatile MatchStatus matchStatus;
+    private final List<MatchStatusListener> statusListeners = new CopyOnWriteArrayList<>();
+    private volatile FlatRoster flatRoster;
 
     private FootballMatch() {
         // Private constructor to prevent direct instantiation
     }
 
     public static class Builder {
+        private String matchId;
         private Team teamOne;
         private Team teamTwo;
         private String matchTitle;
+        private LocalDateTime startTime;
         private Player referee;
+        private MatchStatus matchStatus;
+        private MatchIdGenerator idGenerator;
+
+        public Builder matchId(String matchId) {
+            this.matchId = matchId;
+            return this;
+        }
+
+        public Builder matchId(long matchId) {
+            this.matchId = MatchIdGenerator.toString(matchId);
+            return this;
+        }
+
+        /**
+         * Generates the match id with {@code idGenerator} instead of a random UUID when no id is given.
+         */
+        public Builder idGenerator(MatchIdGenerator idGenerator) {
+            this.idGenerator = idGenerator;
+            return this;
+        }
 
         public Builder teamOne(Team teamOne) {
             this.teamOne = teamOne;
@@ -49,18 +75,34 @@ public class FootballMatch {
             return this;
         }
 
+        public Builder startTime(LocalDateTime startTime) {
+            this.startTime = startTime;
+            return this;
+        }
+
+        public Builder matchStatus(MatchStatus matchStatus) {
+            this.matchStatus = matchStatus;
+            return this;
+        }
+
         public FootballMatch build() {
             FootballMatch footballMatch = new FootballMatch();
             if (teamOne == null || teamTwo == null || matchTitle == null || referee == null) {
                 throw new IllegalArgumentException("Parameters cannot be null");
             }
-            footballMatch.matchId = UUID.randomUUID().toString();
+            if (matchId != null) {
+                footballMatch.matchId = matchId;
+            } else if (idGenerator != null) {
+                footballMatch.matchId = idGenerator.nextIdString();
+            } else {
+                footballMatch.matchId = UUID.randomUUID().toString();
+            }
             footballMatch.matchTitle = matchTitle;
             footballMatch.teamOne = teamOne;
             footballMatch.teamTwo = teamTwo;
-            footballMatch.startTime = LocalDateTime.now();
+            footballMatch.startTime = startTime != null ? startTime : LocalDateTime.now();
             footballMatch.referee = referee;
-            footballMatch.matchStatus = MatchStatus.SCHEDULED;
+            footballMatch.matchStatus = matchStatus != null ? matchStatus : MatchStatus.SCHEDULED;
             return footballMatch;
         }
     }
@@ -74,7 +116,7 @@ public class FootballMatch {
     }
 
     public void setMatchTitle(String matchTitle) {
-        if (matchStatus != MatchStatus.IN_PROGRESS) {
+        if (!matchStatus.isLive()) {
             this.matchTitle = matchTitle;
         } else {
             throw new IllegalStateException("Cannot update match title during the match");
@@ -85,9 +127,14 @@ public class FootballMatch {
         return teamOne;
     }
 
-    public boolean setTeamOne(Team teamOne) {
-        if(this.matchStatus!=MatchStatus.IN_PROGRESS){
+    /**
+     * Replaces the first team unless the match is live or a status listener refuses the change, as the
+     * {@code MatchManager} does for the matches registered with it.
+     */
+    public synchronized boolean setTeamOne(Team teamOne) {
+        if(!this.matchStatus.isLive() && canReplaceTeam(this.teamOne, teamOne)){
             this.teamOne = teamOne;
+            this.flatRoster = null;
             return true;
         }
         return false;
@@ -97,14 +144,27 @@ public class FootballMatch {
         return teamTwo;
     }
 
-    public boolean setTeamTwo(Team teamTwo) {
-        if(this.matchStatus!=MatchStatus.IN_PROGRESS){
+    /**
+     * Replaces the second team under the same conditions as {@link #setTeamOne}.
+     */
+    public synchronized boolean setTeamTwo(Team teamTwo) {
+        if(!this.matchStatus.isLive() && canReplaceTeam(this.teamTwo, teamTwo)){
             this.teamTwo = teamTwo;
+            this.flatRoster = null;
             return true;
         }
         return false;
     }
 
+    private boolean canReplaceTeam(Team currentTeam, Team newTeam) {
+        for (MatchStatusListener listener : statusListeners) {
+            if (!listener.canReplaceTeam(this, currentTeam, newTeam)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public LocalDateTime getStartTime() {
         return startTime;
     }
@@ -113,15 +173,27 @@ public class FootballMatch {
         return matchStatus;
     }
 
-    public void setMatchStatus(MatchStatus matchStatus) {
+    public synchronized void setMatchStatus(MatchStatus matchStatus) {
+        MatchStatus previousStatus = this.matchStatus;
         this.matchStatus = matchStatus;
+        if (previousStatus != matchStatus) {
+            statusListeners.forEach(listener -> listener.statusChanged(this, previousStatus, matchStatus));
+        }
+    }
+
+    public void addStatusListener(MatchStatusListener listener) {
+        statusListeners.add(listener);
+    }
+
+    public void removeStatusListener(MatchStatusListener listener) {
+        statusListeners.remove(listener);
     }
 
     public Player getReferee() {
         return referee;
     }
 
-    public boolean assignReferee(Player referee) {
+    public synchronized boolean assignReferee(Player referee) {
         if (this.referee == null) {
             this.referee = referee;
             return true;
@@ -129,18 +201,33 @@ public class FootballMatch {
         return false; // Referee is already assigned
     }
 
+    /**
+     * Names of the players of both teams, team one first. The list is immutable and shared between
+     * calls until a roster, a team or a player's name changes.
+     */
     public List<String> getAllPlayerNames() {
-        List<String> playerNames = new ArrayList<> ();
-        playerNames.addAll(teamOne.getPlayers ().stream ().map(player->player.getName ()).collect(Collectors.toList()));
-        playerNames.addAll(teamTwo.getPlayers ().stream ().map(player->player.getName ()).collect(Collectors.toList()));
-        return playerNames;
+        return flatRoster().names;
     }
 
+    /**
+     * Players of both teams, team one first. The list is immutable and shared between calls until a
+     * roster or a team changes.
+     */
     public List<Player> getAllPlayers() {
-        List<Player> players = new ArrayList<> ();
-        players.addAll(teamOne.getPlayers ());
-        players.addAll(teamTwo.getPlayers ());
-        return players;
+        return flatRoster().players;
+    }
+
+    // Team rosters are immutable lists replaced on every change, so comparing them by identity tells
+    // whether the cached copy is current without taking a lock or allocating.
+    private FlatRoster flatRoster() {
+        List<Player> teamOnePlayers = teamOne.getPlayers();
+        List<Player> teamTwoPlayers = teamTwo.getPlayers();
+        FlatRoster cached = flatRoster;
+        if (cached == null || !cached.isCurrent(teamOnePlayers, teamTwoPlayers)) {
+            cached = new FlatRoster(teamOnePlayers, teamTwoPlayers);
+            flatRoster = cached;
+        }
+        return cached;
     }
 
     @Override
@@ -155,4 +242,42 @@ public class FootballMatch {
                 ", referee=" + referee +
                 '}';
     }
+
+    private static final class FlatRoster {
+        private final List<Player> teamOnePlayers;
+        private final List<Player> teamTwoPlayers;
+        private final List<Player> players;
+        private final List<String> names;
+
+        private FlatRoster(List<Player> teamOnePlayers, List<Player> teamTwoPlayers) {
+            this.teamOnePlayers = teamOnePlayers;
+            this.teamTwoPlayers = teamTwoPlayers;
+            Player[] players = new Player[teamOnePlayers.size() + teamTwoPlayers.size()];
+            String[] names = new String[players.length];
+            int index = 0;
+            for (Player player : teamOnePlayers) {
+                names[index] = player.getName();
+                players[index++] = player;
+            }
+            for (Player player : teamTwoPlayers) {
+                names[index] = player.getName();
+                players[index++] = player;
+            }
+            this.players = Collections.unmodifiableList(Arrays.asList(players));
+            this.names = Collections.unmodifiableList(Arrays.asList(names));
+        }
+
+        // Players can be renamed without a roster change, so names are checked by identity as well.
+        private boolean isCurrent(List<Player> teamOnePlayers, List<Player> teamTwoPlayers) {
+            if (this.teamOnePlayers != teamOnePlayers || this.teamTwoPlayers != teamTwoPlayers) {
+                return false;
+            }
+            for (int i = 0; i < players.size(); i++) {
+                if (players.get(i).getName() != names.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
 }
@@ -0,0 +1,16 @@
+package com.scoreboard.football;
+
+import com.scoreboard.football.common.MatchStatus;
+import com.scoreboard.football.modal.Team;
+
+public interface MatchStatusListener {
+    void statusChanged(FootballMatch match, MatchStatus previousStatus, MatchStatus newStatus);
+
+    /**
+     * Asked, under the match's monitor, before one of its teams is replaced. Returning {@code false}
+     * refuses the change, which suits listeners that keep state about the current teams.
+     */
+    default boolean canReplaceTeam(FootballMatch match, Team currentTeam, Team newTeam) {
+        return true;
+    }
+}
@@ -0,0 +1,66 @@
+package com.scoreboard.football.codec;
+
+import com.scoreboard.football.modal.Team;
+import com.scoreboard.football.service.GoalEvent;
+
+import java.nio.ByteBuffer;
+
+import static com.scoreboard.football.codec.MatchCodec.*;
+
+/**
+ * Reads the fields of an encoded goal event in place. Not thread-safe.
+ */
+public final class GoalFlyweight {
+    private ByteBuffer buffer;
+    private int offset;
+
+    /**
+     * Points this reader at the goal message starting at {@code offset}. Throws
+     * {@link IllegalArgumentException} if there is no complete goal message of a known version there.
+     */
+    public GoalFlyweight wrap(ByteBuffer buffer, int offset) {
+        checkHeader(buffer, offset, GOAL, GOAL_HEADER_BYTES);
+        this.buffer = buffer;
+        this.offset = offset;
+        return this;
+    }
+
+    public int getLength() {
+        return buffer.getInt(offset + LENGTH);
+    }
+
+    public int getPoints() {
+        return buffer.getInt(offset + GOAL_POINTS);
+    }
+
+    public String getMatchId() {
+        return getString(buffer, offset, buffer.getInt(offset + GOAL_MATCH_ID));
+    }
+
+    public boolean matchIdEquals(String matchId) {
+        return stringEquals(buffer, offset, buffer.getInt(offset + GOAL_MATCH_ID), matchId);
+    }
+
+    public String getTeamName() {
+        return getString(buffer, offset, buffer.getInt(offset + GOAL_TEAM_NAME));
+    }
+
+    public boolean teamNameEquals(String teamName) {
+        return stringEquals(buffer, offset, buffer.getInt(offset + GOAL_TEAM_NAME), teamName);
+    }
+
+    /**
+     * The scorer's name, or {@code null} if the goal was credited to the team only.
+     */
+    public String getPlayerName() {
+        return getString(buffer, offset, buffer.getInt(offset + GOAL_PLAYER_NAME));
+    }
+
+    /**
+     * Builds the event for {@code team}, which the caller resolves from {@link #getTeamName()}. An event
+     * is a single goal, so a message worth more than one point needs {@link #getPoints()} as well.
+     */
+    public GoalEvent toGoalEvent(Team team) {
+        return new GoalEvent(getMatchId(), getPlayerName(), team);
+    }
+}
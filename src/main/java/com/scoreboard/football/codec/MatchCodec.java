@@ -0,0 +1,315 @@
+package com.scoreboard.football.codec;
+
+import com.scoreboard.football.FootballMatch;
+import com.scoreboard.football.modal.Player;
+import com.scoreboard.football.modal.Team;
+import com.scoreboard.football.service.GoalEvent;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Binary wire format for matches and goal events exchanged between processes. Messages are encoded
+ * straight into a {@link ByteBuffer} and read back either as objects or, without decoding anything,
+ * through the {@link MatchFlyweight} and {@link GoalFlyweight} readers.
+ * <p>
+ * Every message starts with {@code int length, byte version, byte type, short headerLength}. The rest
+ * of the header is fixed-size fields and {@code int} offsets, relative to the start of the message,
+ * of the variable-length parts, so any field is read with one or two absolute gets. The layout is
+ * stable: fields are never moved or removed, and new fixed fields are appended to the header, which
+ * readers skip by {@code headerLength}. Only an incompatible change bumps {@link #VERSION}, and
+ * readers reject versions they do not know.
+ * <p>
+ * Match header: {@code long startEpochSecond, int startNano, byte status, 3 bytes padding, int
+ * matchIdOffset, int titleOffset, int refereeOffset, int teamOneOffset, int teamTwoOffset}. A team is
+ * {@code int score, int nameOffset, int playerCount} followed by 12-byte player entries {@code int
+ * number, int score, int nameOffset}; the referee is a single player entry. Goal header: {@code int
+ * points, int matchIdOffset, int teamNameOffset, int playerNameOffset}. Strings are an unsigned short
+ * byte length followed by UTF-8, with 0xFFFF standing for {@code null}. Numbers are big-endian and
+ * start times are UTC.
+ * <p>
+ * Readers never trust what a message says about itself: every offset, string length and player count
+ * is checked against the message length and an unknown status is refused, so a corrupt or hostile
+ * message makes a reader throw {@link IllegalArgumentException} rather than read another message's bytes.
+ */
+public final class MatchCodec {
+    public static final byte VERSION = 1;
+    public static final byte MATCH = 1;
+    public static final byte GOAL = 2;
+
+    static final int LENGTH = 0;
+    static final int VERSION_OFFSET = 4;
+    static final int TYPE = 5;
+    static final int HEADER_LENGTH = 6;
+    static final int COMMON_HEADER_BYTES = 8;
+
+    static final int MATCH_START_SECOND = 8;
+    static final int MATCH_START_NANO = 16;
+    static final int MATCH_STATUS = 20;
+    static final int MATCH_ID = 24;
+    static final int MATCH_TITLE = 28;
+    static final int MATCH_REFEREE = 32;
+    static final int MATCH_TEAM_ONE = 36;
+    static final int MATCH_TEAM_TWO = 40;
+    static final int MATCH_HEADER_BYTES = 44;
+
+    static final int TEAM_SCORE = 0;
+    static final int TEAM_NAME = 4;
+    static final int TEAM_PLAYER_COUNT = 8;
+    static final int TEAM_PLAYERS = 12;
+
+    static final int PLAYER_NUMBER = 0;
+    static final int PLAYER_SCORE = 4;
+    static final int PLAYER_NAME = 8;
+    static final int PLAYER_BYTES = 12;
+
+    static final int GOAL_POINTS = 8;
+    static final int GOAL_MATCH_ID = 12;
+    static final int GOAL_TEAM_NAME = 16;
+    static final int GOAL_PLAYER_NAME = 20;
+    static final int GOAL_HEADER_BYTES = 24;
+
+    private static final int NULL_STRING = 0xFFFF;
+
+    private MatchCodec() {
+    }
+
+    /**
+     * Encodes {@code match} at the buffer's position and advances it past the message. Returns the
+     * message length. Throws {@link BufferOverflowException}, leaving the position unchanged, if the
+     * buffer has too little room.
+     */
+    public static int encode(ByteBuffer buffer, FootballMatch match) {
+        checkOrder(buffer);
+        int start = buffer.position();
+        List<Player> teamOnePlayers = match.getTeamOne().getPlayers();
+        List<Player> teamTwoPlayers = match.getTeamTwo().getPlayers();
+        int teamOneOffset = MATCH_HEADER_BYTES + PLAYER_BYTES;
+        int teamTwoOffset = teamOneOffset + TEAM_PLAYERS + teamOnePlayers.size() * PLAYER_BYTES;
+        int stringsOffset = teamTwoOffset + TEAM_PLAYERS + teamTwoPlayers.size() * PLAYER_BYTES;
+        if (buffer.remaining() < stringsOffset) {
+            throw new BufferOverflowException();
+        }
+        LocalDateTime startTime = match.getStartTime();
+        buffer.putLong(start + MATCH_START_SECOND, startTime.toEpochSecond(ZoneOffset.UTC));
+        buffer.putInt(start + MATCH_START_NANO, startTime.getNano());
+        buffer.putInt(start + MATCH_STATUS, 0);
+        buffer.put(start + MATCH_STATUS, (byte) match.getMatchStatus().ordinal());
+        buffer.putInt(start + MATCH_REFEREE, MATCH_HEADER_BYTES);
+        buffer.putInt(start + MATCH_TEAM_ONE, teamOneOffset);
+        buffer.putInt(start + MATCH_TEAM_TWO, teamTwoOffset);
+
+        buffer.position(start + stringsOffset);
+        try {
+            buffer.putInt(start + MATCH_ID, putString(buffer, start, match.getMatchId()));
+            buffer.putInt(start + MATCH_TITLE, putString(buffer, start, match.getMatchTitle()));
+            putPlayer(buffer, start, start + MATCH_HEADER_BYTES, match.getReferee());
+            putTeam(buffer, start, start + teamOneOffset, match.getTeamOne(), teamOnePlayers);
+            putTeam(buffer, start, start + teamTwoOffset, match.getTeamTwo(), teamTwoPlayers);
+        } catch (RuntimeException e) {
+            buffer.position(start);
+            throw e;
+        }
+        return finish(buffer, start, MATCH, MATCH_HEADER_BYTES);
+    }
+
+    /**
+     * Encodes a goal of {@code points} credited to {@code playerName}, or to the team only when it is
+     * {@code null}. Returns the message length.
+     */
+    public static int encodeGoal(ByteBuffer buffer, String matchId, String teamName, String playerName, int points) {
+        checkOrder(buffer);
+        int start = buffer.position();
+        if (buffer.remaining() < GOAL_HEADER_BYTES) {
+            throw new BufferOverflowException();
+        }
+        buffer.putInt(start + GOAL_POINTS, points);
+        buffer.position(start + GOAL_HEADER_BYTES);
+        try {
+            buffer.putInt(start + GOAL_MATCH_ID, putString(buffer, start, matchId));
+            buffer.putInt(start + GOAL_TEAM_NAME, putString(buffer, start, teamName));
+            buffer.putInt(start + GOAL_PLAYER_NAME, putString(buffer, start, playerName));
+        } catch (RuntimeException e) {
+            buffer.position(start);
+            throw e;
+        }
+        return finish(buffer, start, GOAL, GOAL_HEADER_BYTES);
+    }
+
+    /**
+     * Encodes a goal event as a one-point goal: a {@link GoalEvent} carries no points and stands for a
+     * single goal, as in {@code MatchManager.scoreGoals}. The event must have a team.
+     */
+    public static int encodeGoal(ByteBuffer buffer, GoalEvent event) {
+        if (event.getTeam() == null) {
+            throw new IllegalArgumentException("Goal event has no team: " + event);
+        }
+        return encodeGoal(buffer, event.getMatchId(), event.getTeam().getName(), event.getPlayerName(), 1);
+    }
+
+    /**
+     * Decodes the match message at the buffer's position into a new match and advances past it.
+     */
+    public static FootballMatch decode(ByteBuffer buffer) {
+        MatchFlyweight flyweight = new MatchFlyweight().wrap(buffer, buffer.position());
+        FootballMatch match = flyweight.toMatch();
+        buffer.position(buffer.position() + flyweight.getLength());
+        return match;
+    }
+
+    /**
+     * Returns the type of the message at {@code offset}, checking its version and length first.
+     */
+    public static byte typeOf(ByteBuffer buffer, int offset) {
+        return buffer.get(checkHeader(buffer, offset, -1, 0) + TYPE);
+    }
+
+    static int checkHeader(ByteBuffer buffer, int offset, int expectedType, int minimumHeaderBytes) {
+        checkOrder(buffer);
+        if (offset < 0 || buffer.limit() - offset < COMMON_HEADER_BYTES) {
+            throw new IllegalArgumentException("No message at offset " + offset);
+        }
+        byte version = buffer.get(offset + VERSION_OFFSET);
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported message version: " + version);
+        }
+        byte type = buffer.get(offset + TYPE);
+        if (expectedType >= 0 && type != expectedType) {
+            throw new IllegalArgumentException("Unexpected message type: " + type);
+        }
+        int length = buffer.getInt(offset + LENGTH);
+        int headerLength = Short.toUnsignedInt(buffer.getShort(offset + HEADER_LENGTH));
+        if (headerLength < minimumHeaderBytes || length < headerLength || length > buffer.limit() - offset) {
+            throw new IllegalArgumentException("Truncated or corrupt message at offset " + offset);
+        }
+        return offset;
+    }
+
+    static void checkOrder(ByteBuffer buffer) {
+        if (buffer.order() != ByteOrder.BIG_ENDIAN) {
+            throw new IllegalArgumentException("Messages are big-endian");
+        }
+    }
+
+    /**
+     * Returns the position of a part {@code bytes} long found {@code relative} bytes into the message at
+     * {@code message}, or throws {@link IllegalArgumentException} if it does not lie within the message.
+     */
+    static int locate(ByteBuffer buffer, int message, int relative, int bytes) {
+        int length = buffer.getInt(message + LENGTH);
+        if (relative < COMMON_HEADER_BYTES || bytes < 0 || relative > length - bytes) {
+            throw new IllegalArgumentException("Corrupt offset " + relative + " in message at offset " + message);
+        }
+        return message + relative;
+    }
+
+    // Strings are addressed by their offset from the start of the message, so they can be bounds-checked.
+
+    static String getString(ByteBuffer buffer, int message, int relative) {
+        int position = locate(buffer, message, relative, Short.BYTES);
+        int length = Short.toUnsignedInt(buffer.getShort(position));
+        if (length == NULL_STRING) {
+            return null;
+        }
+        locate(buffer, message, relative + Short.BYTES, length);
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + position + Short.BYTES, length, StandardCharsets.UTF_8);
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(position + Short.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Compares the string at {@code relative} with {@code value} without decoding it; exact for ASCII
+     * strings and falls back to decoding otherwise.
+     */
+    static boolean stringEquals(ByteBuffer buffer, int message, int relative, String value) {
+        int position = locate(buffer, message, relative, Short.BYTES);
+        int length = Short.toUnsignedInt(buffer.getShort(position));
+        if (length == NULL_STRING || value == null) {
+            return length == NULL_STRING && value == null;
+        }
+        if (length != value.length()) {
+            return value.equals(getString(buffer, message, relative));
+        }
+        locate(buffer, message, relative + Short.BYTES, length);
+        int bytes = position + Short.BYTES;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            byte b = buffer.get(bytes + i);
+            if (c >= 0x80 || b < 0) {
+                return value.equals(getString(buffer, message, relative));
+            }
+            if (b != c) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void putTeam(ByteBuffer buffer, int start, int teamPosition, Team team, List<Player> players) {
+        buffer.putInt(teamPosition + TEAM_SCORE, team.getScore());
+        buffer.putInt(teamPosition + TEAM_NAME, putString(buffer, start, team.getName()));
+        buffer.putInt(teamPosition + TEAM_PLAYER_COUNT, players.size());
+        int entry = teamPosition + TEAM_PLAYERS;
+        for (Player player : players) {
+            putPlayer(buffer, start, entry, player);
+            entry += PLAYER_BYTES;
+        }
+    }
+
+    private static void putPlayer(ByteBuffer buffer, int start, int entry, Player player) {
+        buffer.putInt(entry + PLAYER_NUMBER, player.getNumber());
+        buffer.putInt(entry + PLAYER_SCORE, player.getScore());
+        buffer.putInt(entry + PLAYER_NAME, putString(buffer, start, player.getName()));
+    }
+
+    // Appends the string at the buffer's position and returns its offset from the message start.
+    private static int putString(ByteBuffer buffer, int start, String value) {
+        int offset = buffer.position() - start;
+        if (value == null) {
+            buffer.putShort((short) NULL_STRING);
+            return offset;
+        }
+        int length = value.length();
+        boolean ascii = true;
+        for (int i = 0; i < length && ascii; i++) {
+            ascii = value.charAt(i) < 0x80;
+        }
+        if (ascii) {
+            if (length >= NULL_STRING) {
+                throw new IllegalArgumentException("String too long to encode: " + length + " bytes");
+            }
+            if (buffer.remaining() < Short.BYTES + length) {
+                throw new BufferOverflowException();
+            }
+            buffer.putShort((short) length);
+            for (int i = 0; i < length; i++) {
+                buffer.put((byte) value.charAt(i));
+            }
+            return offset;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length >= NULL_STRING) {
+            throw new IllegalArgumentException("String too long to encode: " + bytes.length + " bytes");
+        }
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+        return offset;
+    }
+
+    private static int finish(ByteBuffer buffer, int start, byte type, int headerBytes) {
+        int length = buffer.position() - start;
+        buffer.putInt(start + LENGTH, length);
+        buffer.put(start + VERSION_OFFSET, VERSION);
+        buffer.put(start + TYPE, type);
+        buffer.putShort(start + HEADER_LENGTH, (short) headerBytes);
+        return length;
+    }
+}
@@ -0,0 +1,108 @@
+package com.scoreboard.football.codec;
+
+import com.scoreboard.football.FootballMatch;
+import com.scoreboard.football.common.MatchStatus;
+import com.scoreboard.football.modal.Player;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static com.scoreboard.football.codec.MatchCodec.*;
+
+/**
+ * Reads the fields of an encoded match in place. Nothing is decoded until a getter asks for it, and
+ * numeric fields and team scores are read without allocating, so one instance can be re-wrapped over
+ * every message in a buffer. Not thread-safe.
+ */
+public final class MatchFlyweight {
+    private static final MatchStatus[] STATUSES = MatchStatus.values();
+
+    private ByteBuffer buffer;
+    private int offset;
+
+    /**
+     * Points this reader at the match message starting at {@code offset}. Throws
+     * {@link IllegalArgumentException} if there is no complete match message of a known version there.
+     */
+    public MatchFlyweight wrap(ByteBuffer buffer, int offset) {
+        checkHeader(buffer, offset, MATCH, MATCH_HEADER_BYTES);
+        this.buffer = buffer;
+        this.offset = offset;
+        return this;
+    }
+
+    public int getLength() {
+        return buffer.getInt(offset + LENGTH);
+    }
+
+    public String getMatchId() {
+        return getString(buffer, offset, buffer.getInt(offset + MATCH_ID));
+    }
+
+    public boolean matchIdEquals(String matchId) {
+        return stringEquals(buffer, offset, buffer.getInt(offset + MATCH_ID), matchId);
+    }
+
+    public String getMatchTitle() {
+        return getString(buffer, offset, buffer.getInt(offset + MATCH_TITLE));
+    }
+
+    public long getStartEpochSecond() {
+        return buffer.getLong(offset + MATCH_START_SECOND);
+    }
+
+    public LocalDateTime getStartTime() {
+        return LocalDateTime.ofEpochSecond(getStartEpochSecond(), buffer.getInt(offset + MATCH_START_NANO), ZoneOffset.UTC);
+    }
+
+    public MatchStatus getMatchStatus() {
+        int ordinal = buffer.get(offset + MATCH_STATUS);
+        if (ordinal < 0 || ordinal >= STATUSES.length) {
+            throw new IllegalArgumentException("Unknown match status " + ordinal + " in message at offset " + offset);
+        }
+        return STATUSES[ordinal];
+    }
+
+    public String getRefereeName() {
+        return getString(buffer, offset, buffer.getInt(refereeEntry() + PLAYER_NAME));
+    }
+
+    public int getRefereeNumber() {
+        return buffer.getInt(refereeEntry() + PLAYER_NUMBER);
+    }
+
+    /**
+     * Wraps {@code team} over the first team of this match and returns it.
+     */
+    public TeamFlyweight teamOne(TeamFlyweight team) {
+        return team.wrap(buffer, offset, buffer.getInt(offset + MATCH_TEAM_ONE));
+    }
+
+    public TeamFlyweight teamTwo(TeamFlyweight team) {
+        return team.wrap(buffer, offset, buffer.getInt(offset + MATCH_TEAM_TWO));
+    }
+
+    public FootballMatch toMatch() {
+        int referee = refereeEntry();
+        Player refereePlayer = new Player(getRefereeName(), buffer.getInt(referee + PLAYER_NUMBER));
+        int refereeScore = buffer.getInt(referee + PLAYER_SCORE);
+        if (refereeScore > 0) {
+            refereePlayer.increaseScore(refereeScore);
+        }
+        TeamFlyweight team = new TeamFlyweight();
+        return new FootballMatch.Builder()
+                .matchId(getMatchId())
+                .matchTitle(getMatchTitle())
+                .startTime(getStartTime())
+                .matchStatus(getMatchStatus())
+                .referee(refereePlayer)
+                .teamOne(teamOne(team).toTeam())
+                .teamTwo(teamTwo(team).toTeam())
+                .build();
+    }
+
+    private int refereeEntry() {
+        return locate(buffer, offset, buffer.getInt(offset + MATCH_REFEREE), PLAYER_BYTES);
+    }
+}
@@ -0,0 +1,97 @@
+package com.scoreboard.football.codec;
+
+import com.scoreboard.football.modal.Player;
+import com.scoreboard.football.modal.Team;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+import static com.scoreboard.football.codec.MatchCodec.*;
+
+/**
+ * Reads one team of an encoded match in place; obtained from {@link MatchFlyweight#teamOne} or
+ * {@link MatchFlyweight#teamTwo}. Players are addressed by their index in the roster. Not thread-safe.
+ */
+public final class TeamFlyweight {
+    private ByteBuffer buffer;
+    private int message;
+    private int team;
+    private int playerCount;
+
+    /**
+     * Points this reader at the team {@code relative} bytes into the message at {@code message}, checking
+     * that the team and all its player entries lie within the message.
+     */
+    TeamFlyweight wrap(ByteBuffer buffer, int message, int relative) {
+        int team = locate(buffer, message, relative, TEAM_PLAYERS);
+        int playerCount = buffer.getInt(team + TEAM_PLAYER_COUNT);
+        int room = buffer.getInt(message + LENGTH) - relative - TEAM_PLAYERS;
+        if (playerCount < 0 || playerCount > room / PLAYER_BYTES) {
+            throw new IllegalArgumentException("Corrupt player count " + playerCount + " in message at offset " + message);
+        }
+        this.buffer = buffer;
+        this.message = message;
+        this.team = team;
+        this.playerCount = playerCount;
+        return this;
+    }
+
+    public String getName() {
+        return getString(buffer, message, buffer.getInt(team + TEAM_NAME));
+    }
+
+    public boolean nameEquals(String name) {
+        return stringEquals(buffer, message, buffer.getInt(team + TEAM_NAME), name);
+    }
+
+    public int getScore() {
+        return buffer.getInt(team + TEAM_SCORE);
+    }
+
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    public int getPlayerNumber(int index) {
+        return buffer.getInt(player(index) + PLAYER_NUMBER);
+    }
+
+    public int getPlayerScore(int index) {
+        return buffer.getInt(player(index) + PLAYER_SCORE);
+    }
+
+    public String getPlayerName(int index) {
+        return getString(buffer, message, buffer.getInt(player(index) + PLAYER_NAME));
+    }
+
+    /**
+     * Index of the player wearing {@code number}, or -1.
+     */
+    public int indexOfNumber(int number) {
+        for (int i = 0; i < playerCount; i++) {
+            if (buffer.getInt(team + TEAM_PLAYERS + i * PLAYER_BYTES + PLAYER_NUMBER) == number) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public Team toTeam() {
+        Team decoded = new Team(getName());
+        int count = getPlayerCount();
+        for (int i = 0; i < count; i++) {
+            Player player = new Player(getPlayerName(i), getPlayerNumber(i));
+            int score = getPlayerScore(i);
+            if (score > 0) {
+                player.increaseScore(score);
+            }
+            decoded.addPlayer(player);
+        }
+        decoded.increaseScore(getScore());
+        return decoded;
+    }
+
+    private int player(int index) {
+        return team + TEAM_PLAYERS + Objects.checkIndex(index, playerCount) * PLAYER_BYTES;
+    }
+}
@@ -1,7 +1,35 @@
 package com.scoreboard.football.common;
 
+/**
+ * Status of a match. Constants are persisted by ordinal, so new ones must be added at the end.
+ */
 public enum MatchStatus {
     SCHEDULED,
     IN_PROGRESS,
-    COMPLETED
-}
\ No newline at end of file
+    COMPLETED,
+    PAUSED;
+
+    /**
+     * Whether the match is being played: in progress, or paused for half-time or a stoppage.
+     */
+    public boolean isLive() {
+        return this == IN_PROGRESS || this == PAUSED;
+    }
+
+    /**
+     * Whether a match in this status may move to {@code next}: a scheduled match kicks off, a live
+     * match is paused and resumed, and a live match is ended.
+     */
+    public boolean canTransitionTo(MatchStatus next) {
+        switch (this) {
+            case SCHEDULED:
+                return next == IN_PROGRESS;
+            case IN_PROGRESS:
+                return next == PAUSED || next == COMPLETED;
+            case PAUSED:
+                return next == IN_PROGRESS || next == COMPLETED;
+            default:
+                return false;
+        }
+    }
+}
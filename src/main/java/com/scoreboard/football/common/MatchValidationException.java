@@ -0,0 +1,20 @@
+package com.scoreboard.football.common;
+
+/**
+ * Thrown when a {@link MatchValidator} rule rejects an operation. It remains an
+ * {@link IllegalArgumentException}; the rule lets callers and metrics tell the failures apart.
+ */
+public class MatchValidationException extends IllegalArgumentException {
+    private static final long serialVersionUID = 1L;
+
+    private final ValidationRule rule;
+
+    public MatchValidationException(ValidationRule rule, String message) {
+        super(message);
+        this.rule = rule;
+    }
+
+    public ValidationRule getRule() {
+        return rule;
+    }
+}
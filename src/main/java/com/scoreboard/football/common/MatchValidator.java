@@ -1,45 +1,94 @@
 package com.scoreboard.football.common;
 
 import com.scoreboard.football.FootballMatch;
+import com.scoreboard.football.modal.Player;
 import com.scoreboard.football.modal.Team;
 
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.Map;
 
 public class MatchValidator {
     public static void validateMatchId(String matchId, Map<String, FootballMatch> matches) {
         if (!matches.isEmpty() && matches.containsKey(matchId)) {
-            throw new IllegalArgumentException("Match id duplicate: " + matchId);
+            throw new MatchValidationException(ValidationRule.MATCH_ID_UNIQUE, "Match id duplicate: " + matchId);
+        }
+    }
+
+    public static void validateMatchNotDuplicate(String matchId, FootballMatch existingMatch) {
+        if (existingMatch != null) {
+            throw new MatchValidationException(ValidationRule.MATCH_ID_UNIQUE, "Match id duplicate: " + matchId);
         }
     }
 
     public static void validateTeamSize(Team team) {
         if (team.getPlayers().size() != 11) {
-            throw new IllegalArgumentException("Match can not be added as player count in a team is not valid");
+            throw new MatchValidationException(ValidationRule.TEAM_SIZE, "Match can not be added as player count in a team is not valid");
         }
     }
 
     public static void validateMatchExists(String matchId, Map<String, FootballMatch> matches) {
         if (!matches.containsKey(matchId)) {
-            throw new IllegalArgumentException("Match not found: " + matchId);
+            throw new MatchValidationException(ValidationRule.MATCH_EXISTS, "Match not found: " + matchId);
+        }
+    }
+
+    public static void validateMatchExists(String matchId, FootballMatch match) {
+        if (match == null) {
+            throw new MatchValidationException(ValidationRule.MATCH_EXISTS, "Match not found: " + matchId);
+        }
+    }
+
+    public static void validateArchivedMatchExists(String matchId, Long archiveHandle) {
+        if (archiveHandle == null) {
+            throw new MatchValidationException(ValidationRule.MATCH_EXISTS, "Archived match not found: " + matchId);
         }
     }
 
     public static void validateMatchNotInProgress(String matchId, Map<String, FootballMatch> matches) {
-        if (matches.get(matchId).getMatchStatus() == MatchStatus.IN_PROGRESS) {
-            throw new IllegalArgumentException("Match can not be removed as it's live: " + matchId);
+        validateMatchNotInProgress(matchId, matches.get(matchId));
+    }
+
+    public static void validateMatchNotInProgress(String matchId, FootballMatch match) {
+        if (match.getMatchStatus().isLive()) {
+            throw new MatchValidationException(ValidationRule.MATCH_NOT_IN_PROGRESS, "Match can not be removed as it's live: " + matchId);
         }
     }
 
     public static void validateTeamExistsInMatch(FootballMatch match, Team team) {
+        if (team == null) {
+            throw new MatchValidationException(ValidationRule.TEAM_IN_MATCH, "Team is required for scoring");
+        }
         if (!match.getTeamOne().equals(team) && !match.getTeamTwo().equals(team)) {
-            throw new IllegalArgumentException("Team does not exist in the match for scoring: " + team.getName());
+            throw new MatchValidationException(ValidationRule.TEAM_IN_MATCH, "Team does not exist in the match for scoring: " + team.getName());
+        }
+    }
+
+    public static void validatePlayerExists(Player player, String playerDescription) {
+        if (player == null) {
+            throw new MatchValidationException(ValidationRule.PLAYER_EXISTS, "Player not found: " + playerDescription);
         }
     }
 
     public static void validateMatchesNotEmpty(Map<String, FootballMatch> matches) {
-        if (matches.isEmpty()) {
-            throw new IllegalArgumentException("No matches found");
+        validateMatchesNotEmpty(matches.size());
+    }
+
+    public static void validateMatchesNotEmpty(int matchCount) {
+        if (matchCount == 0) {
+            throw new MatchValidationException(ValidationRule.MATCHES_NOT_EMPTY, "No matches found");
+        }
+    }
+
+    public static void validateTimeRange(LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new MatchValidationException(ValidationRule.TIME_RANGE_VALID, "Invalid time range: " + from + " to " + to);
+        }
+    }
+
+    public static void validateStatusTransition(String matchId, MatchStatus currentStatus, MatchStatus newStatus) {
+        if (!currentStatus.canTransitionTo(newStatus)) {
+            throw new MatchValidationException(ValidationRule.STATUS_TRANSITION,
+                    "Match can not move from " + currentStatus + " to " + newStatus + ": " + matchId);
         }
     }
 }
@@ -0,0 +1,13 @@
+package com.scoreboard.football.common;
+
+public enum ValidationRule {
+    MATCH_ID_UNIQUE,
+    TEAM_SIZE,
+    MATCH_EXISTS,
+    MATCH_NOT_IN_PROGRESS,
+    TEAM_IN_MATCH,
+    MATCHES_NOT_EMPTY,
+    PLAYER_EXISTS,
+    TIME_RANGE_VALID,
+    STATUS_TRANSITION
+}
@@ -0,0 +1,7 @@
+package com.scoreboard.football.ingest;
+
+public enum BackpressurePolicy {
+    BLOCK,
+    DROP,
+    REJECT
+}
@@ -0,0 +1,113 @@
+package com.scoreboard.football.ingest;
+
+import com.scoreboard.football.common.MatchStatus;
+import com.scoreboard.football.modal.Team;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded multi-producer, single-consumer ring of match events. Event fields live in preallocated
+ * parallel arrays, so publishing copies references into a slot and never allocates.
+ * <p>
+ * Each slot carries a sequence number: a slot is free for the producer claiming position {@code p}
+ * when its sequence equals {@code p}, and readable by the consumer when it equals {@code p + 1}. The
+ * producer writes the fields before releasing the sequence, and the consumer reads them after
+ * acquiring it, which is all the ordering the hand-off needs.
+ */
+class EventRing {
+    static final byte GOAL = 1;
+    static final byte STATUS = 2;
+
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final byte[] types;
+    private final String[] matchIds;
+    private final String[] playerNames;
+    private final Team[] teams;
+    private final MatchStatus[] statuses;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    EventRing(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Ring capacity must be a power of two: " + capacity);
+        }
+        this.mask = capacity - 1;
+        this.sequences = new AtomicLongArray(capacity);
+        this.types = new byte[capacity];
+        this.matchIds = new String[capacity];
+        this.playerNames = new String[capacity];
+        this.teams = new Team[capacity];
+        this.statuses = new MatchStatus[capacity];
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    boolean offer(byte type, String matchId, String playerName, Team team, MatchStatus status) {
+        long position;
+        int slot;
+        while (true) {
+            position = tail.get();
+            slot = (int) position & mask;
+            long sequence = sequences.getAcquire(slot);
+            if (sequence == position) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+            } else if (sequence < position) {
+                return false;
+            }
+        }
+        types[slot] = type;
+        matchIds[slot] = matchId;
+        playerNames[slot] = playerName;
+        teams[slot] = team;
+        statuses[slot] = status;
+        sequences.setRelease(slot, position + 1);
+        return true;
+    }
+
+    /**
+     * Hands up to {@code limit} published events to {@code handler}, in order, and returns how many
+     * were consumed. Only the owning consumer thread may call this.
+     */
+    int drain(EventHandler handler, int limit) {
+        long position = head.get();
+        int consumed = 0;
+        while (consumed < limit) {
+            int slot = (int) position & mask;
+            if (sequences.getAcquire(slot) != position + 1) {
+                break;
+            }
+            byte type = types[slot];
+            String matchId = matchIds[slot];
+            String playerName = playerNames[slot];
+            Team team = teams[slot];
+            MatchStatus status = statuses[slot];
+            matchIds[slot] = null;
+            playerNames[slot] = null;
+            teams[slot] = null;
+            statuses[slot] = null;
+            sequences.setRelease(slot, position + mask + 1);
+            position++;
+            consumed++;
+            head.lazySet(position);
+            handler.handle(type, matchId, playerName, team, status);
+        }
+        return consumed;
+    }
+
+    int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+    interface EventHandler {
+        void handle(byte type, String matchId, String playerName, Team team, MatchStatus status);
+    }
+}
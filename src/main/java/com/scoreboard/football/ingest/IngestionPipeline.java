@@ -0,0 +1,234 @@
+package com.scoreboard.football.ingest;
+
+import com.scoreboard.football.common.MatchStatus;
+import com.scoreboard.football.modal.Team;
+import com.scoreboard.football.service.MatchManager;
+
+import java.io.Closeable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous ingestion stage in front of a {@link MatchManager}. Producers publish goal and status
+ * events into one of several preallocated rings, chosen by hashing the match id, and each ring is
+ * drained by its own consumer thread. Every match therefore has exactly one thread applying its
+ * changes, so team and player counters are never contended by the pipeline.
+ * <p>
+ * When a ring is full the {@link BackpressurePolicy} decides what a producer does: wait for space,
+ * drop the event and return {@code false}, or throw {@link RejectedExecutionException}.
+ * <p>
+ * An event that fails to apply with a {@link RuntimeException} is counted in {@link #getFailedCount()}
+ * and the consumer moves on to the next one. An {@link Error} is counted too, but it stops the consumer
+ * of that partition: the error is kept in {@link #getFailure(int)}, events still queued there are never
+ * applied, and later publishes to the partition throw {@link IllegalStateException} instead of waiting
+ * for space that will not come.
+ */
+public class IngestionPipeline implements Closeable {
+    private static final int DRAIN_BATCH = 256;
+    private static final int SPIN_LIMIT = 100;
+    private static final long PARK_NANOS = 50_000;
+
+    private final MatchManager matchManager;
+    private final BackpressurePolicy backpressurePolicy;
+    private final EventRing[] rings;
+    private final Thread[] consumers;
+    private final AtomicInteger[] publishers;
+    private final AtomicReferenceArray<Error> failures;
+    private final LongAdder applied = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private volatile boolean accepting = true;
+    private volatile boolean running = true;
+
+    public IngestionPipeline(MatchManager matchManager, int partitions, int capacityPerPartition,
+                             BackpressurePolicy backpressurePolicy) {
+        if (partitions < 1) {
+            throw new IllegalArgumentException("Partitions must be positive: " + partitions);
+        }
+        this.matchManager = matchManager;
+        this.backpressurePolicy = backpressurePolicy;
+        this.rings = new EventRing[partitions];
+        this.consumers = new Thread[partitions];
+        this.publishers = new AtomicInteger[partitions];
+        this.failures = new AtomicReferenceArray<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            publishers[i] = new AtomicInteger();
+            rings[i] = new EventRing(capacityPerPartition);
+            int partition = i;
+            consumers[i] = new Thread(() -> consume(partition), "ingest-partition-" + i);
+            consumers[i].setDaemon(true);
+            consumers[i].start();
+        }
+    }
+
+    public boolean publishGoal(String matchId, String playerName, Team team) {
+        return publish(EventRing.GOAL, matchId, playerName, team, null);
+    }
+
+    public boolean publishStatus(String matchId, MatchStatus status) {
+        return publish(EventRing.STATUS, matchId, null, null, status);
+    }
+
+    public int getQueueDepth() {
+        int depth = 0;
+        for (EventRing ring : rings) {
+            depth += ring.size();
+        }
+        return depth;
+    }
+
+    public int getQueueDepth(int partition) {
+        return rings[partition].size();
+    }
+
+    public int getPartitionCount() {
+        return rings.length;
+    }
+
+    public int partitionOf(String matchId) {
+        int hash = matchId.hashCode();
+        return ((hash ^ (hash >>> 16)) & Integer.MAX_VALUE) % rings.length;
+    }
+
+    public long getAppliedCount() {
+        return applied.sum();
+    }
+
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * Returns the error that stopped the consumer of a partition, or {@code null} while it is running.
+     */
+    public Error getFailure(int partition) {
+        return failures.get(partition);
+    }
+
+    /**
+     * Stops accepting events, waits for publishes already under way to land, lets the consumers apply
+     * everything published and waits for them to finish.
+     */
+    @Override
+    public void close() {
+        accepting = false;
+        // A producer registers before it checks accepting, so once every count has dropped to zero no
+        // event can reach a ring after the consumers see it empty.
+        for (AtomicInteger partitionPublishers : publishers) {
+            int attempts = 0;
+            while (partitionPublishers.get() > 0) {
+                backOff(attempts++);
+            }
+        }
+        running = false;
+        for (Thread consumer : consumers) {
+            LockSupport.unpark(consumer);
+        }
+        for (Thread consumer : consumers) {
+            try {
+                consumer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private boolean publish(byte type, String matchId, String playerName, Team team, MatchStatus status) {
+        int partition = partitionOf(matchId);
+        AtomicInteger partitionPublishers = publishers[partition];
+        partitionPublishers.incrementAndGet();
+        try {
+            if (!accepting) {
+                throw new IllegalStateException("Ingestion pipeline is closed");
+            }
+            checkConsumer(partition);
+            EventRing ring = rings[partition];
+            int attempts = 0;
+            while (!ring.offer(type, matchId, playerName, team, status)) {
+                switch (backpressurePolicy) {
+                    case DROP:
+                        dropped.increment();
+                        return false;
+                    case REJECT:
+                        rejected.increment();
+                        throw new RejectedExecutionException("Ingestion partition full for match: " + matchId);
+                    default:
+                        if (!accepting) {
+                            throw new IllegalStateException("Ingestion pipeline is closed");
+                        }
+                        checkConsumer(partition);
+                        backOff(attempts++);
+                }
+            }
+            return true;
+        } finally {
+            partitionPublishers.decrementAndGet();
+        }
+    }
+
+    private void checkConsumer(int partition) {
+        Error failure = failures.get(partition);
+        if (failure != null) {
+            throw new IllegalStateException("Ingestion partition " + partition + " has stopped", failure);
+        }
+    }
+
+    private void consume(int partition) {
+        EventRing ring = rings[partition];
+        EventRing.EventHandler handler = this::apply;
+        int idle = 0;
+        try {
+            while (true) {
+                int consumed = ring.drain(handler, DRAIN_BATCH);
+                if (consumed > 0) {
+                    idle = 0;
+                } else if (!running && ring.size() == 0) {
+                    return;
+                } else {
+                    backOff(idle++);
+                }
+            }
+        } catch (Error e) {
+            failures.set(partition, e);
+        }
+    }
+
+    private void apply(byte type, String matchId, String playerName, Team team, MatchStatus status) {
+        try {
+            if (type == EventRing.GOAL) {
+                matchManager.scoreGoal(matchId, playerName, team);
+            } else {
+                matchManager.setMatchStatus(matchId, status);
+            }
+            applied.increment();
+        } catch (RuntimeException e) {
+            failed.increment();
+        } catch (Error e) {
+            failed.increment();
+            throw e;
+        }
+    }
+
+    private static void backOff(int attempt) {
+        if (attempt < SPIN_LIMIT) {
+            Thread.onSpinWait();
+        } else if (attempt < SPIN_LIMIT * 2) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+    }
+}
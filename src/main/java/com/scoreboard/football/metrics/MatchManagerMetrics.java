@@ -0,0 +1,130 @@
+package com.scoreboard.football.metrics;
+
+import com.scoreboard.football.common.MatchValidationException;
+import com.scoreboard.football.common.ValidationRule;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Call counts, latency histograms and failure counts for the operations of a
+ * {@link com.scoreboard.football.service.MatchManager}. Recording a call costs two
+ * {@link System#nanoTime()} reads and one atomic increment. Read it by pulling a snapshot with the
+ * getters below, or over JMX after {@link #registerMBean}.
+ */
+public class MatchManagerMetrics implements MatchManagerMetricsMXBean {
+    private static final MatchOperation[] OPERATIONS = MatchOperation.values();
+    private static final ValidationRule[] RULES = ValidationRule.values();
+
+    private final LatencyHistogram[] latencies = new LatencyHistogram[OPERATIONS.length];
+    private final AtomicLongArray failures = new AtomicLongArray(OPERATIONS.length);
+    private final AtomicLongArray validationFailures = new AtomicLongArray(RULES.length);
+    private final AtomicLong listenerFailures = new AtomicLong();
+
+    public MatchManagerMetrics() {
+        for (int i = 0; i < latencies.length; i++) {
+            latencies[i] = new LatencyHistogram();
+        }
+    }
+
+    public void recordLatency(MatchOperation operation, long startNanos) {
+        latencies[operation.ordinal()].record(System.nanoTime() - startNanos);
+    }
+
+    public void recordFailure(MatchOperation operation, RuntimeException failure) {
+        failures.getAndIncrement(operation.ordinal());
+        if (failure instanceof MatchValidationException) {
+            recordValidationFailure(((MatchValidationException) failure).getRule());
+        }
+    }
+
+    public void recordValidationFailure(ValidationRule rule) {
+        validationFailures.getAndIncrement(rule.ordinal());
+    }
+
+    /**
+     * Counts an exception thrown by a {@link com.scoreboard.football.service.MatchListener}, which the
+     * manager swallows so the change it was notified of still stands.
+     */
+    public void recordListenerFailure() {
+        listenerFailures.getAndIncrement();
+    }
+
+    public LatencySnapshot getLatency(MatchOperation operation) {
+        return latencies[operation.ordinal()].snapshot();
+    }
+
+    public long getCallCount(MatchOperation operation) {
+        return getLatency(operation).getCount();
+    }
+
+    public long getFailureCount(MatchOperation operation) {
+        return failures.get(operation.ordinal());
+    }
+
+    public long getValidationFailureCount(ValidationRule rule) {
+        return validationFailures.get(rule.ordinal());
+    }
+
+    @Override
+    public long getListenerFailures() {
+        return listenerFailures.get();
+    }
+
+    public Map<MatchOperation, LatencySnapshot> getLatencySnapshots() {
+        Map<MatchOperation, LatencySnapshot> snapshots = new EnumMap<>(MatchOperation.class);
+        for (MatchOperation operation : OPERATIONS) {
+            snapshots.put(operation, getLatency(operation));
+        }
+        return snapshots;
+    }
+
+    @Override
+    public Map<String, LatencySnapshot> getLatencies() {
+        Map<String, LatencySnapshot> snapshots = new LinkedHashMap<>();
+        getLatencySnapshots().forEach((operation, snapshot) -> snapshots.put(operation.name(), snapshot));
+        return snapshots;
+    }
+
+    @Override
+    public Map<String, Long> getFailures() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (MatchOperation operation : OPERATIONS) {
+            counts.put(operation.name(), getFailureCount(operation));
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<String, Long> getValidationFailures() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (ValidationRule rule : RULES) {
+            counts.put(rule.name(), getValidationFailureCount(rule));
+        }
+        return counts;
+    }
+
+    /**
+     * Registers these metrics with the platform MBean server as
+     * {@code com.scoreboard.football:type=MatchManager,name=<name>}.
+     */
+    public ObjectName registerMBean(String name) throws JMException {
+        ObjectName objectName = objectName(name);
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+        return objectName;
+    }
+
+    public void unregisterMBean(String name) throws JMException {
+        ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName(name));
+    }
+
+    private static ObjectName objectName(String name) throws JMException {
+        return new ObjectName("com.scoreboard.football:type=MatchManager,name=" + ObjectName.quote(name));
+    }
+}
@@ -0,0 +1,17 @@
+package com.scoreboard.football.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of {@link MatchManagerMetrics}, keyed by {@link MatchOperation} and
+ * {@link com.scoreboard.football.common.ValidationRule} names.
+ */
+public interface MatchManagerMetricsMXBean {
+    Map<String, LatencySnapshot> getLatencies();
+
+    Map<String, Long> getFailures();
+
+    Map<String, Long> getValidationFailures();
+
+    long getListenerFailures();
+}
@@ -0,0 +1,32 @@
+package com.scoreboard.football.metrics;
+
+public enum MatchOperation {
+    ADD_MATCH,
+    RESTORE_MATCH,
+    UPDATE_MATCH,
+    REMOVE_MATCH,
+    ARCHIVE_MATCH,
+    GET_ARCHIVED_MATCH,
+    SET_ARCHIVED_MATCH_STATUS,
+    REMOVE_ARCHIVED_MATCH,
+    RESTORE_ARCHIVED_MATCH,
+    FOR_EACH_ARCHIVED_MATCH,
+    GET_ARCHIVED_MATCH_COUNT,
+    GET_ALL_MATCHES,
+    GET_MATCH_COUNT,
+    FOR_EACH_MATCH,
+    GET_MATCH_DETAILS,
+    SET_MATCH_STATUS,
+    TRANSITION_MATCH_STATUS,
+    SCORE_GOAL,
+    SCORE_GOAL_BY_NUMBER,
+    SCORE_GOALS,
+    GET_PLAYERS_RANKING,
+    GET_TOP_SCORERS,
+    GET_PLAYER_DETAILS,
+    GET_PLAYER_MATCHES,
+    GET_ALL_PLAYERS,
+    GET_MATCH_START_TIME,
+    GET_MATCHES_BY_STATUS,
+    GET_MATCHES_BY_START_TIME
+}
@@ -1,17 +1,18 @@
 package com.scoreboard.football.modal;
 
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class Player {
-    private String name;
+    private volatile String name;
     private int number;
-    private int score;
+    private final AtomicInteger score;
 
     public Player(String name, int number) {
         validateNumber(number);
         this.name = name;
         this.number = number;
-        this.score = 0;
+        this.score = new AtomicInteger();
     }
 
     public String getName() {
@@ -27,14 +28,14 @@ public class Player {
     }
 
     public int getScore() {
-        return score;
+        return score.get();
     }
 
     public void increaseScore(int points) {
         if (points < 0) {
             throw new IllegalArgumentException("Points cannot be negative");
         }
-        score += points;
+        score.addAndGet(points);
     }
 
     @Override
@@ -51,7 +52,7 @@ public class Player {
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, number, score);
+        return Objects.hash(name, number, score.get());
     }
 
     @Override
@@ -59,7 +60,7 @@ public class Player {
         return "Player{" +
                 "name='" + name + '\'' +
                 ", number=" + number +
-                ", score=" + score +
+                ", score=" + score.get() +
                 '}';
     }
 
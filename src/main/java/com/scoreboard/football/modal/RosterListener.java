@@ -0,0 +1,7 @@
+package com.scoreboard.football.modal;
+
+public interface RosterListener {
+    void playerAdded(Team team, Player player);
+
+    void playerRemoved(Team team, Player player);
+}
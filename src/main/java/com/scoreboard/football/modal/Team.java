@@ -1,29 +1,34 @@
 package com.scoreboard.football.modal;
 
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class Team {
     private String name;
-    private List<Player> players;
-    private int score;
-    private Player goalKeeper;
-    private Player skipper;
+    private volatile Roster roster;
+    private final AtomicInteger score;
+    private volatile Player goalKeeper;
+    private volatile Player skipper;
+    private final List<RosterListener> rosterListeners;
 
     private static final int MAX_PLAYERS = 11;
 
     public Team(String name) {
         this.name = name;
-        this.players = new ArrayList<>();
-        this.score = 0;
+        this.roster = Roster.EMPTY;
+        this.score = new AtomicInteger();
+        this.rosterListeners = new CopyOnWriteArrayList<>();
     }
 
     public String getName() {
         return name;
     }
 
-    public boolean addPlayer(Player player) {
-        if (isFull() || players.contains(player) || !isPlayerNumberUnique(player)) {
+    public synchronized boolean addPlayer(Player player) {
+        if (isFull() || roster.indexOf(player) >= 0 || !isPlayerNumberUnique(player)) {
             return false;
         }
 
@@ -33,17 +38,33 @@ public class Team {
             skipper = player;
         }
 
-        players.add(player);
+        roster = roster.with(player);
         updateMustHaveGoalKeeperAndSkipperFlag();
+        rosterListeners.forEach(listener -> listener.playerAdded(this, player));
         return true;
     }
 
-    public boolean removePlayer(Player player) {
-        return players.remove(player);
+    public synchronized boolean removePlayer(Player player) {
+        int index = roster.indexOf(player);
+        if (index < 0) {
+            return false;
+        }
+        Player removed = roster.players[index];
+        roster = roster.without(index);
+        rosterListeners.forEach(listener -> listener.playerRemoved(this, removed));
+        return true;
+    }
+
+    public void addRosterListener(RosterListener listener) {
+        rosterListeners.add(listener);
+    }
+
+    public void removeRosterListener(RosterListener listener) {
+        rosterListeners.remove(listener);
     }
 
     public List<Player> getPlayers() {
-        return players;
+        return roster.playerList;
     }
 
     public Player getGoalKeeper() {
@@ -59,42 +80,185 @@ public class Team {
     }
 
     public int getScore() {
-        return score;
+        return score.get();
+    }
+
+    public void increaseScore(int points) {
+        score.addAndGet(points);
     }
 
-    public void increaseScore(int points, String playerName) {
-        score += points;
-        players.stream()
-                .filter(player -> player.getName().equals(playerName))
-                .findAny()
-                .ifPresent(player -> player.increaseScore(points));
+    public Player increaseScore(int points, String playerName) {
+        score.addAndGet(points);
+        Player scorer = roster.findByName(playerName);
+        if (scorer != null) {
+            scorer.increaseScore(points);
+        }
+        return scorer;
+    }
+
+    public Player increaseScore(int points, int playerNumber) {
+        score.addAndGet(points);
+        Player scorer = roster.findByNumber(playerNumber);
+        if (scorer != null) {
+            scorer.increaseScore(points);
+        }
+        return scorer;
+    }
+
+    public Player getPlayerByNumber(int playerNumber) {
+        return roster.findByNumber(playerNumber);
     }
 
     @Override
     public String toString() {
         return "Team{" +
                 "name='" + name + '\'' +
-                ", players=" + players +
+                ", players=" + roster.playerList +
                 ", goalKeeper=" + goalKeeper +
                 ", skipper=" + skipper +
-                ", score=" + score +
+                ", score=" + score.get() +
                 ", mustHaveGoalKeeperAndSkipper=" + mustHaveGoalKeeperAndSkipper() +
                 '}';
     }
 
     private boolean isFull() {
-        return players.size() >= MAX_PLAYERS;
+        return roster.players.length >= MAX_PLAYERS;
     }
 
     private boolean isPlayerNumberUnique(Player player) {
-        return players.stream()
-                .noneMatch(existingPlayer -> existingPlayer.getNumber() == player.getNumber());
+        return !roster.hasNumber(player.getNumber());
     }
 
     private void updateMustHaveGoalKeeperAndSkipperFlag() {
         if (goalKeeper != null && skipper != null) {
             goalKeeper.setName("Goli");
             skipper.setName("Skipper");
+            roster = roster.renamed();
+        }
+    }
+
+    /**
+     * Immutable roster kept as parallel arrays, replaced as a whole on every change so readers need no
+     * lock. Scoring and roster checks scan the primitive and name arrays instead of streaming over
+     * player objects, and jersey numbers in use up to {@link #MAX_INDEXED_NUMBER} are a bit set. Names are the players' own string
+     * instances; a player renamed behind the team's back is caught by the identity check in
+     * {@link #findByName} and found by a fallback scan. Players are also indexed directly by jersey
+     * number up to {@link #MAX_INDEXED_NUMBER}, which covers real squads; higher numbers are scanned.
+     */
+    private static final class Roster {
+        private static final Roster EMPTY = new Roster(new Player[0], new int[0], new String[0], new BitSet());
+        private static final int MAX_INDEXED_NUMBER = 255;
+
+        private final Player[] players;
+        private final int[] numbers;
+        private final String[] names;
+        private final BitSet jerseyNumbers;
+        private final Player[] playersByNumber;
+        private final List<Player> playerList;
+
+        private Roster(Player[] players, int[] numbers, String[] names, BitSet jerseyNumbers) {
+            this.players = players;
+            this.numbers = numbers;
+            this.names = names;
+            this.jerseyNumbers = jerseyNumbers;
+            this.playersByNumber = new Player[Math.min(jerseyNumbers.length(), MAX_INDEXED_NUMBER + 1)];
+            for (int i = 0; i < players.length; i++) {
+                if (numbers[i] <= MAX_INDEXED_NUMBER) {
+                    playersByNumber[numbers[i]] = players[i];
+                }
+            }
+            this.playerList = List.of(players);
+        }
+
+        private Roster with(Player player) {
+            int size = players.length;
+            Player[] newPlayers = Arrays.copyOf(players, size + 1);
+            int[] newNumbers = Arrays.copyOf(numbers, size + 1);
+            String[] newNames = Arrays.copyOf(names, size + 1);
+            newPlayers[size] = player;
+            newNumbers[size] = player.getNumber();
+            newNames[size] = player.getName();
+            BitSet newJerseyNumbers = jerseyNumbers;
+            if (player.getNumber() <= MAX_INDEXED_NUMBER) {
+                newJerseyNumbers = (BitSet) jerseyNumbers.clone();
+                newJerseyNumbers.set(player.getNumber());
+            }
+            return new Roster(newPlayers, newNumbers, newNames, newJerseyNumbers);
+        }
+
+        private Roster without(int index) {
+            int size = players.length;
+            Player[] newPlayers = new Player[size - 1];
+            int[] newNumbers = new int[size - 1];
+            String[] newNames = new String[size - 1];
+            System.arraycopy(players, 0, newPlayers, 0, index);
+            System.arraycopy(players, index + 1, newPlayers, index, size - index - 1);
+            System.arraycopy(numbers, 0, newNumbers, 0, index);
+            System.arraycopy(numbers, index + 1, newNumbers, index, size - index - 1);
+            System.arraycopy(names, 0, newNames, 0, index);
+            System.arraycopy(names, index + 1, newNames, index, size - index - 1);
+            BitSet newJerseyNumbers = jerseyNumbers;
+            if (numbers[index] <= MAX_INDEXED_NUMBER) {
+                newJerseyNumbers = (BitSet) jerseyNumbers.clone();
+                newJerseyNumbers.clear(numbers[index]);
+            }
+            return new Roster(newPlayers, newNumbers, newNames, newJerseyNumbers);
+        }
+
+        private Roster renamed() {
+            String[] newNames = new String[players.length];
+            for (int i = 0; i < players.length; i++) {
+                newNames[i] = players[i].getName();
+            }
+            return new Roster(players, numbers, newNames, jerseyNumbers);
+        }
+
+        private int indexOf(Player player) {
+            for (int i = 0; i < players.length; i++) {
+                if (players[i].equals(player)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private boolean hasNumber(int playerNumber) {
+            if (playerNumber <= MAX_INDEXED_NUMBER) {
+                return jerseyNumbers.get(playerNumber);
+            }
+            for (int number : numbers) {
+                if (number == playerNumber) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private Player findByNumber(int playerNumber) {
+            if (playerNumber <= MAX_INDEXED_NUMBER) {
+                return playerNumber >= 0 && playerNumber < playersByNumber.length ? playersByNumber[playerNumber] : null;
+            }
+            for (int i = 0; i < numbers.length; i++) {
+                if (numbers[i] == playerNumber) {
+                    return players[i];
+                }
+            }
+            return null;
+        }
+
+        private Player findByName(String playerName) {
+            for (int i = 0; i < names.length; i++) {
+                String name = names[i];
+                if (name.equals(playerName) && players[i].getName() == name) {
+                    return players[i];
+                }
+            }
+            for (Player player : players) {
+                if (player.getName().equals(playerName)) {
+                    return player;
+                }
+            }
+            return null;
         }
     }
 }
@@ -0,0 +1,157 @@
+package com.scoreboard.football.persistence;
+
+import com.scoreboard.football.FootballMatch;
+import com.scoreboard.football.common.MatchStatus;
+import com.scoreboard.football.modal.Player;
+import com.scoreboard.football.modal.Team;
+import com.scoreboard.football.service.ArchivedMatch;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Field encodings shared by the goal log and snapshot files. Strings are written as an unsigned
+ * short byte length followed by UTF-8, with a length of 0xFFFF standing for {@code null}; start
+ * times are UTC epoch seconds plus nanoseconds.
+ */
+final class BinaryFormat {
+    private static final int NULL_STRING = 0xFFFF;
+
+    private BinaryFormat() {
+    }
+
+    static void putString(ByteBuffer buffer, String value) {
+        if (value == null) {
+            buffer.putShort((short) NULL_STRING);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length >= NULL_STRING) {
+            throw new IllegalArgumentException("String too long to encode: " + bytes.length + " bytes");
+        }
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+
+    static String getString(ByteBuffer buffer) {
+        int length = Short.toUnsignedInt(buffer.getShort());
+        if (length == NULL_STRING) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static void putPlayer(ByteBuffer buffer, Player player) {
+        putString(buffer, player.getName());
+        buffer.putInt(player.getNumber());
+        buffer.putInt(player.getScore());
+    }
+
+    static Player getPlayer(ByteBuffer buffer) {
+        Player player = new Player(getString(buffer), buffer.getInt());
+        int score = buffer.getInt();
+        if (score > 0) {
+            player.increaseScore(score);
+        }
+        return player;
+    }
+
+    static void putTeam(ByteBuffer buffer, Team team) {
+        List<Player> players = team.getPlayers();
+        putString(buffer, team.getName());
+        buffer.putInt(team.getScore());
+        buffer.putShort((short) players.size());
+        for (Player player : players) {
+            putPlayer(buffer, player);
+        }
+    }
+
+    static Team getTeam(ByteBuffer buffer) {
+        Team team = new Team(getString(buffer));
+        int score = buffer.getInt();
+        int playerCount = buffer.getShort();
+        for (int i = 0; i < playerCount; i++) {
+            team.addPlayer(getPlayer(buffer));
+        }
+        team.increaseScore(score);
+        return team;
+    }
+
+    static void putMatch(ByteBuffer buffer, FootballMatch match) {
+        putString(buffer, match.getMatchId());
+        putString(buffer, match.getMatchTitle());
+        putStartTime(buffer, match.getStartTime());
+        buffer.put((byte) match.getMatchStatus().ordinal());
+        putPlayer(buffer, match.getReferee());
+        putTeam(buffer, match.getTeamOne());
+        putTeam(buffer, match.getTeamTwo());
+    }
+
+    static FootballMatch getMatch(ByteBuffer buffer) {
+        return new FootballMatch.Builder()
+                .matchId(getString(buffer))
+                .matchTitle(getString(buffer))
+                .startTime(getStartTime(buffer))
+                .matchStatus(getStatus(buffer))
+                .referee(getPlayer(buffer))
+                .teamOne(getTeam(buffer))
+                .teamTwo(getTeam(buffer))
+                .build();
+    }
+
+    static void putArchivedMatch(ByteBuffer buffer, ArchivedMatch match) {
+        putString(buffer, match.getMatchId());
+        buffer.put((byte) match.getMatchStatus().ordinal());
+        buffer.putInt(match.getTeamOneScore());
+        putPlayerScores(buffer, match.getTeamOnePlayerScores());
+        buffer.putInt(match.getTeamTwoScore());
+        putPlayerScores(buffer, match.getTeamTwoPlayerScores());
+    }
+
+    static ArchivedMatch getArchivedMatch(ByteBuffer buffer) {
+        String matchId = getString(buffer);
+        MatchStatus status = getStatus(buffer);
+        int teamOneScore = buffer.getInt();
+        Map<Integer, Integer> teamOnePlayerScores = getPlayerScores(buffer);
+        int teamTwoScore = buffer.getInt();
+        return new ArchivedMatch(matchId, status, teamOneScore, teamOnePlayerScores, teamTwoScore, getPlayerScores(buffer));
+    }
+
+    static MatchStatus getStatus(ByteBuffer buffer) {
+        return MatchStatus.values()[buffer.get()];
+    }
+
+    private static void putPlayerScores(ByteBuffer buffer, Map<Integer, Integer> playerScores) {
+        buffer.putShort((short) playerScores.size());
+        playerScores.forEach((number, score) -> {
+            buffer.putInt(number);
+            buffer.putInt(score);
+        });
+    }
+
+    private static Map<Integer, Integer> getPlayerScores(ByteBuffer buffer) {
+        int playerCount = buffer.getShort();
+        Map<Integer, Integer> playerScores = new LinkedHashMap<>();
+        for (int i = 0; i < playerCount; i++) {
+            playerScores.put(buffer.getInt(), buffer.getInt());
+        }
+        return playerScores;
+    }
+
+    private static void putStartTime(ByteBuffer buffer, LocalDateTime startTime) {
+        buffer.putLong(startTime.toEpochSecond(ZoneOffset.UTC));
+        buffer.putInt(startTime.getNano());
+    }
+
+    private static LocalDateTime getStartTime(ByteBuffer buffer) {
+        long epochSecond = buffer.getLong();
+        return LocalDateTime.ofEpochSecond(epochSecond, buffer.getInt(), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,348 @@
+package com.scoreboard.football.persistence;
+
+import com.scoreboard.football.service.MatchListener;
+import com.scoreboard.football.service.MatchManager;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only write-ahead log of the changes applied through a {@link MatchManager}. Register it as a
+ * {@link MatchListener} and every match lifecycle event, roster change, status change and goal is
+ * appended as a checksummed record.
+ * <p>
+ * Appending only copies the encoded record into an in-memory buffer. A single flusher thread swaps
+ * that buffer out, writes it to the file channel and forces it to disk, so every record that arrived
+ * while the previous fsync was running shares the next one (group commit). Callers that need a
+ * durability guarantee call {@link #sync()}, which waits until everything appended so far is on disk.
+ * <p>
+ * A listener cannot undo the change it is told about, so a failed log does not stop scoring. Instead
+ * the first failure is latched: a write error, or a change arriving after {@link #close()}. From then
+ * on every record is dropped, each drop surfaces as a listener failure in the manager's metrics, and
+ * {@link #sync()} throws the failure, which {@link #getFailure()} also exposes. Callers that treat the
+ * log as a write-ahead log must sync, or poll the failure, before acknowledging a change.
+ * <p>
+ * Record layout: {@code int length, byte type, payload, int crc32c(type + payload)}.
+ */
+public class GoalLog extends MatchRecordWriter implements Closeable {
+    private static final int HEADER_BYTES = Integer.BYTES;
+    private static final int TRAILER_BYTES = Integer.BYTES;
+    private static final int DEFAULT_BUFFER_BYTES = 1 << 20;
+    private static final int MAX_RECORD_BYTES = 1 << 16;
+
+    private static final ThreadLocal<ByteBuffer> SCRATCH =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocate(MAX_RECORD_BYTES));
+
+    private final FileChannel channel;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final Condition flushed = lock.newCondition();
+    private final Thread flusher;
+
+    private ByteBuffer active;
+    private ByteBuffer spare;
+    private long appendedSequence;
+    private long durableSequence;
+    private boolean closed;
+    private IOException failure;
+
+    public GoalLog(Path path) throws IOException {
+        this(path, DEFAULT_BUFFER_BYTES);
+    }
+
+    public GoalLog(Path path, int bufferBytes) throws IOException {
+        if (bufferBytes < MAX_RECORD_BYTES) {
+            throw new IllegalArgumentException("Buffer must hold at least " + MAX_RECORD_BYTES + " bytes");
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        // A crash can leave a partially written record at the tail; cut it off before appending.
+        long validLength = scan(channel, 0, null);
+        channel.truncate(validLength);
+        channel.position(validLength);
+        this.active = ByteBuffer.allocateDirect(bufferBytes);
+        this.spare = ByteBuffer.allocateDirect(bufferBytes);
+        this.flusher = new Thread(this::flushLoop, "goal-log-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * Blocks until every record appended before this call has been forced to disk.
+     */
+    public void sync() throws IOException {
+        lock.lock();
+        try {
+            long target = appendedSequence;
+            while (durableSequence < target && failure == null) {
+                notEmpty.signal();
+                flushed.awaitUninterruptibly();
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the failure that stopped logging, or {@code null} while every change is being logged.
+     */
+    public IOException getFailure() {
+        lock.lock();
+        try {
+            return failure;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getAppendedSequence() {
+        lock.lock();
+        try {
+            return appendedSequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getDurableSequence() {
+        lock.lock();
+        try {
+            return durableSequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        channel.close();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Builds a new {@link MatchManager} from the records in the log at {@code path}.
+     */
+    public static MatchManager replay(Path path) throws IOException {
+        MatchManager matchManager = new MatchManager();
+        replay(path, matchManager);
+        return matchManager;
+    }
+
+    /**
+     * Applies the records in the log at {@code path} to {@code matchManager}, in order. Replay stops at
+     * the first incomplete or corrupt record, which can only be the tail written during a crash.
+     */
+    public static void replay(Path path, MatchManager matchManager) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            scan(channel, 0, new LogReplayer(matchManager));
+        }
+    }
+
+    /**
+     * Rolls the snapshot at {@code snapshotFile} forward to the end of the log at {@code logFile} and
+     * returns the log position it now covers. The snapshot is rebuilt from the previous checkpoint and
+     * the records after it rather than from the live manager, so it holds exactly the records before
+     * that position. It is safe to run while the log is being appended to.
+     */
+    public static long checkpoint(Path logFile, Path snapshotFile) throws IOException {
+        MatchManager matchManager = new MatchManager();
+        long position = Files.exists(snapshotFile) ? loadCheckpoint(snapshotFile, matchManager) : 0;
+        try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.READ)) {
+            checkPosition(channel, position, logFile);
+            position = scan(channel, position, new LogReplayer(matchManager));
+            // The records read may still be in the page cache; a crash must not lose them once covered.
+            channel.force(false);
+        }
+        MatchSnapshot.write(matchManager, snapshotFile, position);
+        return position;
+    }
+
+    /**
+     * Builds a new {@link MatchManager} from the checkpoint at {@code snapshotFile}, if there is one,
+     * and the records of the log at {@code logFile} that came after it.
+     */
+    public static MatchManager recover(Path snapshotFile, Path logFile) throws IOException {
+        MatchManager matchManager = new MatchManager();
+        long position = Files.exists(snapshotFile) ? loadCheckpoint(snapshotFile, matchManager) : 0;
+        try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.READ)) {
+            checkPosition(channel, position, logFile);
+            scan(channel, position, new LogReplayer(matchManager));
+        }
+        return matchManager;
+    }
+
+    private static long loadCheckpoint(Path snapshotFile, MatchManager matchManager) throws IOException {
+        long position = MatchSnapshot.load(snapshotFile, matchManager);
+        if (position < 0) {
+            throw new IOException("Snapshot was not taken from a goal log: " + snapshotFile);
+        }
+        return position;
+    }
+
+    private static void checkPosition(FileChannel channel, long position, Path logFile) throws IOException {
+        if (position > channel.size()) {
+            throw new IOException("Goal log " + logFile + " is shorter than its checkpoint at " + position);
+        }
+    }
+
+    @Override
+    ByteBuffer begin(byte type) {
+        ByteBuffer record = SCRATCH.get();
+        record.clear();
+        record.position(HEADER_BYTES);
+        record.put(type);
+        return record;
+    }
+
+    @Override
+    void append(ByteBuffer record) {
+        int length = record.position() - HEADER_BYTES;
+        CRC32C crc = new CRC32C();
+        crc.update(record.array(), HEADER_BYTES, length);
+        record.putInt((int) crc.getValue());
+        record.putInt(0, length);
+        record.flip();
+
+        lock.lock();
+        try {
+            while (active.remaining() < record.remaining() && failure == null && !closed) {
+                notFull.awaitUninterruptibly();
+            }
+            if (closed && failure == null) {
+                failure = new IOException("Goal log closed while matches were still changing");
+            }
+            if (failure != null) {
+                throw new UncheckedIOException("Goal log failed; change not logged", failure);
+            }
+            active.put(record);
+            appendedSequence++;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void flushLoop() {
+        while (true) {
+            ByteBuffer batch;
+            long batchSequence;
+            lock.lock();
+            try {
+                while (active.position() == 0 && !closed) {
+                    notEmpty.awaitUninterruptibly();
+                }
+                if (active.position() == 0) {
+                    return;
+                }
+                batch = active;
+                active = spare;
+                batchSequence = appendedSequence;
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+
+            IOException error = null;
+            try {
+                batch.flip();
+                while (batch.hasRemaining()) {
+                    channel.write(batch);
+                }
+                channel.force(false);
+            } catch (IOException e) {
+                error = e;
+            }
+            batch.clear();
+
+            lock.lock();
+            try {
+                spare = batch;
+                if (error != null) {
+                    failure = error;
+                    notFull.signalAll();
+                    flushed.signalAll();
+                    return;
+                }
+                durableSequence = batchSequence;
+                flushed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Walks the records of {@code channel} from {@code position}, which must be a record boundary,
+     * handing each intact one to {@code replayer} when it is not {@code null}, and returns the end of the
+     * valid prefix.
+     */
+    private static long scan(FileChannel channel, long position, LogReplayer replayer) throws IOException {
+        long size = channel.size();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        ByteBuffer body = ByteBuffer.allocate(MAX_RECORD_BYTES + TRAILER_BYTES);
+        while (position + HEADER_BYTES <= size) {
+            header.clear();
+            readFully(channel, header, position);
+            int length = header.getInt(0);
+            if (length <= 0 || length > MAX_RECORD_BYTES || position + HEADER_BYTES + length + TRAILER_BYTES > size) {
+                break;
+            }
+            body.clear().limit(length + TRAILER_BYTES);
+            readFully(channel, body, position + HEADER_BYTES);
+            CRC32C crc = new CRC32C();
+            crc.update(body.array(), 0, length);
+            if (body.getInt(length) != (int) crc.getValue()) {
+                break;
+            }
+            if (replayer != null) {
+                body.position(0).limit(length);
+                try {
+                    replayer.apply(body);
+                } catch (BufferUnderflowException e) {
+                    break;
+                }
+            }
+            position += HEADER_BYTES + length + TRAILER_BYTES;
+        }
+        return position;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new IOException("Unexpected end of goal log");
+            }
+        }
+    }
+}
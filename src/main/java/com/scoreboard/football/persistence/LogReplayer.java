@@ -0,0 +1,84 @@
+package com.scoreboard.football.persistence;
+
+import com.scoreboard.football.FootballMatch;
+import com.scoreboard.football.modal.Team;
+import com.scoreboard.football.service.MatchManager;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Applies decoded {@link GoalLog} records to a {@link MatchManager}. Added matches are registered with
+ * {@link MatchManager#restoreMatch}, since they were validated when first added. Records that reference
+ * a match the manager no longer holds are skipped: a goal can be logged just after the match was removed
+ * by another thread, and replay has to tolerate that ordering. A record naming a team the match does not
+ * have means the log does not belong to this state, and fails with {@link IllegalStateException}.
+ */
+class LogReplayer {
+    private final MatchManager matchManager;
+
+    LogReplayer(MatchManager matchManager) {
+        this.matchManager = matchManager;
+    }
+
+    void apply(ByteBuffer record) {
+        byte type = record.get();
+        String matchId = BinaryFormat.getString(record);
+        if (type == MatchRecordWriter.MATCH_ADDED) {
+            FootballMatch match = BinaryFormat.getMatch(record);
+            if (!matchManager.hasMatch(matchId)) {
+                matchManager.restoreMatch(matchId, match);
+            }
+            return;
+        }
+        if (type == MatchRecordWriter.ARCHIVED_MATCH_REMOVED) {
+            if (matchManager.hasArchivedMatch(matchId)) {
+                matchManager.removeArchivedMatch(matchId);
+            }
+            return;
+        }
+        if (!matchManager.hasMatch(matchId)) {
+            return;
+        }
+        FootballMatch match = matchManager.getMatchDetails(matchId);
+        switch (type) {
+            case MatchRecordWriter.MATCH_UPDATED:
+                matchManager.updateMatch(matchId, BinaryFormat.getMatch(record));
+                break;
+            case MatchRecordWriter.MATCH_REMOVED:
+                matchManager.removeMatch(matchId);
+                break;
+            case MatchRecordWriter.MATCH_ARCHIVED:
+                matchManager.archiveMatch(matchId);
+                break;
+            case MatchRecordWriter.STATUS_CHANGED:
+                match.setMatchStatus(BinaryFormat.getStatus(record));
+                break;
+            case MatchRecordWriter.GOAL_SCORED:
+                Team team = findTeam(matchId, match, BinaryFormat.getString(record));
+                String scorerName = BinaryFormat.getString(record);
+                int points = record.getInt();
+                for (int i = 0; i < points; i++) {
+                    matchManager.scoreGoal(matchId, scorerName == null ? "" : scorerName, team);
+                }
+                break;
+            case MatchRecordWriter.PLAYER_ADDED:
+                findTeam(matchId, match, BinaryFormat.getString(record)).addPlayer(BinaryFormat.getPlayer(record));
+                break;
+            case MatchRecordWriter.PLAYER_REMOVED:
+                findTeam(matchId, match, BinaryFormat.getString(record)).removePlayer(BinaryFormat.getPlayer(record));
+                break;
+            default:
+                throw new IllegalStateException("Unknown goal log record type: " + type);
+        }
+    }
+
+    private static Team findTeam(String matchId, FootballMatch match, String teamName) {
+        if (match.getTeamOne().getName().equals(teamName)) {
+            return match.getTeamOne();
+        }
+        if (match.getTeamTwo().getName().equals(teamName)) {
+            return match.getTeamTwo();
+        }
+        throw new IllegalStateException("Goal log record names team " + teamName + ", which is not in match " + matchId);
+    }
+}
@@ -0,0 +1,104 @@
+package com.scoreboard.football.persistence;
+
+import com.scoreboard.football.FootballMatch;
+import com.scoreboard.football.common.MatchStatus;
+import com.scoreboard.football.modal.Player;
+import com.scoreboard.football.modal.Team;
+import com.scoreboard.football.service.MatchListener;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes every {@link MatchListener} event as a record that {@link LogReplayer} can apply. Subclasses
+ * decide how a record is framed and where it goes: {@link #begin} returns a buffer positioned after
+ * the frame header with the record type already written, and {@link #append} receives it once the
+ * payload is complete.
+ */
+abstract class MatchRecordWriter implements MatchListener {
+    static final byte MATCH_ADDED = 1;
+    static final byte MATCH_REMOVED = 2;
+    static final byte STATUS_CHANGED = 3;
+    static final byte GOAL_SCORED = 4;
+    static final byte PLAYER_ADDED = 5;
+    static final byte PLAYER_REMOVED = 6;
+    static final byte MATCH_UPDATED = 7;
+    static final byte MATCH_ARCHIVED = 8;
+    static final byte ARCHIVED_MATCH_REMOVED = 9;
+
+    @Override
+    public void matchAdded(String matchId, FootballMatch match) {
+        ByteBuffer record = begin(MATCH_ADDED);
+        BinaryFormat.putString(record, matchId);
+        BinaryFormat.putMatch(record, match);
+        append(record);
+    }
+
+    @Override
+    public void matchRemoved(String matchId, FootballMatch match) {
+        ByteBuffer record = begin(MATCH_REMOVED);
+        BinaryFormat.putString(record, matchId);
+        append(record);
+    }
+
+    @Override
+    public void matchArchived(String matchId, FootballMatch match) {
+        ByteBuffer record = begin(MATCH_ARCHIVED);
+        BinaryFormat.putString(record, matchId);
+        append(record);
+    }
+
+    @Override
+    public void archivedMatchRemoved(String matchId) {
+        ByteBuffer record = begin(ARCHIVED_MATCH_REMOVED);
+        BinaryFormat.putString(record, matchId);
+        append(record);
+    }
+
+    @Override
+    public void matchUpdated(String matchId, FootballMatch previousMatch, FootballMatch match) {
+        ByteBuffer record = begin(MATCH_UPDATED);
+        BinaryFormat.putString(record, matchId);
+        BinaryFormat.putMatch(record, match);
+        append(record);
+    }
+
+    @Override
+    public void matchStatusChanged(String matchId, FootballMatch match, MatchStatus previousStatus, MatchStatus newStatus) {
+        ByteBuffer record = begin(STATUS_CHANGED);
+        BinaryFormat.putString(record, matchId);
+        record.put((byte) newStatus.ordinal());
+        append(record);
+    }
+
+    @Override
+    public void goalScored(String matchId, Team team, Player scorer, int points) {
+        ByteBuffer record = begin(GOAL_SCORED);
+        BinaryFormat.putString(record, matchId);
+        BinaryFormat.putString(record, team.getName());
+        BinaryFormat.putString(record, scorer == null ? null : scorer.getName());
+        record.putInt(points);
+        append(record);
+    }
+
+    @Override
+    public void playerAdded(String matchId, Team team, Player player) {
+        ByteBuffer record = begin(PLAYER_ADDED);
+        BinaryFormat.putString(record, matchId);
+        BinaryFormat.putString(record, team.getName());
+        BinaryFormat.putPlayer(record, player);
+        append(record);
+    }
+
+    @Override
+    public void playerRemoved(String matchId, Team team, Player player) {
+        ByteBuffer record = begin(PLAYER_REMOVED);
+        BinaryFormat.putString(record, matchId);
+        BinaryFormat.putString(record, team.getName());
+        BinaryFormat.putPlayer(record, player);
+        append(record);
+    }
+
+    abstract ByteBuffer begin(byte type);
+
+    abstract void append(ByteBuffer record);
+}
@@ -0,0 +1,188 @@
+package com.scoreboard.football.persistence;
+
+import com.scoreboard.football.service.MatchManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * Compact binary image of every match held by a {@link MatchManager}: match identity, title, start
+ * time, status, referee and both rosters with team and player scores, followed by the status and
+ * team and player scores of every archived match.
+ * <p>
+ * {@link #write} walks the live registry without blocking writers, so scoring continues while the
+ * snapshot is taken; each match is captured as it was when it was visited. The file is written to a
+ * temporary sibling and moved into place, so a crash never leaves a half-written snapshot behind.
+ * {@link #load} memory-maps the file and decodes matches straight out of the mapping.
+ * <p>
+ * A snapshot of a live manager is fuzzy: goals scored while it was written may or may not be in it, so
+ * it cannot be combined with a {@link GoalLog} and its log position is {@code -1}. A snapshot written by
+ * {@link GoalLog#checkpoint} is built from the log itself and records the log position it covers, so
+ * {@link GoalLog#recover} can replay just the records after it.
+ * <p>
+ * Layout: {@code int magic, short version, long logPosition, records..., int recordCount, int crc32c(records)}, where
+ * each record is {@code int length, byte kind, string matchId, match} for a live match or
+ * {@code int length, byte kind, archivedMatch} for an archived one.
+ */
+public final class MatchSnapshot {
+    static final int MAGIC = 0x4642534E;
+    static final short VERSION = 3;
+
+    private static final byte LIVE_MATCH = 0;
+    private static final byte ARCHIVED_MATCH = 1;
+
+    private static final int HEADER_BYTES = Integer.BYTES + Short.BYTES + Long.BYTES;
+    private static final int FOOTER_BYTES = Integer.BYTES + Integer.BYTES;
+    private static final int MAX_RECORD_BYTES = 1 << 16;
+    private static final int BUFFER_BYTES = 1 << 20;
+
+    private MatchSnapshot() {
+    }
+
+    public static void write(MatchManager matchManager, Path path) throws IOException {
+        write(matchManager, path, -1);
+    }
+
+    static void write(MatchManager matchManager, Path path, long logPosition) throws IOException {
+        Path tempFile = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tempFile,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            SnapshotWriter writer = new SnapshotWriter(channel, logPosition);
+            try {
+                matchManager.forEachMatch((matchId, match) -> {
+                    ByteBuffer buffer = writer.reserve();
+                    int start = buffer.position();
+                    buffer.putInt(0);
+                    buffer.put(LIVE_MATCH);
+                    BinaryFormat.putString(buffer, matchId);
+                    BinaryFormat.putMatch(buffer, match);
+                    buffer.putInt(start, buffer.position() - start - Integer.BYTES);
+                    writer.recordWritten(start);
+                });
+                matchManager.forEachArchivedMatch(match -> {
+                    ByteBuffer buffer = writer.reserve();
+                    int start = buffer.position();
+                    buffer.putInt(0);
+                    buffer.put(ARCHIVED_MATCH);
+                    BinaryFormat.putArchivedMatch(buffer, match);
+                    buffer.putInt(start, buffer.position() - start - Integer.BYTES);
+                    writer.recordWritten(start);
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            writer.finish();
+            channel.force(true);
+        }
+        Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static MatchManager load(Path path) throws IOException {
+        MatchManager matchManager = new MatchManager();
+        load(path, matchManager);
+        return matchManager;
+    }
+
+    /**
+     * Restores every match in the snapshot at {@code path} into {@code matchManager} and returns the
+     * goal log position the snapshot covers, or {@code -1} if it was not taken from a goal log.
+     */
+    public static long load(Path path, MatchManager matchManager) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES + FOOTER_BYTES || size > Integer.MAX_VALUE) {
+                throw new IOException("Invalid snapshot size: " + size);
+            }
+            MappedByteBuffer mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (mapping.getInt(0) != MAGIC) {
+                throw new IOException("Not a match snapshot: " + path);
+            }
+            if (mapping.getShort(Integer.BYTES) != VERSION) {
+                throw new IOException("Unsupported snapshot version: " + mapping.getShort(Integer.BYTES));
+            }
+            int recordsEnd = (int) size - FOOTER_BYTES;
+            int recordCount = mapping.getInt(recordsEnd);
+            int checksum = mapping.getInt(recordsEnd + Integer.BYTES);
+            ByteBuffer records = mapping.slice(HEADER_BYTES, recordsEnd - HEADER_BYTES);
+            CRC32C crc = new CRC32C();
+            crc.update(records.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                throw new IOException("Snapshot checksum mismatch: " + path);
+            }
+            for (int i = 0; i < recordCount; i++) {
+                int length = records.getInt();
+                ByteBuffer record = records.slice(records.position(), length);
+                records.position(records.position() + length);
+                if (record.get() == ARCHIVED_MATCH) {
+                    matchManager.restoreArchivedMatch(BinaryFormat.getArchivedMatch(record));
+                } else {
+                    matchManager.restoreMatch(BinaryFormat.getString(record), BinaryFormat.getMatch(record));
+                }
+            }
+            return mapping.getLong(Integer.BYTES + Short.BYTES);
+        }
+    }
+
+    /**
+     * Buffers encoded records and drains them to the channel in large sequential writes, keeping the
+     * running checksum and record count for the footer.
+     */
+    private static final class SnapshotWriter {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+        private final CRC32C crc = new CRC32C();
+        private int recordCount;
+
+        private SnapshotWriter(FileChannel channel, long logPosition) {
+            this.channel = channel;
+            buffer.putInt(MAGIC);
+            buffer.putShort(VERSION);
+            buffer.putLong(logPosition);
+        }
+
+        private ByteBuffer reserve() {
+            if (buffer.remaining() < MAX_RECORD_BYTES) {
+                drain();
+            }
+            return buffer;
+        }
+
+        private void recordWritten(int start) {
+            ByteBuffer record = buffer.duplicate();
+            record.position(start).limit(buffer.position());
+            crc.update(record);
+            recordCount++;
+        }
+
+        private void finish() throws IOException {
+            try {
+                reserve();
+                buffer.putInt(recordCount);
+                buffer.putInt((int) crc.getValue());
+                drain();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+
+        private void drain() {
+            buffer.flip();
+            try {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            buffer.clear();
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.scoreboard.football.persistence;
+
+import com.scoreboard.football.service.MatchManager;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ReadableByteChannel;
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32C;
+
+/**
+ * Read replica of a leader {@link MatchManager}. A single applier thread reads the stream written by
+ * a {@link ReplicationLeader} from a blocking channel and applies each mutation, in the leader's
+ * order, to a {@link MatchManager} of its own. Read traffic such as {@code getMatchDetails} and
+ * {@code getPlayersRanking} can be served from {@link #getMatchManager()}; writes must go to the
+ * leader, or the replica diverges.
+ * <p>
+ * Replication lag is reported two ways. {@link #getLag()} is the number of records the leader has
+ * announced but the follower not yet applied; the leader announces each batch before sending it, so
+ * records still in the channel count, but records still buffered on the leader do not.
+ * {@link #getLagMillis()} is how stale the replica is: every record, and every heartbeat the replica
+ * has caught up with, is stamped with the leader's time, so after applying one the replica reflects
+ * the leader as of that time, and the lag is the time elapsed since. It relies on the clocks of the
+ * two sides agreeing, and while the leader is idle it grows up to the heartbeat interval between
+ * heartbeats.
+ * <p>
+ * Applying stops at the end of the stream or at the first corrupt or out-of-order frame; the
+ * replica keeps the state it had reached.
+ */
+public class ReplicationFollower implements Closeable {
+    private final ReadableByteChannel channel;
+    private final MatchManager matchManager;
+    private final LogReplayer replayer;
+    private final Clock clock;
+    private final Thread applier;
+
+    private long leaderSequence;
+    private long appliedSequence;
+    private long appliedTimestampMillis;
+    private boolean stopped;
+    private IOException failure;
+
+    public ReplicationFollower(ReadableByteChannel channel) {
+        this(channel, new MatchManager());
+    }
+
+    public ReplicationFollower(ReadableByteChannel channel, MatchManager matchManager) {
+        this(channel, matchManager, Clock.systemUTC());
+    }
+
+    ReplicationFollower(ReadableByteChannel channel, MatchManager matchManager, Clock clock) {
+        this.channel = channel;
+        this.matchManager = matchManager;
+        this.replayer = new LogReplayer(matchManager);
+        this.clock = clock;
+        this.appliedTimestampMillis = clock.millis();
+        this.applier = new Thread(this::applyLoop, "replication-applier");
+        this.applier.setDaemon(true);
+        this.applier.start();
+    }
+
+    public MatchManager getMatchManager() {
+        return matchManager;
+    }
+
+    public synchronized long getLeaderSequence() {
+        return leaderSequence;
+    }
+
+    public synchronized long getAppliedSequence() {
+        return appliedSequence;
+    }
+
+    public synchronized long getLag() {
+        return leaderSequence - appliedSequence;
+    }
+
+    public synchronized long getLagMillis() {
+        return Math.max(0, clock.millis() - appliedTimestampMillis);
+    }
+
+    /**
+     * Returns {@code false} while the stream is still being applied.
+     */
+    public synchronized boolean isStopped() {
+        return stopped;
+    }
+
+    /**
+     * Returns the error that stopped the stream, or {@code null} if it is running or ended cleanly.
+     */
+    public synchronized IOException getFailure() {
+        return failure;
+    }
+
+    /**
+     * Waits until the record with {@code sequence} has been applied. Returns {@code false} if the
+     * timeout elapsed or the stream stopped first.
+     */
+    public synchronized boolean awaitSequence(long sequence, long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (appliedSequence < sequence && !stopped) {
+            long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remaining <= 0) {
+                return false;
+            }
+            wait(remaining);
+        }
+        return appliedSequence >= sequence;
+    }
+
+    /**
+     * Closes the channel and waits for the applier thread to stop.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+        try {
+            applier.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void applyLoop() {
+        ByteBuffer header = ByteBuffer.allocate(ReplicationLeader.HEADER_BYTES);
+        ByteBuffer body = ByteBuffer.allocate(ReplicationLeader.MAX_RECORD_BYTES + ReplicationLeader.TRAILER_BYTES);
+        IOException error = null;
+        try {
+            while (true) {
+                header.clear();
+                if (!readFully(header, true)) {
+                    break;
+                }
+                int length = header.getInt(0);
+                long sequence = header.getLong(Integer.BYTES);
+                long timestampMillis = header.getLong(Integer.BYTES + Long.BYTES);
+                if (length <= 0 || length > ReplicationLeader.MAX_RECORD_BYTES) {
+                    throw new IOException("Invalid replication frame length: " + length);
+                }
+                body.clear().limit(length + ReplicationLeader.TRAILER_BYTES);
+                readFully(body, false);
+                CRC32C crc = new CRC32C();
+                crc.update(body.array(), 0, length);
+                if (body.getInt(length) != (int) crc.getValue()) {
+                    throw new IOException("Replication frame checksum mismatch at sequence " + sequence);
+                }
+                apply(sequence, timestampMillis, body.position(0).limit(length));
+            }
+        } catch (ClosedChannelException e) {
+            // Closed by close(); the replica keeps what it has applied.
+        } catch (IOException e) {
+            error = e;
+        } catch (RuntimeException e) {
+            // A record the replica cannot apply, whatever the exception, stops the stream rather than
+            // leaving the applier dead and the follower reporting that it is still running.
+            error = new IOException("Could not apply replication frame", e);
+        }
+        synchronized (this) {
+            stopped = true;
+            failure = error;
+            notifyAll();
+        }
+    }
+
+    private void apply(long sequence, long timestampMillis, ByteBuffer record) throws IOException {
+        if (record.get(0) == ReplicationLeader.HEARTBEAT) {
+            synchronized (this) {
+                if (sequence < appliedSequence) {
+                    throw new IOException("Replication stream out of order: heartbeat at " + sequence
+                            + " after " + appliedSequence);
+                }
+                leaderSequence = Math.max(leaderSequence, sequence);
+                if (sequence == appliedSequence) {
+                    // Nothing is outstanding, so the replica matches the leader as of the heartbeat.
+                    appliedTimestampMillis = timestampMillis;
+                }
+            }
+            return;
+        }
+        synchronized (this) {
+            long expected = appliedSequence + 1;
+            if (sequence != expected) {
+                throw new IOException("Replication stream out of order: expected " + expected + ", got " + sequence);
+            }
+            leaderSequence = Math.max(leaderSequence, sequence);
+        }
+        replayer.apply(record);
+        synchronized (this) {
+            appliedSequence = sequence;
+            appliedTimestampMillis = timestampMillis;
+            notifyAll();
+        }
+    }
+
+    // Returns false on a clean end of stream, which can only come between frames.
+    private boolean readFully(ByteBuffer buffer, boolean frameStart) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                if (frameStart && buffer.position() == 0) {
+                    return false;
+                }
+                throw new EOFException("Replication stream ended inside a frame");
+            }
+        }
+        return true;
+    }
+}
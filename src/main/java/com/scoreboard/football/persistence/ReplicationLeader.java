@@ -0,0 +1,295 @@
+package com.scoreboard.football.persistence;
+
+import com.scoreboard.football.service.MatchListener;
+import com.scoreboard.football.service.MatchManager;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32C;
+
+/**
+ * Leader side of match replication. Registered as a {@link MatchListener} of the leader's
+ * {@link MatchManager}, it streams every mutation to a {@link ReplicationFollower} over a blocking
+ * channel: a {@link java.nio.channels.SocketChannel} to a follower in another JVM or a
+ * {@link java.nio.channels.Pipe} in the same one.
+ * <p>
+ * Mutations are numbered in the order they are appended, which is the order the follower applies
+ * them in. Appending only copies the encoded record into a buffer; a sender thread writes the
+ * buffered records to the channel in batches. Every batch is preceded by a heartbeat announcing the
+ * sequence of its last record, so the follower learns how far behind it is before it starts applying
+ * the batch. When there is nothing to send the sender writes a heartbeat carrying the current sequence
+ * and time, which lets the follower report how stale its copy is.
+ * <p>
+ * Records are appended from inside the manager's registry updates, so the leader's own writes must
+ * never wait for or fail because of a follower. If the channel fails, or the follower falls so far
+ * behind that the buffer fills up, replication stops: later mutations are no longer sent, the
+ * channel is closed so the follower sees the stream end, and the cause is reported by
+ * {@link #getFailure()}. The follower then has to be rebuilt.
+ * <p>
+ * The follower must start from the state the leader had when this was registered, normally an empty
+ * manager. Frame layout: {@code int length, long sequence, long timestampMillis, byte type, payload,
+ * int crc32c(type + payload)}; a heartbeat has type {@code 0}, no payload and the sequence of the last
+ * record appended when it was written, which is never behind the records sent before it.
+ */
+public class ReplicationLeader extends MatchRecordWriter implements Closeable {
+    static final byte HEARTBEAT = 0;
+    static final int HEADER_BYTES = Integer.BYTES + 2 * Long.BYTES;
+    static final int TRAILER_BYTES = Integer.BYTES;
+    static final int MAX_RECORD_BYTES = 1 << 16;
+
+    private static final int DEFAULT_BUFFER_BYTES = 1 << 20;
+    private static final long DEFAULT_HEARTBEAT_MILLIS = 1000;
+
+    private static final ThreadLocal<ByteBuffer> SCRATCH =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocate(HEADER_BYTES + MAX_RECORD_BYTES));
+
+    private final MatchManager matchManager;
+    private final WritableByteChannel channel;
+    private final Clock clock;
+    private final long heartbeatMillis;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition sent = lock.newCondition();
+    private final ByteBuffer heartbeat = ByteBuffer.allocateDirect(HEADER_BYTES + 1 + TRAILER_BYTES);
+    private final Thread sender;
+
+    private ByteBuffer active;
+    private ByteBuffer spare;
+    private long appendedSequence;
+    private long sentSequence;
+    private boolean closed;
+    private volatile IOException failure;
+
+    public ReplicationLeader(MatchManager matchManager, WritableByteChannel channel) {
+        this(matchManager, channel, Clock.systemUTC(), DEFAULT_BUFFER_BYTES, DEFAULT_HEARTBEAT_MILLIS);
+    }
+
+    public ReplicationLeader(MatchManager matchManager, WritableByteChannel channel, int bufferBytes, long heartbeatMillis) {
+        this(matchManager, channel, Clock.systemUTC(), bufferBytes, heartbeatMillis);
+    }
+
+    ReplicationLeader(MatchManager matchManager, WritableByteChannel channel, Clock clock, int bufferBytes, long heartbeatMillis) {
+        if (bufferBytes < HEADER_BYTES + MAX_RECORD_BYTES) {
+            throw new IllegalArgumentException("Buffer must hold at least " + (HEADER_BYTES + MAX_RECORD_BYTES) + " bytes");
+        }
+        if (heartbeatMillis <= 0) {
+            throw new IllegalArgumentException("Heartbeat interval must be positive: " + heartbeatMillis);
+        }
+        this.matchManager = matchManager;
+        this.channel = channel;
+        this.clock = clock;
+        this.heartbeatMillis = heartbeatMillis;
+        this.active = ByteBuffer.allocateDirect(bufferBytes);
+        this.spare = ByteBuffer.allocateDirect(bufferBytes);
+        this.sender = new Thread(this::sendLoop, "replication-sender");
+        this.sender.setDaemon(true);
+        this.sender.start();
+        matchManager.addListener(this);
+    }
+
+    /**
+     * Blocks until every record appended before this call has been written to the channel. Throws
+     * the cause if replication has stopped.
+     */
+    public void flush() throws IOException {
+        lock.lock();
+        try {
+            long target = appendedSequence;
+            while (sentSequence < target && failure == null) {
+                notEmpty.signal();
+                sent.awaitUninterruptibly();
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getAppendedSequence() {
+        lock.lock();
+        try {
+            return appendedSequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getSentSequence() {
+        lock.lock();
+        try {
+            return sentSequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns why replication stopped, or {@code null} while it is running.
+     */
+    public IOException getFailure() {
+        return failure;
+    }
+
+    /**
+     * Unregisters from the manager, sends the records still buffered and closes the channel. A
+     * replication failure is not rethrown here, since the follower may simply have gone away first;
+     * it stays available from {@link #getFailure()}.
+     */
+    @Override
+    public void close() throws IOException {
+        matchManager.removeListener(this);
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+        if (failure != null) {
+            // Nothing more will be sent; closing first releases a sender stuck writing to a stalled follower.
+            channel.close();
+        }
+        try {
+            sender.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        channel.close();
+    }
+
+    @Override
+    ByteBuffer begin(byte type) {
+        ByteBuffer record = SCRATCH.get();
+        record.clear();
+        record.position(HEADER_BYTES);
+        record.put(type);
+        return record;
+    }
+
+    // The sequence and timestamp are stamped under the lock, so the stream is in sequence order.
+    // Never blocks and never throws: a full buffer stops replication instead.
+    @Override
+    void append(ByteBuffer record) {
+        int length = record.position() - HEADER_BYTES;
+        CRC32C crc = new CRC32C();
+        crc.update(record.array(), HEADER_BYTES, length);
+        record.putInt((int) crc.getValue());
+        record.putInt(0, length);
+        record.flip();
+
+        lock.lock();
+        try {
+            if (failure != null || closed) {
+                return;
+            }
+            if (active.remaining() < record.remaining()) {
+                fail(new IOException("Replication buffer overflowed at sequence " + appendedSequence
+                        + ": the follower is not keeping up"));
+                return;
+            }
+            appendedSequence++;
+            record.putLong(Integer.BYTES, appendedSequence);
+            record.putLong(Integer.BYTES + Long.BYTES, clock.millis());
+            active.put(record);
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void sendLoop() {
+        while (true) {
+            ByteBuffer batch;
+            long batchSequence;
+            lock.lock();
+            try {
+                long waitNanos = TimeUnit.MILLISECONDS.toNanos(heartbeatMillis);
+                while (active.position() == 0 && !closed && failure == null && waitNanos > 0) {
+                    waitNanos = notEmpty.awaitNanos(waitNanos);
+                }
+                if (failure != null || active.position() == 0 && closed) {
+                    break;
+                }
+                batchSequence = appendedSequence;
+                if (active.position() != 0) {
+                    batch = active;
+                    active = spare;
+                } else {
+                    batch = null;
+                }
+                // Stamped under the lock, so the time is never older than that of a record in the batch.
+                heartbeat(batchSequence);
+            } catch (InterruptedException e) {
+                break;
+            } finally {
+                lock.unlock();
+            }
+
+            IOException error = null;
+            try {
+                while (heartbeat.hasRemaining()) {
+                    channel.write(heartbeat);
+                }
+                if (batch != null) {
+                    batch.flip();
+                    while (batch.hasRemaining()) {
+                        channel.write(batch);
+                    }
+                }
+            } catch (IOException e) {
+                error = e;
+            }
+
+            lock.lock();
+            try {
+                if (batch != null) {
+                    spare = batch.clear();
+                }
+                if (error != null) {
+                    fail(error);
+                    break;
+                }
+                sentSequence = batchSequence;
+                sent.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+        if (failure != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                // The stream has already failed; the first cause is the one reported.
+            }
+        }
+    }
+
+    // Called with the lock held.
+    private void fail(IOException cause) {
+        if (failure == null) {
+            failure = cause;
+        }
+        notEmpty.signal();
+        sent.signalAll();
+    }
+
+    private void heartbeat(long sequence) {
+        heartbeat.clear();
+        heartbeat.putInt(1).putLong(sequence).putLong(clock.millis()).put(HEARTBEAT);
+        CRC32C crc = new CRC32C();
+        crc.update(HEARTBEAT);
+        heartbeat.putInt((int) crc.getValue());
+        heartbeat.flip();
+    }
+}
@@ -0,0 +1,304 @@
+package com.scoreboard.football.persistence;
+
+import com.scoreboard.football.FootballMatch;
+import com.scoreboard.football.modal.Player;
+import com.scoreboard.football.modal.Team;
+import com.scoreboard.football.service.MatchManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+
+/**
+ * Streams every match held by a {@link MatchManager}, with both teams and every player's score, to a
+ * {@link WritableByteChannel} as CSV or JSON. Matches are visited one at a time straight from the live
+ * registry and encoded into a single fixed-size buffer that is written out whenever it fills, so the
+ * memory used does not depend on the number of matches or players. Text is UTF-8; the channel should
+ * be in blocking mode.
+ * <p>
+ * CSV has one row per player, {@code matchId,matchTitle,startTime,status,team,teamScore,playerNumber,
+ * playerName,playerScore}, and a row with empty player columns for a team without players. JSON is a
+ * single object, {@code {"matches":[{"matchId","matchTitle","startTime","status","teams":[{"name",
+ * "score","players":[{"number","name","score"}]}]}]}}.
+ */
+public final class ScoreboardExporter {
+    private static final String CSV_HEADER =
+            "matchId,matchTitle,startTime,status,team,teamScore,playerNumber,playerName,playerScore\n";
+    private static final int DEFAULT_CHUNK_BYTES = 1 << 16;
+    private static final int MIN_CHUNK_BYTES = 16;
+
+    private ScoreboardExporter() {
+    }
+
+    /**
+     * Returns the number of bytes written.
+     */
+    public static long writeCsv(MatchManager matchManager, WritableByteChannel channel) throws IOException {
+        return writeCsv(matchManager, channel, DEFAULT_CHUNK_BYTES);
+    }
+
+    public static long writeCsv(MatchManager matchManager, WritableByteChannel channel, int chunkBytes) throws IOException {
+        ChunkWriter writer = new ChunkWriter(channel, chunkBytes);
+        try {
+            writer.ascii(CSV_HEADER);
+            matchManager.forEachMatch((matchId, match) -> {
+                writeCsvTeam(writer, matchId, match, match.getTeamOne());
+                writeCsvTeam(writer, matchId, match, match.getTeamTwo());
+            });
+            return writer.finish();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Returns the number of bytes written.
+     */
+    public static long writeJson(MatchManager matchManager, WritableByteChannel channel) throws IOException {
+        return writeJson(matchManager, channel, DEFAULT_CHUNK_BYTES);
+    }
+
+    public static long writeJson(MatchManager matchManager, WritableByteChannel channel, int chunkBytes) throws IOException {
+        ChunkWriter writer = new ChunkWriter(channel, chunkBytes);
+        try {
+            writer.ascii("{\"matches\":[");
+            boolean[] first = {true};
+            matchManager.forEachMatch((matchId, match) -> {
+                if (!first[0]) {
+                    writer.ascii(",");
+                }
+                first[0] = false;
+                writeJsonMatch(writer, matchId, match);
+            });
+            writer.ascii("]}\n");
+            return writer.finish();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static void writeCsvTeam(ChunkWriter writer, String matchId, FootballMatch match, Team team) {
+        int teamScore = team.getScore();
+        List<Player> players = team.getPlayers();
+        if (players.isEmpty()) {
+            writeCsvRow(writer, matchId, match, team, teamScore, null);
+        }
+        for (Player player : players) {
+            writeCsvRow(writer, matchId, match, team, teamScore, player);
+        }
+    }
+
+    private static void writeCsvRow(ChunkWriter writer, String matchId, FootballMatch match, Team team, int teamScore, Player player) {
+        writer.csv(matchId);
+        writer.ascii(",");
+        writer.csv(match.getMatchTitle());
+        writer.ascii(",");
+        writer.ascii(String.valueOf(match.getStartTime()));
+        writer.ascii(",");
+        writer.ascii(String.valueOf(match.getMatchStatus()));
+        writer.ascii(",");
+        writer.csv(team.getName());
+        writer.ascii(",");
+        writer.number(teamScore);
+        writer.ascii(",");
+        if (player != null) {
+            writer.number(player.getNumber());
+            writer.ascii(",");
+            writer.csv(player.getName());
+            writer.ascii(",");
+            writer.number(player.getScore());
+        } else {
+            writer.ascii(",,");
+        }
+        writer.ascii("\n");
+    }
+
+    private static void writeJsonMatch(ChunkWriter writer, String matchId, FootballMatch match) {
+        writer.ascii("{\"matchId\":");
+        writer.json(matchId);
+        writer.ascii(",\"matchTitle\":");
+        writer.json(match.getMatchTitle());
+        writer.ascii(",\"startTime\":");
+        writer.json(match.getStartTime() == null ? null : match.getStartTime().toString());
+        writer.ascii(",\"status\":");
+        writer.json(match.getMatchStatus() == null ? null : match.getMatchStatus().name());
+        writer.ascii(",\"teams\":[");
+        writeJsonTeam(writer, match.getTeamOne());
+        writer.ascii(",");
+        writeJsonTeam(writer, match.getTeamTwo());
+        writer.ascii("]}");
+    }
+
+    private static void writeJsonTeam(ChunkWriter writer, Team team) {
+        writer.ascii("{\"name\":");
+        writer.json(team.getName());
+        writer.ascii(",\"score\":");
+        writer.number(team.getScore());
+        writer.ascii(",\"players\":[");
+        boolean first = true;
+        for (Player player : team.getPlayers()) {
+            if (!first) {
+                writer.ascii(",");
+            }
+            first = false;
+            writer.ascii("{\"number\":");
+            writer.number(player.getNumber());
+            writer.ascii(",\"name\":");
+            writer.json(player.getName());
+            writer.ascii(",\"score\":");
+            writer.number(player.getScore());
+            writer.ascii("}");
+        }
+        writer.ascii("]}");
+    }
+
+    /**
+     * Encodes text as UTF-8 into one reusable buffer and writes it to the channel chunk by chunk.
+     * Numbers are written digit by digit, so no strings are built for them.
+     */
+    private static final class ChunkWriter {
+        private final WritableByteChannel channel;
+        private final ByteBuffer buffer;
+        private long written;
+
+        private ChunkWriter(WritableByteChannel channel, int chunkBytes) {
+            if (chunkBytes < MIN_CHUNK_BYTES) {
+                throw new IllegalArgumentException("Chunk must hold at least " + MIN_CHUNK_BYTES + " bytes: " + chunkBytes);
+            }
+            this.channel = channel;
+            this.buffer = ByteBuffer.allocateDirect(chunkBytes);
+        }
+
+        // Only for text known to be ASCII.
+        private void ascii(String text) {
+            for (int i = 0; i < text.length(); i++) {
+                ensure(1);
+                buffer.put((byte) text.charAt(i));
+            }
+        }
+
+        private void number(int value) {
+            ensure(11);
+            if (value < 0) {
+                buffer.put((byte) '-');
+                if (value == Integer.MIN_VALUE) {
+                    ascii("2147483648");
+                    return;
+                }
+                value = -value;
+            }
+            int divisor = 1;
+            while (divisor <= value / 10) {
+                divisor *= 10;
+            }
+            for (; divisor > 0; divisor /= 10) {
+                buffer.put((byte) ('0' + value / divisor % 10));
+            }
+        }
+
+        private void csv(String text) {
+            if (text == null) {
+                return;
+            }
+            boolean quote = false;
+            for (int i = 0; i < text.length() && !quote; i++) {
+                char c = text.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                text(text);
+                return;
+            }
+            ascii("\"");
+            for (int i = 0; i < text.length(); ) {
+                if (text.charAt(i) == '"') {
+                    ascii("\"\"");
+                    i++;
+                } else {
+                    i += character(text, i);
+                }
+            }
+            ascii("\"");
+        }
+
+        private void json(String text) {
+            if (text == null) {
+                ascii("null");
+                return;
+            }
+            ascii("\"");
+            for (int i = 0; i < text.length(); ) {
+                char c = text.charAt(i);
+                if (c == '"' || c == '\\') {
+                    ensure(2);
+                    buffer.put((byte) '\\').put((byte) c);
+                    i++;
+                } else if (c < 0x20) {
+                    ensure(6);
+                    buffer.put((byte) '\\').put((byte) 'u').put((byte) '0').put((byte) '0')
+                            .put((byte) Character.forDigit(c >> 4, 16)).put((byte) Character.forDigit(c & 0xF, 16));
+                    i++;
+                } else {
+                    i += character(text, i);
+                }
+            }
+            ascii("\"");
+        }
+
+        private void text(String text) {
+            for (int i = 0; i < text.length(); ) {
+                i += character(text, i);
+            }
+        }
+
+        // Encodes the code point at index and returns the number of chars it took; an unpaired
+        // surrogate is written as '?'.
+        private int character(String text, int index) {
+            ensure(4);
+            char c = text.charAt(index);
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | c >> 6)).put((byte) (0x80 | c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && index + 1 < text.length()
+                    && Character.isLowSurrogate(text.charAt(index + 1))) {
+                int codePoint = Character.toCodePoint(c, text.charAt(index + 1));
+                buffer.put((byte) (0xF0 | codePoint >> 18))
+                        .put((byte) (0x80 | codePoint >> 12 & 0x3F))
+                        .put((byte) (0x80 | codePoint >> 6 & 0x3F))
+                        .put((byte) (0x80 | codePoint & 0x3F));
+                return 2;
+            } else if (Character.isSurrogate(c)) {
+                buffer.put((byte) '?');
+            } else {
+                buffer.put((byte) (0xE0 | c >> 12)).put((byte) (0x80 | c >> 6 & 0x3F)).put((byte) (0x80 | c & 0x3F));
+            }
+            return 1;
+        }
+
+        private void ensure(int bytes) {
+            if (buffer.remaining() < bytes) {
+                drain();
+            }
+        }
+
+        private long finish() {
+            drain();
+            return written;
+        }
+
+        private void drain() {
+            buffer.flip();
+            try {
+                while (buffer.hasRemaining()) {
+                    written += channel.write(buffer);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            buffer.clear();
+        }
+    }
+}
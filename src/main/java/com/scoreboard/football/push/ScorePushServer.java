@@ -0,0 +1,324 @@
+package com.scoreboard.football.push;
+
+import com.scoreboard.football.FootballMatch;
+import com.scoreboard.football.common.MatchStatus;
+import com.scoreboard.football.modal.Player;
+import com.scoreboard.football.modal.Team;
+import com.scoreboard.football.service.MatchListener;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Embedded TCP server streaming score and status deltas to every connected client as JSON lines.
+ * Register it with {@link com.scoreboard.football.service.MatchManager#addListener}.
+ * <p>
+ * All sockets are served by one non-blocking selector thread, so tens of thousands of subscribers
+ * cost buffers rather than threads. A change is encoded once on the thread that made it and handed
+ * to the selector through a lock-free queue; that thread never touches a socket, so a stalled client
+ * cannot delay scoring. Each connection has a cap on bytes waiting to be sent, and a client that falls
+ * further behind than that is disconnected as a slow consumer. The queue to the selector is capped in
+ * bytes as well: if the selector itself falls that far behind, new deltas are dropped and counted in
+ * {@link #getDroppedMessages()} rather than buffered without limit.
+ */
+public class ScorePushServer implements MatchListener, Closeable {
+    private static final int READ_BUFFER_BYTES = 1024;
+    private static final int DEFAULT_MAX_OUTBOX_BYTES = 1 << 22;
+
+    private final ServerSocketChannel serverChannel;
+    private final Selector selector;
+    private final int maxPendingBytes;
+    private final long maxOutboxBytes;
+    private final Queue<byte[]> outbox = new ConcurrentLinkedQueue<>();
+    private final AtomicLong outboxBytes = new AtomicLong();
+    private final AtomicLong droppedMessages = new AtomicLong();
+    private final AtomicBoolean wakeupPending = new AtomicBoolean();
+    private final List<Connection> connections = new ArrayList<>();
+    private final AtomicLong slowConsumerDisconnects = new AtomicLong();
+    private final AtomicLong connectionCount = new AtomicLong();
+    private final ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_BYTES);
+    private final Thread selectorThread;
+    private volatile boolean running = true;
+
+    public ScorePushServer(InetSocketAddress bindAddress, int maxPendingBytes) throws IOException {
+        this(bindAddress, maxPendingBytes, DEFAULT_MAX_OUTBOX_BYTES);
+    }
+
+    public ScorePushServer(InetSocketAddress bindAddress, int maxPendingBytes, long maxOutboxBytes) throws IOException {
+        this.maxPendingBytes = maxPendingBytes;
+        this.maxOutboxBytes = maxOutboxBytes;
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(bindAddress);
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        this.selectorThread = new Thread(this::run, "score-push-selector");
+        this.selectorThread.setDaemon(true);
+        this.selectorThread.start();
+    }
+
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    public long getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    public long getSlowConsumerDisconnects() {
+        return slowConsumerDisconnects.get();
+    }
+
+    public long getDroppedMessages() {
+        return droppedMessages.get();
+    }
+
+    @Override
+    public void matchAdded(String matchId, FootballMatch match) {
+        publish(new JsonLine("added").field("matchId", matchId)
+                .field("title", match.getMatchTitle())
+                .field("teamOne", match.getTeamOne().getName())
+                .field("teamTwo", match.getTeamTwo().getName())
+                .field("status", match.getMatchStatus().name()));
+    }
+
+    @Override
+    public void matchRemoved(String matchId, FootballMatch match) {
+        publish(new JsonLine("removed").field("matchId", matchId));
+    }
+
+    @Override
+    public void matchStatusChanged(String matchId, FootballMatch match, MatchStatus previousStatus, MatchStatus newStatus) {
+        publish(new JsonLine("status").field("matchId", matchId).field("status", newStatus.name()));
+    }
+
+    @Override
+    public void goalScored(String matchId, Team team, Player scorer, int points) {
+        JsonLine line = new JsonLine("goal").field("matchId", matchId)
+                .field("team", team.getName())
+                .field("teamScore", team.getScore());
+        if (scorer != null) {
+            line.field("player", scorer.getName()).field("playerScore", scorer.getScore());
+        }
+        publish(line);
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        selector.wakeup();
+        try {
+            selectorThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void publish(JsonLine line) {
+        if (!running) {
+            return;
+        }
+        byte[] message = line.toBytes();
+        if (outboxBytes.addAndGet(message.length) > maxOutboxBytes) {
+            outboxBytes.addAndGet(-message.length);
+            droppedMessages.incrementAndGet();
+            return;
+        }
+        outbox.offer(message);
+        if (wakeupPending.compareAndSet(false, true)) {
+            selector.wakeup();
+        }
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                selector.select();
+                wakeupPending.set(false);
+                dispatchOutbox();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                    } else {
+                        Connection connection = (Connection) key.attachment();
+                        if (key.isReadable()) {
+                            connection.read();
+                        }
+                        if (key.isValid() && key.isWritable()) {
+                            connection.flush();
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            running = false;
+        } finally {
+            for (Connection connection : new ArrayList<>(connections)) {
+                connection.close();
+            }
+            closeQuietly(serverChannel);
+            closeQuietly(selector);
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = serverChannel.accept();
+        if (channel == null) {
+            return;
+        }
+        channel.configureBlocking(false);
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        Connection connection = new Connection(channel);
+        connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+        connections.add(connection);
+        connectionCount.incrementAndGet();
+    }
+
+    private void dispatchOutbox() {
+        byte[] message;
+        while ((message = outbox.poll()) != null) {
+            outboxBytes.addAndGet(-message.length);
+            for (int i = connections.size() - 1; i >= 0; i--) {
+                connections.get(i).enqueue(message);
+            }
+        }
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException ignored) {
+            // Nothing useful to do while shutting down.
+        }
+    }
+
+    private final class Connection {
+        private final SocketChannel channel;
+        private final ArrayDeque<ByteBuffer> pending = new ArrayDeque<>();
+        private SelectionKey key;
+        private int pendingBytes;
+        private boolean closed;
+
+        private Connection(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        private void enqueue(byte[] message) {
+            if (pendingBytes + message.length > maxPendingBytes) {
+                slowConsumerDisconnects.incrementAndGet();
+                close();
+                return;
+            }
+            pending.add(ByteBuffer.wrap(message));
+            pendingBytes += message.length;
+            if (pending.size() == 1) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            try {
+                while (!pending.isEmpty()) {
+                    ByteBuffer buffer = pending.peek();
+                    int written = channel.write(buffer);
+                    pendingBytes -= written;
+                    if (buffer.hasRemaining()) {
+                        key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                        return;
+                    }
+                    pending.poll();
+                }
+                key.interestOps(SelectionKey.OP_READ);
+            } catch (IOException e) {
+                close();
+            }
+        }
+
+        // Clients have nothing to say; reading only detects disconnects.
+        private void read() {
+            try {
+                readBuffer.clear();
+                if (channel.read(readBuffer) < 0) {
+                    close();
+                }
+            } catch (IOException e) {
+                close();
+            }
+        }
+
+        private void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            connections.remove(this);
+            connectionCount.decrementAndGet();
+            if (key != null) {
+                key.cancel();
+            }
+            closeQuietly(channel);
+        }
+    }
+
+    /**
+     * Minimal single-line JSON object writer for the delta messages.
+     */
+    private static final class JsonLine {
+        private final StringBuilder json = new StringBuilder(128);
+
+        private JsonLine(String type) {
+            json.append("{\"type\":\"").append(type).append('"');
+        }
+
+        private JsonLine field(String name, String value) {
+            if (value == null) {
+                json.append(",\"").append(name).append("\":null");
+                return this;
+            }
+            json.append(",\"").append(name).append("\":\"");
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"' || c == '\\') {
+                    json.append('\\').append(c);
+                } else if (c < 0x20) {
+                    json.append(String.format("\\u%04x", (int) c));
+                } else {
+                    json.append(c);
+                }
+            }
+            json.append('"');
+            return this;
+        }
+
+        private JsonLine field(String name, int value) {
+            json.append(",\"").append(name).append("\":").append(value);
+            return this;
+        }
+
+        private byte[] toBytes() {
+            return json.append("}\n").toString().getBytes(StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.scoreboard.football.service;
+
+import com.scoreboard.football.common.MatchStatus;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Copy of an archived match's scores, read from the {@link MatchManager}'s off-heap table. Player
+ * scores are keyed by jersey number, in roster order.
+ * <p>
+ * Archiving is lossy: only the status, the team scores and the number and score of the first 11 players
+ * of each team survive. Team and player names, the title, the referee and the start time are dropped,
+ * so an archived match cannot be turned back into a {@link com.scoreboard.football.FootballMatch}.
+ */
+public class ArchivedMatch {
+    private final String matchId;
+    private final MatchStatus matchStatus;
+    private final int teamOneScore;
+    private final int teamTwoScore;
+    private final Map<Integer, Integer> teamOnePlayerScores;
+    private final Map<Integer, Integer> teamTwoPlayerScores;
+
+    /**
+     * Creates an archived match from scores kept elsewhere, such as a snapshot file. Player scores are
+     * keyed by jersey number; only the first 11 of each team are kept once it is archived.
+     */
+    public ArchivedMatch(String matchId, MatchStatus matchStatus, int teamOneScore, Map<Integer, Integer> teamOnePlayerScores,
+                         int teamTwoScore, Map<Integer, Integer> teamTwoPlayerScores) {
+        this.matchId = matchId;
+        this.matchStatus = matchStatus;
+        this.teamOneScore = teamOneScore;
+        this.teamTwoScore = teamTwoScore;
+        this.teamOnePlayerScores = Collections.unmodifiableMap(new LinkedHashMap<>(teamOnePlayerScores));
+        this.teamTwoPlayerScores = Collections.unmodifiableMap(new LinkedHashMap<>(teamTwoPlayerScores));
+    }
+
+    ArchivedMatch(String matchId, OffHeapScoreTable table, int slot) {
+        this.matchId = matchId;
+        this.matchStatus = table.getStatus(slot);
+        this.teamOneScore = table.getTeamScore(slot, 0);
+        this.teamTwoScore = table.getTeamScore(slot, 1);
+        this.teamOnePlayerScores = readPlayerScores(table, slot, 0);
+        this.teamTwoPlayerScores = readPlayerScores(table, slot, 1);
+    }
+
+    public String getMatchId() {
+        return matchId;
+    }
+
+    public MatchStatus getMatchStatus() {
+        return matchStatus;
+    }
+
+    public int getTeamOneScore() {
+        return teamOneScore;
+    }
+
+    public int getTeamTwoScore() {
+        return teamTwoScore;
+    }
+
+    public Map<Integer, Integer> getTeamOnePlayerScores() {
+        return teamOnePlayerScores;
+    }
+
+    public Map<Integer, Integer> getTeamTwoPlayerScores() {
+        return teamTwoPlayerScores;
+    }
+
+    private static Map<Integer, Integer> readPlayerScores(OffHeapScoreTable table, int slot, int team) {
+        Map<Integer, Integer> scores = new LinkedHashMap<>();
+        int count = table.getPlayerCount(slot, team);
+        for (int position = 0; position < count; position++) {
+            scores.put(table.getPlayerNumber(slot, team, position), table.getPlayerScore(slot, team, position));
+        }
+        return Collections.unmodifiableMap(scores);
+    }
+
+    @Override
+    public String toString() {
+        return "ArchivedMatch{" +
+                "matchId='" + matchId + '\'' +
+                ", matchStatus=" + matchStatus +
+                ", teamOneScore=" + teamOneScore +
+                ", teamTwoScore=" + teamTwoScore +
+                '}';
+    }
+}
@@ -0,0 +1,36 @@
+package com.scoreboard.football.service;
+
+import com.scoreboard.football.modal.Team;
+
+public class GoalEvent {
+    private final String matchId;
+    private final String playerName;
+    private final Team team;
+
+    public GoalEvent(String matchId, String playerName, Team team) {
+        this.matchId = matchId;
+        this.playerName = playerName;
+        this.team = team;
+    }
+
+    public String getMatchId() {
+        return matchId;
+    }
+
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    public Team getTeam() {
+        return team;
+    }
+
+    @Override
+    public String toString() {
+        return "GoalEvent{" +
+                "matchId='" + matchId + '\'' +
+                ", playerName='" + playerName + '\'' +
+                ", team=" + (team == null ? null : team.getName()) +
+                '}';
+    }
+}
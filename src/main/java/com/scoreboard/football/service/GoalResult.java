@@ -0,0 +1,49 @@
+package com.scoreboard.football.service;
+
+import com.scoreboard.football.modal.Player;
+
+public class GoalResult {
+    private final GoalEvent event;
+    private final Player scorer;
+    private final String error;
+
+    private GoalResult(GoalEvent event, Player scorer, String error) {
+        this.event = event;
+        this.scorer = scorer;
+        this.error = error;
+    }
+
+    static GoalResult applied(GoalEvent event, Player scorer) {
+        return new GoalResult(event, scorer, null);
+    }
+
+    static GoalResult rejected(GoalEvent event, String error) {
+        return new GoalResult(event, null, error);
+    }
+
+    public GoalEvent getEvent() {
+        return event;
+    }
+
+    public boolean isApplied() {
+        return error == null;
+    }
+
+    public Player getScorer() {
+        return scorer;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        return "GoalResult{" +
+                "event=" + event +
+                ", applied=" + isApplied() +
+                ", scorer=" + scorer +
+                ", error='" + error + '\'' +
+                '}';
+    }
+}
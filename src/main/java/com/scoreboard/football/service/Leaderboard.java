@@ -0,0 +1,299 @@
+package com.scoreboard.football.service;
+
+import com.scoreboard.football.FootballMatch;
+import com.scoreboard.football.modal.Player;
+import com.scoreboard.football.modal.Team;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+
+/**
+ * Tournament-wide scorers table, aggregating goals by player across every match of the
+ * {@link MatchManager} it is registered with. A player is identified by team and name, as given by
+ * {@link SeasonStatistics#playerKey}, since squads share names such as "Goli" and "Skipper", and
+ * entries are named by that key. Standings are kept in a tree ordered by goals, and a Fenwick tree
+ * counts players per goal total, so each goal and each rank query costs O(log n) and the top K scorers
+ * are read in O(log n + K) without touching the matches.
+ * <p>
+ * Goals of an archived match keep counting until the match is removed from the archive; only the
+ * standings and goals each player contributed are remembered, not the match.
+ * <p>
+ * Register it with {@link MatchManager#addListener} before matches are added.
+ */
+public class Leaderboard implements MatchListener {
+    private static final Comparator<Standing> BY_GOALS = Comparator
+            .comparingInt((Standing standing) -> standing.goals).reversed()
+            .thenComparing(standing -> standing.playerKey);
+
+    private final Map<String, Standing> standings = new HashMap<>();
+    private final Map<String, ArchivedContribution> archivedContributions = new HashMap<>();
+    private final TreeSet<Standing> ranking = new TreeSet<>(BY_GOALS);
+    private int[] playersPerGoalTotal = new int[64];
+
+    /**
+     * Returns at most {@code count} scorers, best first; a count below one gives an empty list.
+     */
+    public synchronized List<LeaderboardEntry> getTopScorers(int count) {
+        List<LeaderboardEntry> topScorers = new ArrayList<>(Math.max(0, Math.min(count, ranking.size())));
+        Iterator<Standing> iterator = ranking.iterator();
+        while (topScorers.size() < count && iterator.hasNext()) {
+            Standing standing = iterator.next();
+            topScorers.add(new LeaderboardEntry(standing.playerKey, standing.goals));
+        }
+        return topScorers;
+    }
+
+    public synchronized int getRank(String teamName, String playerName) {
+        Standing standing = getStanding(teamName, playerName);
+        return standings.size() - countPlayersWithGoalsUpTo(standing.goals) + 1;
+    }
+
+    public synchronized int getGoals(String teamName, String playerName) {
+        return getStanding(teamName, playerName).goals;
+    }
+
+    public synchronized int size() {
+        return standings.size();
+    }
+
+    @Override
+    public synchronized void matchAdded(String matchId, FootballMatch match) {
+        addTeam(match.getTeamOne());
+        addTeam(match.getTeamTwo());
+    }
+
+    @Override
+    public synchronized void matchRemoved(String matchId, FootballMatch match) {
+        removeTeam(match.getTeamOne());
+        removeTeam(match.getTeamTwo());
+    }
+
+    /**
+     * Keeps the players of the archived match in the standings, remembering what each contributed so
+     * it can be taken back when the match leaves the archive.
+     */
+    @Override
+    public synchronized void matchArchived(String matchId, FootballMatch match) {
+        List<Player> teamOnePlayers = match.getTeamOne().getPlayers();
+        List<Player> teamTwoPlayers = match.getTeamTwo().getPlayers();
+        ArchivedContribution contribution = new ArchivedContribution(teamOnePlayers.size() + teamTwoPlayers.size());
+        contribution.add(match.getTeamOne(), teamOnePlayers);
+        contribution.add(match.getTeamTwo(), teamTwoPlayers);
+        archivedContributions.put(matchId, contribution);
+    }
+
+    @Override
+    public synchronized void archivedMatchRemoved(String matchId) {
+        ArchivedContribution contribution = archivedContributions.remove(matchId);
+        if (contribution != null) {
+            for (int i = 0; i < contribution.size; i++) {
+                removeStanding(contribution.standings[i], contribution.goals[i]);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void goalScored(String matchId, Team team, Player scorer, int points) {
+        if (scorer != null) {
+            Standing standing = standings.get(SeasonStatistics.playerKey(team.getName(), scorer.getName()));
+            if (standing != null) {
+                update(standing, standing.appearances, standing.goals + points);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void playerAdded(String matchId, Team team, Player player) {
+        addPlayer(team, player);
+    }
+
+    @Override
+    public synchronized void playerRemoved(String matchId, Team team, Player player) {
+        removePlayer(team, player);
+    }
+
+    private Standing getStanding(String teamName, String playerName) {
+        String playerKey = SeasonStatistics.playerKey(teamName, playerName);
+        Standing standing = standings.get(playerKey);
+        if (standing == null) {
+            throw new IllegalArgumentException("Player not found: " + playerKey);
+        }
+        return standing;
+    }
+
+    private void addTeam(Team team) {
+        for (Player player : team.getPlayers()) {
+            addPlayer(team, player);
+        }
+    }
+
+    private void removeTeam(Team team) {
+        for (Player player : team.getPlayers()) {
+            removePlayer(team, player);
+        }
+    }
+
+    private void addPlayer(Team team, Player player) {
+        String playerKey = SeasonStatistics.playerKey(team.getName(), player.getName());
+        Standing standing = standings.get(playerKey);
+        if (standing == null) {
+            standing = new Standing(playerKey);
+            standings.put(standing.playerKey, standing);
+            ranking.add(standing);
+            adjustPlayerCount(0, 1);
+        }
+        update(standing, standing.appearances + 1, standing.goals + player.getScore());
+    }
+
+    private void removePlayer(Team team, Player player) {
+        Standing standing = standings.get(SeasonStatistics.playerKey(team.getName(), player.getName()));
+        if (standing != null) {
+            removeStanding(standing, player.getScore());
+        }
+    }
+
+    private void removeStanding(Standing standing, int contributedGoals) {
+        int goals = Math.max(0, standing.goals - contributedGoals);
+        if (standing.appearances > 1) {
+            update(standing, standing.appearances - 1, goals);
+        } else {
+            ranking.remove(standing);
+            standings.remove(standing.playerKey);
+            adjustPlayerCount(standing.goals, -1);
+        }
+    }
+
+    private void update(Standing standing, int appearances, int goals) {
+        standing.appearances = appearances;
+        if (standing.goals == goals) {
+            return;
+        }
+        ensureCapacity(goals);
+        ranking.remove(standing);
+        adjustPlayerCount(standing.goals, -1);
+        standing.goals = goals;
+        adjustPlayerCount(goals, 1);
+        ranking.add(standing);
+    }
+
+    // Fenwick tree over goal totals: index i (1-based) covers totals of i - 1.
+
+    private void adjustPlayerCount(int goals, int delta) {
+        for (int i = goals + 1; i < playersPerGoalTotal.length; i += i & -i) {
+            playersPerGoalTotal[i] += delta;
+        }
+    }
+
+    private int countPlayersWithGoalsUpTo(int goals) {
+        int count = 0;
+        for (int i = Math.min(goals + 1, playersPerGoalTotal.length - 1); i > 0; i -= i & -i) {
+            count += playersPerGoalTotal[i];
+        }
+        return count;
+    }
+
+    private void ensureCapacity(int goals) {
+        int capacity = playersPerGoalTotal.length;
+        if (goals + 1 < capacity) {
+            return;
+        }
+        while (goals + 1 >= capacity) {
+            capacity *= 2;
+        }
+        int[] counts = new int[capacity];
+        for (Standing standing : standings.values()) {
+            counts[standing.goals + 1]++;
+        }
+        for (int i = 1; i < capacity; i++) {
+            int parent = i + (i & -i);
+            if (parent < capacity) {
+                counts[parent] += counts[i];
+            }
+        }
+        playersPerGoalTotal = counts;
+    }
+
+    private static final class Standing {
+        private final String playerKey;
+        private int goals;
+        private int appearances;
+
+        private Standing(String playerKey) {
+            this.playerKey = playerKey;
+        }
+    }
+
+    /**
+     * The standings an archived match still counts in, with the goals it added to each.
+     */
+    private final class ArchivedContribution {
+        private final Standing[] standings;
+        private final int[] goals;
+        private int size;
+
+        private ArchivedContribution(int capacity) {
+            this.standings = new Standing[capacity];
+            this.goals = new int[capacity];
+        }
+
+        private void add(Team team, List<Player> players) {
+            for (Player player : players) {
+                Standing standing = Leaderboard.this.standings.get(SeasonStatistics.playerKey(team.getName(), player.getName()));
+                if (standing != null) {
+                    standings[size] = standing;
+                    goals[size] = player.getScore();
+                    size++;
+                }
+            }
+        }
+    }
+
+    public static final class LeaderboardEntry {
+        private final String playerName;
+        private final int goals;
+
+        public LeaderboardEntry(String playerName, int goals) {
+            this.playerName = playerName;
+            this.goals = goals;
+        }
+
+        public String getPlayerName() {
+            return playerName;
+        }
+
+        public int getGoals() {
+            return goals;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            LeaderboardEntry entry = (LeaderboardEntry) obj;
+            return goals == entry.goals && playerName.equals(entry.playerName);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(playerName, goals);
+        }
+
+        @Override
+        public String toString() {
+            return "LeaderboardEntry{" +
+                    "playerName='" + playerName + '\'' +
+                    ", goals=" + goals +
+                    '}';
+        }
+    }
+}
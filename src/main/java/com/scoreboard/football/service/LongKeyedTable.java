@@ -0,0 +1,171 @@
+package com.scoreboard.football.service;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Open-addressing hash table from primitive {@code long} keys to values, with linear probing and
+ * backward-shift deletion so no tombstones build up. Keys are never boxed. Writers take a lock;
+ * readers probe optimistically without locking or allocating and only fall back to the read lock if
+ * a write overlapped them.
+ */
+final class LongKeyedTable<V> {
+    private static final long EMPTY = 0L;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final StampedLock lock = new StampedLock();
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private Object[] values = new Object[INITIAL_CAPACITY];
+    // Key 0 marks empty slots, so its value lives outside the table.
+    private Object zeroKeyValue;
+    private int size;
+
+    V get(long key) {
+        long stamp = lock.tryOptimisticRead();
+        V value = find(key);
+        if (lock.validate(stamp)) {
+            return value;
+        }
+        stamp = lock.readLock();
+        try {
+            return find(key);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    void put(long key, V value) {
+        long stamp = lock.writeLock();
+        try {
+            if (key == EMPTY) {
+                if (zeroKeyValue == null) {
+                    size++;
+                }
+                zeroKeyValue = value;
+                return;
+            }
+            if ((size + 1) * 4 > keys.length * 3) {
+                resize(keys.length * 2);
+            }
+            int mask = keys.length - 1;
+            int slot = slotOf(key, mask);
+            while (keys[slot] != EMPTY) {
+                if (keys[slot] == key) {
+                    values[slot] = value;
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            values[slot] = value;
+            keys[slot] = key;
+            size++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    void remove(long key) {
+        long stamp = lock.writeLock();
+        try {
+            if (key == EMPTY) {
+                if (zeroKeyValue != null) {
+                    zeroKeyValue = null;
+                    size--;
+                }
+                return;
+            }
+            int mask = keys.length - 1;
+            int slot = slotOf(key, mask);
+            while (keys[slot] != key) {
+                if (keys[slot] == EMPTY) {
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            shiftBackFrom(slot, mask);
+            size--;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private V find(long key) {
+        if (key == EMPTY) {
+            return (V) zeroKeyValue;
+        }
+        long[] currentKeys = keys;
+        Object[] currentValues = values;
+        if (currentKeys.length != currentValues.length) {
+            return null;
+        }
+        int mask = currentKeys.length - 1;
+        int slot = slotOf(key, mask);
+        // Bounded so an optimistic read racing a writer cannot spin; the caller validates it anyway.
+        for (int probes = 0; probes < currentKeys.length; probes++) {
+            long slotKey = currentKeys[slot];
+            if (slotKey == key) {
+                return (V) currentValues[slot];
+            }
+            if (slotKey == EMPTY) {
+                return null;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    private void shiftBackFrom(int freed, int mask) {
+        int slot = freed;
+        while (true) {
+            slot = (slot + 1) & mask;
+            long key = keys[slot];
+            if (key == EMPTY) {
+                break;
+            }
+            int home = slotOf(key, mask);
+            // Move the entry into the hole unless its home lies cyclically in (freed, slot].
+            boolean homeBetween = freed <= slot ? (home > freed && home <= slot) : (home > freed || home <= slot);
+            if (!homeBetween) {
+                keys[freed] = key;
+                values[freed] = values[slot];
+                freed = slot;
+            }
+        }
+        keys[freed] = EMPTY;
+        values[freed] = null;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        long[] newKeys = new long[capacity];
+        Object[] newValues = new Object[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = slotOf(oldKeys[i], mask);
+                while (newKeys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                newKeys[slot] = oldKeys[i];
+                newValues[slot] = oldValues[i];
+            }
+        }
+        values = newValues;
+        keys = newKeys;
+    }
+
+    private static int slotOf(long key, int mask) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,127 @@
+package com.scoreboard.football.service;
+
+import com.scoreboard.football.common.MatchStatus;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A change to one match as seen by subscribers of {@link MatchManager#changes()}. It carries the kinds
+ * of change that happened, the match state right after the latest of them and, for goals, the points
+ * each scorer added, keyed by {@link SeasonStatistics#playerKey}; goals credited to a team only are in
+ * the scores but not among the scorers. When a subscriber falls behind, successive changes to the same
+ * match are merged into one: the kinds are combined, the scorers' points are added up and the state is
+ * the newest, so nothing but intermediate scores is lost.
+ * <p>
+ * Merging never blurs the match's lifecycle. {@link Type#ADDED} and {@link Type#REMOVED} together mean
+ * the match was removed and then added again, and the change describes only the new match. A match
+ * added and removed again before the subscriber saw it produces no change at all.
+ */
+public class MatchChange {
+    public enum Type {
+        ADDED,
+        REMOVED,
+        STATUS,
+        GOAL,
+        ROSTER
+    }
+
+    private final String matchId;
+    private final Set<Type> types;
+    private final MatchStatus status;
+    private final int teamOneScore;
+    private final int teamTwoScore;
+    private final Map<String, Integer> goalsByScorer;
+
+    MatchChange(String matchId, Set<Type> types, MatchStatus status, int teamOneScore, int teamTwoScore) {
+        this(matchId, types, status, teamOneScore, teamTwoScore, Map.of());
+    }
+
+    MatchChange(String matchId, Set<Type> types, MatchStatus status, int teamOneScore, int teamTwoScore,
+                Map<String, Integer> goalsByScorer) {
+        this.matchId = matchId;
+        this.types = types;
+        this.status = status;
+        this.teamOneScore = teamOneScore;
+        this.teamTwoScore = teamTwoScore;
+        this.goalsByScorer = goalsByScorer;
+    }
+
+    /**
+     * Merges a newer change to the same match into this one, returning {@code null} when the two cancel
+     * out because the match was added and removed again.
+     */
+    MatchChange mergeWith(MatchChange newer) {
+        boolean removedBefore = types.contains(Type.REMOVED);
+        boolean addedBefore = types.contains(Type.ADDED);
+        if (newer.types.contains(Type.ADDED)) {
+            // Whatever is pending belongs to an earlier incarnation of the match, except its removal.
+            return removedBefore ? newer.withTypes(Type.REMOVED) : newer;
+        }
+        if (newer.types.contains(Type.REMOVED) && addedBefore) {
+            // The subscriber never saw this incarnation; at most it still has to learn of the removal
+            // of the one before it.
+            return removedBefore ? newer : null;
+        }
+        EnumSet<Type> mergedTypes = EnumSet.copyOf(types);
+        mergedTypes.addAll(newer.types);
+        Map<String, Integer> mergedGoals = goalsByScorer;
+        if (!newer.goalsByScorer.isEmpty()) {
+            Map<String, Integer> goals = new LinkedHashMap<>(goalsByScorer);
+            newer.goalsByScorer.forEach((scorer, points) -> goals.merge(scorer, points, Integer::sum));
+            mergedGoals = Collections.unmodifiableMap(goals);
+        }
+        return new MatchChange(matchId, Collections.unmodifiableSet(mergedTypes),
+                newer.status, newer.teamOneScore, newer.teamTwoScore, mergedGoals);
+    }
+
+    private MatchChange withTypes(Type type) {
+        EnumSet<Type> mergedTypes = EnumSet.copyOf(types);
+        mergedTypes.add(type);
+        return new MatchChange(matchId, Collections.unmodifiableSet(mergedTypes),
+                status, teamOneScore, teamTwoScore, goalsByScorer);
+    }
+
+    public String getMatchId() {
+        return matchId;
+    }
+
+    public Set<Type> getTypes() {
+        return types;
+    }
+
+    public MatchStatus getStatus() {
+        return status;
+    }
+
+    public int getTeamOneScore() {
+        return teamOneScore;
+    }
+
+    public int getTeamTwoScore() {
+        return teamTwoScore;
+    }
+
+    /**
+     * Points added by each scorer since the previous change delivered for this match, keyed by
+     * {@link SeasonStatistics#playerKey} in the order the scorers first scored.
+     */
+    public Map<String, Integer> getGoalsByScorer() {
+        return goalsByScorer;
+    }
+
+    @Override
+    public String toString() {
+        return "MatchChange{" +
+                "matchId='" + matchId + '\'' +
+                ", types=" + types +
+                ", status=" + status +
+                ", teamOneScore=" + teamOneScore +
+                ", teamTwoScore=" + teamTwoScore +
+                ", goalsByScorer=" + goalsByScorer +
+                '}';
+    }
+}
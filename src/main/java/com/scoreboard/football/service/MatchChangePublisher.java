@@ -0,0 +1,226 @@
+package com.scoreboard.football.service;
+
+import com.scoreboard.football.FootballMatch;
+import com.scoreboard.football.common.MatchStatus;
+import com.scoreboard.football.modal.Player;
+import com.scoreboard.football.modal.Team;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link Flow.Publisher} of {@link MatchChange}s, fed as a {@link MatchListener}.
+ * <p>
+ * Every subscription keeps at most one pending change per match. Publishing merges into that entry
+ * and schedules delivery on the executor, so the thread that changed the match never runs subscriber
+ * code, and a slow subscriber's backlog is bounded by the number of matches rather than by the rate
+ * of goals. Changes are delivered in the order their match first became pending, honouring each
+ * subscriber's requested demand.
+ * <p>
+ * A subscriber that throws from {@code onNext}, asks for non-positive demand, or whose delivery the
+ * executor rejects has its subscription cancelled and receives {@code onError}, from the same serial
+ * drain that delivers its changes whenever possible.
+ */
+public class MatchChangePublisher implements Flow.Publisher<MatchChange>, MatchListener {
+    private final MatchManager matchManager;
+    private final Executor executor;
+    private final List<ChangeSubscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    public MatchChangePublisher(MatchManager matchManager, Executor executor) {
+        this.matchManager = matchManager;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super MatchChange> subscriber) {
+        ChangeSubscription subscription = new ChangeSubscription(subscriber);
+        subscriptions.add(subscription);
+        subscriber.onSubscribe(subscription);
+    }
+
+    @Override
+    public void matchAdded(String matchId, FootballMatch match) {
+        publish(matchId, match, MatchChange.Type.ADDED);
+    }
+
+    @Override
+    public void matchRemoved(String matchId, FootballMatch match) {
+        publish(matchId, match, MatchChange.Type.REMOVED);
+    }
+
+    @Override
+    public void matchUpdated(String matchId, FootballMatch previousMatch, FootballMatch match) {
+        publish(matchId, match, MatchChange.Type.ROSTER);
+    }
+
+    @Override
+    public void matchStatusChanged(String matchId, FootballMatch match, MatchStatus previousStatus, MatchStatus newStatus) {
+        publish(matchId, match, MatchChange.Type.STATUS);
+    }
+
+    @Override
+    public void goalScored(String matchId, Team team, Player scorer, int points) {
+        FootballMatch match = matchManager.findMatch(matchId);
+        if (match == null || subscriptions.isEmpty()) {
+            return;
+        }
+        Map<String, Integer> goalsByScorer = scorer == null
+                ? Map.of()
+                : Map.of(SeasonStatistics.playerKey(team.getName(), scorer.getName()), points);
+        offer(new MatchChange(matchId, Set.of(MatchChange.Type.GOAL), match.getMatchStatus(),
+                match.getTeamOne().getScore(), match.getTeamTwo().getScore(), goalsByScorer));
+    }
+
+    @Override
+    public void playerAdded(String matchId, Team team, Player player) {
+        publish(matchId, matchManager.findMatch(matchId), MatchChange.Type.ROSTER);
+    }
+
+    @Override
+    public void playerRemoved(String matchId, Team team, Player player) {
+        publish(matchId, matchManager.findMatch(matchId), MatchChange.Type.ROSTER);
+    }
+
+    private void publish(String matchId, FootballMatch match, MatchChange.Type type) {
+        if (match == null || subscriptions.isEmpty()) {
+            return;
+        }
+        offer(new MatchChange(matchId, Set.of(type), match.getMatchStatus(),
+                match.getTeamOne().getScore(), match.getTeamTwo().getScore()));
+    }
+
+    private void offer(MatchChange change) {
+        for (ChangeSubscription subscription : subscriptions) {
+            subscription.offer(change);
+        }
+    }
+
+    private final class ChangeSubscription implements Flow.Subscription, Runnable {
+        private final Flow.Subscriber<? super MatchChange> subscriber;
+        private final Map<String, MatchChange> pending = new LinkedHashMap<>();
+        private final AtomicInteger scheduled = new AtomicInteger();
+        private long demand;
+        private boolean cancelled;
+        private Throwable error;
+
+        private ChangeSubscription(Flow.Subscriber<? super MatchChange> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            synchronized (this) {
+                if (n <= 0) {
+                    if (error == null) {
+                        error = new IllegalArgumentException("Requested demand must be positive: " + n);
+                    }
+                } else {
+                    demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                }
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (this) {
+                cancelled = true;
+                pending.clear();
+            }
+            subscriptions.remove(this);
+        }
+
+        private void offer(MatchChange change) {
+            synchronized (this) {
+                if (cancelled) {
+                    return;
+                }
+                pending.merge(change.getMatchId(), change, MatchChange::mergeWith);
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this);
+                } catch (RejectedExecutionException e) {
+                    // No drain is running, so this thread may signal; later schedules find the
+                    // subscription cancelled.
+                    try {
+                        fail(e);
+                    } finally {
+                        scheduled.set(0);
+                    }
+                }
+            }
+        }
+
+        // Runs on the executor; the scheduled counter guarantees a single drain at a time, which keeps
+        // signals serial as Flow requires. A drain never throws, so the counter always returns to zero.
+        @Override
+        public void run() {
+            int missed = scheduled.get();
+            while (true) {
+                drain();
+                missed = scheduled.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                MatchChange next;
+                Throwable failure;
+                synchronized (this) {
+                    if (cancelled) {
+                        return;
+                    }
+                    failure = error;
+                    next = null;
+                    if (failure == null) {
+                        if (demand == 0 || pending.isEmpty()) {
+                            return;
+                        }
+                        Iterator<MatchChange> iterator = pending.values().iterator();
+                        next = iterator.next();
+                        iterator.remove();
+                        if (demand != Long.MAX_VALUE) {
+                            demand--;
+                        }
+                    }
+                }
+                if (failure != null) {
+                    fail(failure);
+                    return;
+                }
+                try {
+                    subscriber.onNext(next);
+                } catch (Throwable e) {
+                    // Rule 2.13: a subscriber that throws is treated as having cancelled.
+                    fail(e);
+                    return;
+                }
+            }
+        }
+
+        private void fail(Throwable failure) {
+            cancel();
+            try {
+                subscriber.onError(failure);
+            } catch (Throwable ignored) {
+                // The subscription is already cancelled; there is nobody left to report this to.
+            }
+        }
+    }
+}
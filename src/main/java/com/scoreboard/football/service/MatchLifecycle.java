@@ -0,0 +1,223 @@
+package com.scoreboard.football.service;
+
+import com.scoreboard.football.FootballMatch;
+import com.scoreboard.football.common.MatchStatus;
+import com.scoreboard.football.common.MatchValidationException;
+import com.scoreboard.football.common.MatchValidator;
+
+import java.io.Closeable;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Drives matches through their lifecycle: kick-off, half-time, second half and full-time. Manual
+ * transitions go through {@link MatchManager#transitionMatchStatus}, so only the moves allowed by
+ * {@link MatchStatus#canTransitionTo} are accepted.
+ * <p>
+ * Scheduled matches are moved automatically at their start time and at the end of each half. Every
+ * scheduled match has one pending timeout in a {@link TimingWheel} advanced by a single ticker thread,
+ * so thousands of scheduled matches cost no more threads or timers than one. A phase is skipped when
+ * the match has already been moved past it by hand, and the schedule is dropped when the match is
+ * removed or completed.
+ * <p>
+ * The lifecycle registers itself as a listener of the manager; {@link #close()} unregisters it and
+ * stops the ticker.
+ */
+public class MatchLifecycle implements MatchListener, Closeable {
+    private static final long TICK_MILLIS = 1000;
+
+    private final MatchManager matchManager;
+    private final Clock clock;
+    private final Duration halfLength;
+    private final Duration halfTimeBreak;
+    private final TimingWheel wheel;
+    private final Map<String, ScheduledPhase> scheduled = new ConcurrentHashMap<>();
+    private final Thread ticker;
+    private volatile boolean closed;
+
+    public MatchLifecycle(MatchManager matchManager) {
+        this(matchManager, Duration.ofMinutes(45), Duration.ofMinutes(15));
+    }
+
+    public MatchLifecycle(MatchManager matchManager, Duration halfLength, Duration halfTimeBreak) {
+        this(matchManager, Clock.systemDefaultZone(), halfLength, halfTimeBreak, true);
+    }
+
+    MatchLifecycle(MatchManager matchManager, Clock clock, Duration halfLength, Duration halfTimeBreak, boolean startTicker) {
+        if (halfLength.isNegative() || halfLength.isZero() || halfTimeBreak.isNegative()) {
+            throw new IllegalArgumentException("Invalid match timing: " + halfLength + ", " + halfTimeBreak);
+        }
+        this.matchManager = matchManager;
+        this.clock = clock;
+        this.halfLength = halfLength;
+        this.halfTimeBreak = halfTimeBreak;
+        this.wheel = new TimingWheel(TICK_MILLIS, clock.millis());
+        matchManager.addListener(this);
+        if (startTicker) {
+            this.ticker = new Thread(this::tickLoop, "match-lifecycle-ticker");
+            this.ticker.setDaemon(true);
+            this.ticker.start();
+        } else {
+            this.ticker = null;
+        }
+    }
+
+    public void startMatch(String matchId) {
+        matchManager.transitionMatchStatus(matchId, MatchStatus.IN_PROGRESS);
+    }
+
+    public void pauseMatch(String matchId) {
+        matchManager.transitionMatchStatus(matchId, MatchStatus.PAUSED);
+    }
+
+    public void resumeMatch(String matchId) {
+        matchManager.transitionMatchStatus(matchId, MatchStatus.IN_PROGRESS);
+    }
+
+    public void endMatch(String matchId) {
+        matchManager.transitionMatchStatus(matchId, MatchStatus.COMPLETED);
+    }
+
+    /**
+     * Kicks the match off at its start time, pauses it for half-time and ends it at full-time. A match
+     * whose start time has passed kicks off on the next tick. Replaces any earlier schedule of the match.
+     */
+    public void scheduleMatch(String matchId) {
+        FootballMatch match = matchManager.findMatch(matchId);
+        MatchValidator.validateMatchExists(matchId, match);
+        schedule(matchId, match, Phase.KICK_OFF);
+    }
+
+    /**
+     * Returns {@code false} if the match had no pending automatic transition.
+     */
+    public boolean cancelSchedule(String matchId) {
+        ScheduledPhase phase = scheduled.remove(matchId);
+        if (phase == null) {
+            return false;
+        }
+        phase.cancel();
+        return true;
+    }
+
+    public int getScheduledMatchCount() {
+        return scheduled.size();
+    }
+
+    @Override
+    public void matchRemoved(String matchId, FootballMatch match) {
+        ScheduledPhase phase = scheduled.get(matchId);
+        if (phase != null && phase.match == match && scheduled.remove(matchId, phase)) {
+            phase.cancel();
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        matchManager.removeListener(this);
+        if (ticker != null) {
+            ticker.interrupt();
+        }
+    }
+
+    /**
+     * Runs the transitions that have fallen due. Called by the ticker thread.
+     */
+    void advance() {
+        wheel.advanceTo(clock.millis());
+    }
+
+    private void tickLoop() {
+        while (!closed) {
+            try {
+                Thread.sleep(TICK_MILLIS);
+            } catch (InterruptedException e) {
+                return;
+            }
+            advance();
+        }
+    }
+
+    private void schedule(String matchId, FootballMatch match, Phase phase) {
+        long startMillis = match.getStartTime().atZone(clock.getZone()).toInstant().toEpochMilli();
+        long deadline = startMillis + phase.offset(halfLength, halfTimeBreak).toMillis();
+        ScheduledPhase scheduledPhase = new ScheduledPhase(match, phase);
+        ScheduledPhase replaced = scheduled.put(matchId, scheduledPhase);
+        if (replaced != null) {
+            replaced.cancel();
+        }
+        scheduledPhase.timeout = wheel.schedule(deadline, () -> fire(matchId, scheduledPhase));
+    }
+
+    // The registry entry decides: a phase that was cancelled or replaced is no longer mapped, even if
+    // its timeout fired before it could be cancelled.
+    private void fire(String matchId, ScheduledPhase scheduledPhase) {
+        if (!scheduled.remove(matchId, scheduledPhase) || matchManager.findMatch(matchId) != scheduledPhase.match) {
+            return;
+        }
+        FootballMatch match = scheduledPhase.match;
+        Phase phase = scheduledPhase.phase;
+        if (match.getMatchStatus().canTransitionTo(phase.status)) {
+            try {
+                matchManager.transitionMatchStatus(matchId, phase.status);
+            } catch (MatchValidationException e) {
+                // Moved or removed concurrently; the checks below decide whether to go on.
+            }
+        }
+        Phase next = phase.next();
+        if (next != null && match.getMatchStatus() != MatchStatus.COMPLETED && matchManager.findMatch(matchId) == match) {
+            schedule(matchId, match, next);
+        }
+    }
+
+    private enum Phase {
+        KICK_OFF(MatchStatus.IN_PROGRESS),
+        HALF_TIME(MatchStatus.PAUSED),
+        SECOND_HALF(MatchStatus.IN_PROGRESS),
+        FULL_TIME(MatchStatus.COMPLETED);
+
+        private final MatchStatus status;
+
+        Phase(MatchStatus status) {
+            this.status = status;
+        }
+
+        private Duration offset(Duration halfLength, Duration halfTimeBreak) {
+            switch (this) {
+                case KICK_OFF:
+                    return Duration.ZERO;
+                case HALF_TIME:
+                    return halfLength;
+                case SECOND_HALF:
+                    return halfLength.plus(halfTimeBreak);
+                default:
+                    return halfLength.multipliedBy(2).plus(halfTimeBreak);
+            }
+        }
+
+        private Phase next() {
+            return this == FULL_TIME ? null : values()[ordinal() + 1];
+        }
+    }
+
+    private static final class ScheduledPhase {
+        private final FootballMatch match;
+        private final Phase phase;
+        private volatile TimingWheel.Timeout timeout;
+
+        private ScheduledPhase(FootballMatch match, Phase phase) {
+            this.match = match;
+            this.phase = phase;
+        }
+
+        private void cancel() {
+            TimingWheel.Timeout pending = timeout;
+            if (pending != null) {
+                pending.cancel();
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.scoreboard.football.service;
+
+import com.scoreboard.football.FootballMatch;
+import com.scoreboard.football.common.MatchStatus;
+import com.scoreboard.football.modal.Player;
+import com.scoreboard.football.modal.Team;
+
+/**
+ * Callback for changes applied through a {@link MatchManager}. Match lifecycle callbacks run while
+ * the registry entry is locked, so for any one match they are delivered in the order the changes
+ * happened; listeners must therefore be quick and must not call back into the manager. The scorer
+ * passed to {@link #goalScored} is {@code null} when the goal was credited to the team only.
+ * <p>
+ * A callback is made once the change is in place. If it throws, the change still stands, the other
+ * listeners are still notified and the caller does not see the exception; it is only counted in
+ * {@link com.scoreboard.football.metrics.MatchManagerMetrics#getListenerFailures()}.
+ */
+public interface MatchListener {
+    default void matchAdded(String matchId, FootballMatch match) {
+    }
+
+    default void matchRemoved(String matchId, FootballMatch match) {
+    }
+
+    default void matchUpdated(String matchId, FootballMatch previousMatch, FootballMatch match) {
+        matchRemoved(matchId, previousMatch);
+        matchAdded(matchId, match);
+    }
+
+    /**
+     * The match left the live registry for the off-heap archive, where it can still be read through
+     * {@link MatchManager#getArchivedMatch}. By default it is treated as a removal.
+     */
+    default void matchArchived(String matchId, FootballMatch match) {
+        matchRemoved(matchId, match);
+    }
+
+    default void archivedMatchRemoved(String matchId) {
+    }
+
+    default void matchStatusChanged(String matchId, FootballMatch match, MatchStatus previousStatus, MatchStatus newStatus) {
+    }
+
+    default void goalScored(String matchId, Team team, Player scorer, int points) {
+    }
+
+    default void playerAdded(String matchId, Team team, Player player) {
+    }
+
+    default void playerRemoved(String matchId, Team team, Player player) {
+    }
+}
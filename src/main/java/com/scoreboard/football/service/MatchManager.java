@@ -1,92 +1,840 @@
 package com.scoreboard.football.service;
 
 import com.scoreboard.football.FootballMatch;
+import com.scoreboard.football.MatchStatusListener;
+import com.scoreboard.football.common.MatchIdGenerator;
+import com.scoreboard.football.common.MatchStatus;
+import com.scoreboard.football.common.MatchValidationException;
 import com.scoreboard.football.common.MatchValidator;
+import com.scoreboard.football.metrics.MatchManagerMetrics;
+import com.scoreboard.football.metrics.MatchOperation;
+import com.scoreboard.football.modal.RosterListener;
 import com.scoreboard.football.modal.Team;
 import com.scoreboard.football.modal.Player;
 
 import java.time.LocalDateTime;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
+/**
+ * Registry of football matches. All operations are safe to call from concurrent feed threads:
+ * matches live in a {@link ConcurrentHashMap}, every method resolves its match with a single
+ * lookup before validating it, and goals are applied through atomic team and player counters.
+ * Registry changes run inside {@link ConcurrentHashMap#compute} so the player index is always
+ * updated together with the match it belongs to.
+ * <p>
+ * Every operation on matches is timed and its failures counted in {@link #getMetrics()}; only the
+ * presence checks {@link #hasMatch} and {@link #hasArchivedMatch}, which sit on the hot paths of
+ * callers and cannot fail, are not instrumented.
+ * <p>
+ * Matches whose id is in the compact form of {@link MatchIdGenerator} are also indexed by the numeric
+ * id, so feeds that carry 64-bit ids can use the {@code long} overloads without building strings.
+ * The numeric index sits beside the string-keyed registry, which stays the primary store: it saves
+ * string hashing on those lookups, but costs an extra table entry per match rather than saving memory.
+ * <p>
+ * Finished matches can be archived: their status and team and player scores move into an off-heap
+ * table and the match object graph is released, so heap use and GC pauses do not grow with the number
+ * of matches retained for the season. The archive is lossy: names, title and start time are not kept
+ * and players are identified by jersey number only. Listeners see an archived match through
+ * {@link MatchListener#matchArchived} rather than as a removal.
+ * <p>
+ * Registered matches are also indexed by start time and by status, so the live and upcoming matches
+ * are found in O(log n + k) for k results instead of by scanning every match.
+ */
 public class MatchManager {
-    private Map<String, FootballMatch> matches;
+    private final Map<String, FootballMatch> matches;
+    private final Map<String, TrackedMatch> trackedMatches;
+    private final LongKeyedTable<TrackedMatch> compactMatches;
+    private final OffHeapScoreTable archive;
+    private final Map<String, Long> archiveHandles;
+    private final PlayerIndex playerIndex;
+    private final MatchScheduleIndex scheduleIndex;
+    private final List<MatchListener> listeners;
+    private final MatchManagerMetrics metrics;
+    private volatile MatchChangePublisher changePublisher;
 
     public MatchManager() {
-        this.matches = new HashMap<>();
+        this.matches = new ConcurrentHashMap<>();
+        this.trackedMatches = new ConcurrentHashMap<>();
+        this.compactMatches = new LongKeyedTable<>();
+        this.archive = new OffHeapScoreTable();
+        this.archiveHandles = new ConcurrentHashMap<>();
+        this.playerIndex = new PlayerIndex();
+        this.scheduleIndex = new MatchScheduleIndex();
+        this.listeners = new CopyOnWriteArrayList<>();
+        this.metrics = new MatchManagerMetrics();
+    }
+
+    public MatchManagerMetrics getMetrics() {
+        return metrics;
+    }
+
+    public void addListener(MatchListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(MatchListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Publisher of changes to every match, delivered on the common fork-join pool. Successive changes
+     * to one match are coalesced while a subscriber has no outstanding demand. Only changes made after
+     * the first call are published.
+     */
+    public Flow.Publisher<MatchChange> changes() {
+        MatchChangePublisher publisher = changePublisher;
+        if (publisher == null) {
+            synchronized (this) {
+                publisher = changePublisher;
+                if (publisher == null) {
+                    publisher = new MatchChangePublisher(this, ForkJoinPool.commonPool());
+                    addListener(publisher);
+                    changePublisher = publisher;
+                }
+            }
+        }
+        return publisher;
     }
 
     public void addMatch(String matchId, FootballMatch match) {
-        MatchValidator.validateMatchId(matchId, matches);
-        MatchValidator.validateTeamSize(match.getTeamOne());
-        MatchValidator.validateTeamSize(match.getTeamTwo());
-        matches.put(matchId, match);
+        long start = System.nanoTime();
+        try {
+            MatchValidator.validateMatchId(matchId, matches);
+            MatchValidator.validateTeamSize(match.getTeamOne());
+            MatchValidator.validateTeamSize(match.getTeamTwo());
+            register(matchId, match);
+        } catch (RuntimeException e) {
+            metrics.recordFailure(MatchOperation.ADD_MATCH, e);
+            throw e;
+        } finally {
+            metrics.recordLatency(MatchOperation.ADD_MATCH, start);
+        }
+    }
+
+    /**
+     * Registers a match restored from persisted state. The roster size check is skipped because the
+     * match passed it when it was first added and its rosters may have changed since.
+     */
+    public void restoreMatch(String matchId, FootballMatch match) {
+        long start = System.nanoTime();
+        try {
+            register(matchId, match);
+        } catch (RuntimeException e) {
+            metrics.recordFailure(MatchOperation.RESTORE_MATCH, e);
+            throw e;
+        } finally {
+            metrics.recordLatency(MatchOperation.RESTORE_MATCH, start);
+        }
     }
 
     public void updateMatch(String matchId, FootballMatch updatedMatch) {
-        MatchValidator.validateMatchExists(matchId, matches);
-        matches.put(matchId, updatedMatch);
+        long start = System.nanoTime();
+        try {
+            matches.compute(matchId, (id, existing) -> {
+                MatchValidator.validateMatchExists(id, existing);
+                untrack(id);
+                track(id, updatedMatch);
+                notifyListeners(listener -> listener.matchUpdated(id, existing, updatedMatch));
+                return updatedMatch;
+            });
+        } catch (RuntimeException e) {
+            metrics.recordFailure(MatchOperation.UPDATE_MATCH, e);
+            throw e;
+        } finally {
+            metrics.recordLatency(MatchOperation.UPDATE_MATCH, start);
+        }
     }
 
     public void removeMatch(String matchId) {
-        MatchValidator.validateMatchExists(matchId, matches);
-        MatchValidator.validateMatchNotInProgress(matchId, matches);
-        matches.remove(matchId);
+        long start = System.nanoTime();
+        try {
+            matches.compute(matchId, (id, existing) -> {
+                MatchValidator.validateMatchExists(id, existing);
+                MatchValidator.validateMatchNotInProgress(id, existing);
+                untrack(id);
+                notifyListeners(listener -> listener.matchRemoved(id, existing));
+                return null;
+            });
+        } catch (RuntimeException e) {
+            metrics.recordFailure(MatchOperation.REMOVE_MATCH, e);
+            throw e;
+        } finally {
+            metrics.recordLatency(MatchOperation.REMOVE_MATCH, start);
+        }
+    }
+
+    /**
+     * Moves a match that is not in progress out of the live registry into the off-heap archive and
+     * notifies {@link MatchListener#matchArchived}. Only scores are kept, and rosters only up to 11
+     * players per team; see {@link ArchivedMatch} for what is lost.
+     */
+    public void archiveMatch(String matchId) {
+        long start = System.nanoTime();
+        try {
+            matches.compute(matchId, (id, existing) -> {
+                MatchValidator.validateMatchExists(id, existing);
+                MatchValidator.validateMatchNotInProgress(id, existing);
+                untrack(id);
+                long handle = archive.allocate(existing.getMatchStatus(), existing.getTeamOne(), existing.getTeamTwo());
+                Long replaced = archiveHandles.put(id, handle);
+                if (replaced != null) {
+                    archive.free(replaced);
+                }
+                notifyListeners(listener -> listener.matchArchived(id, existing));
+                return null;
+            });
+        } catch (RuntimeException e) {
+            metrics.recordFailure(MatchOperation.ARCHIVE_MATCH, e);
+            throw e;
+        } finally {
+            metrics.recordLatency(MatchOperation.ARCHIVE_MATCH, start);
+        }
+    }
+
+    public ArchivedMatch getArchivedMatch(String matchId) {
+        long start = System.nanoTime();
+        try {
+            Long handle = archiveHandles.get(matchId);
+            // A concurrent removal can free the record between the lookup and the read.
+            ArchivedMatch archived = handle == null ? null : archive.read(matchId, handle);
+            MatchValidator.validateArchivedMatchExists(matchId, archived == null ? null : handle);
+            return archived;
+        } catch (RuntimeException e) {
+            metrics.recordFailure(MatchOperation.GET_ARCHIVED_MATCH, e);
+            throw e;
+        } finally {
+            metrics.recordLatency(MatchOperation.GET_ARCHIVED_MATCH, start);
+        }
+    }
+
+    public void setArchivedMatchStatus(String matchId, MatchStatus matchStatus) {
+        long start = System.nanoTime();
+        try {
+            Long handle = archiveHandles.get(matchId);
+            MatchValidator.validateArchivedMatchExists(matchId, handle != null && archive.setStatus(handle, matchStatus) ? handle : null);
+        } catch (RuntimeException e) {
+            metrics.recordFailure(MatchOperation.SET_ARCHIVED_MATCH_STATUS, e);
+            throw e;
+        } finally {
+            metrics.recordLatency(MatchOperation.SET_ARCHIVED_MATCH_STATUS, start);
+        }
+    }
+
+    public void removeArchivedMatch(String matchId) {
+        long start = System.nanoTime();
+        try {
+            archiveHandles.compute(matchId, (id, handle) -> {
+                MatchValidator.validateArchivedMatchExists(id, handle);
+                archive.free(handle);
+                notifyListeners(listener -> listener.archivedMatchRemoved(id));
+                return null;
+            });
+        } catch (RuntimeException e) {
+            metrics.recordFailure(MatchOperation.REMOVE_ARCHIVED_MATCH, e);
+            throw e;
+        } finally {
+            metrics.recordLatency(MatchOperation.REMOVE_ARCHIVED_MATCH, start);
+        }
+    }
+
+    /**
+     * Puts a copy of an archived match, such as one read from a snapshot, into the archive without
+     * notifying listeners, replacing any archived match with the same id.
+     */
+    public void restoreArchivedMatch(ArchivedMatch match) {
+        long start = System.nanoTime();
+        try {
+            archiveHandles.compute(match.getMatchId(), (id, replaced) -> {
+                if (replaced != null) {
+                    archive.free(replaced);
+                }
+                return archive.allocate(match);
+            });
+        } catch (RuntimeException e) {
+            metrics.recordFailure(MatchOperation.RESTORE_ARCHIVED_MATCH, e);
+            throw e;
+        } finally {
+            metrics.recordLatency(MatchOperation.RESTORE_ARCHIVED_MATCH, start);
+        }
+    }
+
+    /**
+     * Visits every archived match. Matches archived or removed during the walk may or may not be seen.
+     */
+    public void forEachArchivedMatch(Consumer<ArchivedMatch> action) {
+        long start = System.nanoTime();
+        try {
+            archiveHandles.forEach((matchId, handle) -> {
+                ArchivedMatch archived = archive.read(matchId, handle);
+                if (archived != null) {
+                    action.accept(archived);
+                }
+            });
+        } catch (RuntimeException e) {
+            metrics.recordFailure(MatchOperation.FOR_EACH_ARCHIVED_MATCH, e);
+            throw e;
+        } finally {
+            metrics.recordLatency(MatchOperation.FOR_EACH_ARCHIVED_MATCH, start);
+        }
+    }
+
+    public boolean hasArchivedMatch(String matchId) {
+        return archiveHandles.containsKey(matchId);
+    }
+
+    public int getArchivedMatchCount() {
+        long start = System.nanoTime();
+        try {
+            return archiveHandles.size();
+        } finally {
+            metrics.recordLatency(MatchOperation.GET_ARCHIVED_MATCH_COUNT, start);
+        }
     }
 
     public Map<String, FootballMatch> getAllMatches() {
-        MatchValidator.validateMatchesNotEmpty(matches);
-        return matches;
+        long start = System.nanoTime();
+        try {
+            MatchValidator.validateMatchesNotEmpty(matches);
+            return matches;
+        } catch (RuntimeException e) {
+            metrics.recordFailure(MatchOperation.GET_ALL_MATCHES, e);
+            throw e;
+        } finally {
+            metrics.recordLatency(MatchOperation.GET_ALL_MATCHES, start);
+        }
     }
 
-    public FootballMatch getMatchDetails(String matchId) {
-        MatchValidator.validateMatchExists(matchId, matches);
+    public int getMatchCount() {
+        long start = System.nanoTime();
+        try {
+            return matches.size();
+        } finally {
+            metrics.recordLatency(MatchOperation.GET_MATCH_COUNT, start);
+        }
+    }
+
+    public void forEachMatch(BiConsumer<String, FootballMatch> action) {
+        long start = System.nanoTime();
+        try {
+            matches.forEach(action);
+        } catch (RuntimeException e) {
+            metrics.recordFailure(MatchOperation.FOR_EACH_MATCH, e);
+            throw e;
+        } finally {
+            metrics.recordLatency(MatchOperation.FOR_EACH_MATCH, start);
+        }
+    }
+
+    public boolean hasMatch(String matchId) {
+        return matches.containsKey(matchId);
+    }
+
+    public boolean hasMatch(long matchId) {
+        return findCompactMatch(matchId) != null;
+    }
+
+    FootballMatch findMatch(String matchId) {
         return matches.get(matchId);
     }
 
+    public FootballMatch getMatchDetails(String matchId) {
+        long start = System.nanoTime();
+        try {
+            FootballMatch match = matches.get(matchId);
+            MatchValidator.validateMatchExists(matchId, match);
+            return match;
+        } catch (RuntimeException e) {
+            metrics.recordFailure(MatchOperation.GET_MATCH_DETAILS, e);
+            throw e;
+        } finally {
+            metrics.recordLatency(MatchOperation.GET_MATCH_DETAILS, start);
+        }
+    }
+
+    public FootballMatch getMatchDetails(long matchId) {
+        long start = System.nanoTime();
+        try {
+            TrackedMatch trackedMatch = findCompactMatch(matchId);
+            FootballMatch match = trackedMatch == null ? null : trackedMatch.match;
+            MatchValidator.validateMatchExists(MatchIdGenerator.toString(matchId), match);
+            return match;
+        } catch (RuntimeException e) {
+            metrics.recordFailure(MatchOperation.GET_MATCH_DETAILS, e);
+            throw e;
+        } finally {
+            metrics.recordLatency(MatchOperation.GET_MATCH_DETAILS, start);
+        }
+    }
+
+    public void setMatchStatus(String matchId, MatchStatus matchStatus) {
+        long start = System.nanoTime();
+        try {
+            FootballMatch match = matches.get(matchId);
+            MatchValidator.validateMatchExists(matchId, match);
+            match.setMatchStatus(matchStatus);
+        } catch (RuntimeException e) {
+            metrics.recordFailure(MatchOperation.SET_MATCH_STATUS, e);
+            throw e;
+        } finally {
+            metrics.recordLatency(MatchOperation.SET_MATCH_STATUS, start);
+        }
+    }
+
+    /**
+     * Moves a match to {@code matchStatus} if {@link MatchStatus#canTransitionTo} allows it from the
+     * current status. The check and the change are atomic with respect to other status changes.
+     */
+    public void transitionMatchStatus(String matchId, MatchStatus matchStatus) {
+        long start = System.nanoTime();
+        try {
+            FootballMatch match = matches.get(matchId);
+            MatchValidator.validateMatchExists(matchId, match);
+            synchronized (match) {
+                MatchValidator.validateStatusTransition(matchId, match.getMatchStatus(), matchStatus);
+                match.setMatchStatus(matchStatus);
+            }
+        } catch (RuntimeException e) {
+            metrics.recordFailure(MatchOperation.TRANSITION_MATCH_STATUS, e);
+            throw e;
+        } finally {
+            metrics.recordLatency(MatchOperation.TRANSITION_MATCH_STATUS, start);
+        }
+    }
+
     public void scoreGoal(String matchId, String playerName, Team team) {
-        MatchValidator.validateMatchExists(matchId, matches);
-        FootballMatch match = matches.get(matchId);
-        MatchValidator.validateTeamExistsInMatch(match, team);
-        int points = 1;
-        team.increaseScore(points, playerName);
+        long start = System.nanoTime();
+        try {
+            FootballMatch match = matches.get(matchId);
+            MatchValidator.validateMatchExists(matchId, match);
+            MatchValidator.validateTeamExistsInMatch(match, team);
+            applyGoals(matchId, trackedMatches.get(matchId), team, playerName, 1);
+        } catch (RuntimeException e) {
+            metrics.recordFailure(MatchOperation.SCORE_GOAL, e);
+            throw e;
+        } finally {
+            metrics.recordLatency(MatchOperation.SCORE_GOAL, start);
+        }
+    }
+
+    /**
+     * Scores a goal for the player wearing {@code playerNumber} in {@code team}. Unlike scoring by name,
+     * the scorer is found in constant time, and an unknown number is rejected before anything is
+     * credited.
+     */
+    public void scoreGoal(String matchId, int playerNumber, Team team) {
+        long start = System.nanoTime();
+        try {
+            FootballMatch match = matches.get(matchId);
+            MatchValidator.validateMatchExists(matchId, match);
+            scoreGoalByNumber(matchId, match, trackedMatches.get(matchId), playerNumber, team);
+        } catch (RuntimeException e) {
+            metrics.recordFailure(MatchOperation.SCORE_GOAL_BY_NUMBER, e);
+            throw e;
+        } finally {
+            metrics.recordLatency(MatchOperation.SCORE_GOAL_BY_NUMBER, start);
+        }
+    }
+
+    public void scoreGoal(long matchId, int playerNumber, Team team) {
+        long start = System.nanoTime();
+        try {
+            TrackedMatch trackedMatch = findCompactMatch(matchId);
+            String id = trackedMatch == null ? MatchIdGenerator.toString(matchId) : trackedMatch.matchId;
+            FootballMatch match = trackedMatch == null ? null : trackedMatch.match;
+            MatchValidator.validateMatchExists(id, match);
+            scoreGoalByNumber(id, match, trackedMatch, playerNumber, team);
+        } catch (RuntimeException e) {
+            metrics.recordFailure(MatchOperation.SCORE_GOAL_BY_NUMBER, e);
+            throw e;
+        } finally {
+            metrics.recordLatency(MatchOperation.SCORE_GOAL_BY_NUMBER, start);
+        }
+    }
+
+    /**
+     * Scores a burst of goals. Events are grouped by match so each match is looked up and validated
+     * once, and goals for the same scorer are applied as a single score change. The result list has
+     * one entry per event, in the order given, telling whether it was applied and why not.
+     */
+    public List<GoalResult> scoreGoals(Collection<GoalEvent> events) {
+        long start = System.nanoTime();
+        try {
+            List<GoalEvent> orderedEvents = new ArrayList<>(events);
+            GoalResult[] results = new GoalResult[orderedEvents.size()];
+            Map<String, List<Integer>> eventsByMatch = new LinkedHashMap<>();
+            for (int i = 0; i < orderedEvents.size(); i++) {
+                eventsByMatch.computeIfAbsent(orderedEvents.get(i).getMatchId(), id -> new ArrayList<>()).add(i);
+            }
+            eventsByMatch.forEach((matchId, eventIndexes) -> scoreMatchGoals(matchId, orderedEvents, eventIndexes, results));
+            return Arrays.asList(results);
+        } catch (RuntimeException e) {
+            metrics.recordFailure(MatchOperation.SCORE_GOALS, e);
+            throw e;
+        } finally {
+            metrics.recordLatency(MatchOperation.SCORE_GOALS, start);
+        }
     }
 
+    /**
+     * Returns the players of the match by score, highest first, as an unmodifiable list.
+     */
     public List<Player> getPlayersRanking(String matchId) {
-        MatchValidator.validateMatchExists(matchId, matches);
-        Comparator<Player> byScoreComparator = Comparator.comparing(Player::getScore).reversed();
-        return Stream.concat(
-                        matches.get(matchId).getTeamOne().getPlayers().stream(),
-                        matches.get(matchId).getTeamTwo().getPlayers().stream()
-                ).sorted(byScoreComparator)
-                .collect(Collectors.toList());
+        long start = System.nanoTime();
+        try {
+            return getTrackedMatch(matchId).ranking.getRanking();
+        } catch (RuntimeException e) {
+            metrics.recordFailure(MatchOperation.GET_PLAYERS_RANKING, e);
+            throw e;
+        } finally {
+            metrics.recordLatency(MatchOperation.GET_PLAYERS_RANKING, start);
+        }
+    }
+
+    public List<Player> getTopScorers(String matchId, int count) {
+        long start = System.nanoTime();
+        try {
+            return getTrackedMatch(matchId).ranking.getTopScorers(count);
+        } catch (RuntimeException e) {
+            metrics.recordFailure(MatchOperation.GET_TOP_SCORERS, e);
+            throw e;
+        } finally {
+            metrics.recordLatency(MatchOperation.GET_TOP_SCORERS, start);
+        }
+    }
+
+    Player findPlayer(String playerName) {
+        return playerIndex.getPlayer(playerName);
     }
 
     public Player getPlayerDetails(String playerName) {
-        MatchValidator.validateMatchesNotEmpty(matches);
-        for (FootballMatch match : matches.values()) {
-            for (Player player : match.getAllPlayers()) {
-                if (player.getName().equals(playerName)) {
-                    return player;
+        long start = System.nanoTime();
+        try {
+            MatchValidator.validateMatchesNotEmpty(matches);
+            Player player = playerIndex.getPlayer(playerName);
+            MatchValidator.validatePlayerExists(player, playerName);
+            return player;
+        } catch (RuntimeException e) {
+            metrics.recordFailure(MatchOperation.GET_PLAYER_DETAILS, e);
+            throw e;
+        } finally {
+            metrics.recordLatency(MatchOperation.GET_PLAYER_DETAILS, start);
+        }
+    }
+
+    public Player getPlayerDetails(String teamName, int playerNumber) {
+        long start = System.nanoTime();
+        try {
+            MatchValidator.validateMatchesNotEmpty(matches);
+            Player player = playerIndex.getPlayer(teamName, playerNumber);
+            MatchValidator.validatePlayerExists(player, teamName + " #" + playerNumber);
+            return player;
+        } catch (RuntimeException e) {
+            metrics.recordFailure(MatchOperation.GET_PLAYER_DETAILS, e);
+            throw e;
+        } finally {
+            metrics.recordLatency(MatchOperation.GET_PLAYER_DETAILS, start);
+        }
+    }
+
+    public List<FootballMatch> getPlayerMatches(String playerName) {
+        long start = System.nanoTime();
+        try {
+            List<FootballMatch> playerMatches = new ArrayList<>();
+            for (String matchId : playerIndex.getMatchIds(playerName)) {
+                FootballMatch match = matches.get(matchId);
+                if (match != null) {
+                    playerMatches.add(match);
                 }
             }
+            return playerMatches;
+        } catch (RuntimeException e) {
+            metrics.recordFailure(MatchOperation.GET_PLAYER_MATCHES, e);
+            throw e;
+        } finally {
+            metrics.recordLatency(MatchOperation.GET_PLAYER_MATCHES, start);
         }
-        throw new IllegalArgumentException("Player not found: " + playerName);
     }
 
     public List<String> getAllPlayers() {
-        MatchValidator.validateMatchesNotEmpty(matches);
-        return matches.values().stream()
-                .flatMap(match -> match.getAllPlayerNames().stream())
-                .collect(Collectors.toList());
+        long start = System.nanoTime();
+        try {
+            MatchValidator.validateMatchesNotEmpty(matches);
+            List<String> players = new ArrayList<>();
+            for (FootballMatch match : matches.values()) {
+                players.addAll(match.getAllPlayerNames());
+            }
+            return players;
+        } catch (RuntimeException e) {
+            metrics.recordFailure(MatchOperation.GET_ALL_PLAYERS, e);
+            throw e;
+        } finally {
+            metrics.recordLatency(MatchOperation.GET_ALL_PLAYERS, start);
+        }
     }
 
     public LocalDateTime getMatchStartTime(String matchId) {
-        MatchValidator.validateMatchExists(matchId, matches);
-        return matches.get(matchId).getStartTime();
+        long start = System.nanoTime();
+        try {
+            FootballMatch match = matches.get(matchId);
+            MatchValidator.validateMatchExists(matchId, match);
+            return match.getStartTime();
+        } catch (RuntimeException e) {
+            metrics.recordFailure(MatchOperation.GET_MATCH_START_TIME, e);
+            throw e;
+        } finally {
+            metrics.recordLatency(MatchOperation.GET_MATCH_START_TIME, start);
+        }
+    }
+
+    /**
+     * Matches currently in {@code matchStatus}, in start-time order.
+     */
+    public List<FootballMatch> getMatchesByStatus(MatchStatus matchStatus) {
+        long start = System.nanoTime();
+        try {
+            return scheduleIndex.getMatches(matchStatus);
+        } catch (RuntimeException e) {
+            metrics.recordFailure(MatchOperation.GET_MATCHES_BY_STATUS, e);
+            throw e;
+        } finally {
+            metrics.recordLatency(MatchOperation.GET_MATCHES_BY_STATUS, start);
+        }
+    }
+
+    /**
+     * Matches starting at or after {@code from} and before {@code to}, in start-time order.
+     */
+    public List<FootballMatch> getMatchesStartingBetween(LocalDateTime from, LocalDateTime to) {
+        long start = System.nanoTime();
+        try {
+            MatchValidator.validateTimeRange(from, to);
+            return scheduleIndex.getMatchesStartingBetween(from, to);
+        } catch (RuntimeException e) {
+            metrics.recordFailure(MatchOperation.GET_MATCHES_BY_START_TIME, e);
+            throw e;
+        } finally {
+            metrics.recordLatency(MatchOperation.GET_MATCHES_BY_START_TIME, start);
+        }
+    }
+
+    /**
+     * Matches in {@code matchStatus} starting at or after {@code from} and before {@code to}, in
+     * start-time order; for example the scheduled matches kicking off in the next hour.
+     */
+    public List<FootballMatch> getMatchesStartingBetween(MatchStatus matchStatus, LocalDateTime from, LocalDateTime to) {
+        long start = System.nanoTime();
+        try {
+            MatchValidator.validateTimeRange(from, to);
+            return scheduleIndex.getMatchesStartingBetween(matchStatus, from, to);
+        } catch (RuntimeException e) {
+            metrics.recordFailure(MatchOperation.GET_MATCHES_BY_START_TIME, e);
+            throw e;
+        } finally {
+            metrics.recordLatency(MatchOperation.GET_MATCHES_BY_START_TIME, start);
+        }
+    }
+
+    private void scoreMatchGoals(String matchId, List<GoalEvent> events, List<Integer> eventIndexes, GoalResult[] results) {
+        FootballMatch match = matchId == null ? null : matches.get(matchId);
+        try {
+            MatchValidator.validateMatchExists(matchId, match);
+        } catch (MatchValidationException e) {
+            metrics.recordValidationFailure(e.getRule());
+            eventIndexes.forEach(index -> results[index] = GoalResult.rejected(events.get(index), e.getMessage()));
+            return;
+        }
+        Map<Team, Map<String, Integer>> goalsByTeam = new LinkedHashMap<>();
+        for (int index : eventIndexes) {
+            GoalEvent event = events.get(index);
+            try {
+                MatchValidator.validateTeamExistsInMatch(match, event.getTeam());
+            } catch (MatchValidationException e) {
+                metrics.recordValidationFailure(e.getRule());
+                results[index] = GoalResult.rejected(event, e.getMessage());
+                continue;
+            }
+            goalsByTeam.computeIfAbsent(event.getTeam(), team -> new LinkedHashMap<>())
+                    .merge(event.getPlayerName(), 1, Integer::sum);
+        }
+        TrackedMatch trackedMatch = trackedMatches.get(matchId);
+        Map<Team, Map<String, Player>> scorersByTeam = new HashMap<>();
+        goalsByTeam.forEach((team, goals) -> goals.forEach((playerName, points) ->
+                scorersByTeam.computeIfAbsent(team, t -> new HashMap<>())
+                        .put(playerName, applyGoals(matchId, trackedMatch, team, playerName, points))));
+        for (int index : eventIndexes) {
+            if (results[index] == null) {
+                GoalEvent event = events.get(index);
+                results[index] = GoalResult.applied(event, scorersByTeam.get(event.getTeam()).get(event.getPlayerName()));
+            }
+        }
+    }
+
+    private void scoreGoalByNumber(String matchId, FootballMatch match, TrackedMatch trackedMatch, int playerNumber, Team team) {
+        MatchValidator.validateTeamExistsInMatch(match, team);
+        MatchValidator.validatePlayerExists(team.getPlayerByNumber(playerNumber), team.getName() + " #" + playerNumber);
+        Player scorer = team.increaseScore(1, playerNumber);
+        goalsApplied(matchId, trackedMatch, team, scorer, 1);
+    }
+
+    private Player applyGoals(String matchId, TrackedMatch trackedMatch, Team team, String playerName, int points) {
+        Player scorer = team.increaseScore(points, playerName);
+        goalsApplied(matchId, trackedMatch, team, scorer, points);
+        return scorer;
+    }
+
+    private void goalsApplied(String matchId, TrackedMatch trackedMatch, Team team, Player scorer, int points) {
+        if (scorer != null && trackedMatch != null) {
+            trackedMatch.ranking.scoreChanged(scorer);
+        }
+        notifyListeners(listener -> listener.goalScored(matchId, team, scorer, points));
+    }
+
+    // Listeners are told about a change after it has been applied, so one that throws must not undo
+    // it, nor keep the others from hearing about it; its failure is only counted.
+    private void notifyListeners(Consumer<MatchListener> notification) {
+        for (MatchListener listener : listeners) {
+            try {
+                notification.accept(listener);
+            } catch (RuntimeException e) {
+                metrics.recordListenerFailure();
+            }
+        }
+    }
+
+    private void register(String matchId, FootballMatch match) {
+        matches.compute(matchId, (id, existing) -> {
+            MatchValidator.validateMatchNotDuplicate(id, existing);
+            track(id, match);
+            notifyListeners(listener -> listener.matchAdded(id, match));
+            return match;
+        });
+    }
+
+    private TrackedMatch getTrackedMatch(String matchId) {
+        TrackedMatch trackedMatch = trackedMatches.get(matchId);
+        MatchValidator.validateMatchExists(matchId, trackedMatch == null ? null : trackedMatch.match);
+        return trackedMatch;
+    }
+
+    /**
+     * Looks a match up by its numeric id. The entry is confirmed against the registry, so a match is
+     * only found once its registration is visible, exactly as for string lookups; the id string is the
+     * one already in the table, so the check costs no string hashing.
+     */
+    private TrackedMatch findCompactMatch(long matchId) {
+        TrackedMatch trackedMatch = compactMatches.get(matchId);
+        if (trackedMatch == null || matches.get(trackedMatch.matchId) != trackedMatch.match) {
+            return null;
+        }
+        return trackedMatch;
+    }
+
+    private void track(String matchId, FootballMatch match) {
+        TrackedMatch trackedMatch;
+        // Status changes and team swaps are synchronized on the match, so none can slip in between
+        // capturing the teams and current status and registering the listener that follows the status
+        // and refuses team swaps.
+        synchronized (match) {
+            trackedMatch = new TrackedMatch(matchId, match);
+            scheduleIndex.add(matchId, match, match.getMatchStatus());
+            match.addStatusListener(trackedMatch);
+        }
+        trackedMatches.put(matchId, trackedMatch);
+        if (MatchIdGenerator.isCompact(matchId)) {
+            compactMatches.put(MatchIdGenerator.parse(matchId), trackedMatch);
+        }
+        trackedMatch.attach(trackedMatch.teamOne);
+        trackedMatch.attach(trackedMatch.teamTwo);
+        trackedMatch.ranking.rebuild(trackedMatch.teamOne, trackedMatch.teamTwo);
+    }
+
+    private void untrack(String matchId) {
+        TrackedMatch trackedMatch = trackedMatches.remove(matchId);
+        if (MatchIdGenerator.isCompact(matchId)) {
+            compactMatches.remove(MatchIdGenerator.parse(matchId));
+        }
+        if (trackedMatch != null) {
+            synchronized (trackedMatch.match) {
+                trackedMatch.match.removeStatusListener(trackedMatch);
+                scheduleIndex.remove(matchId, trackedMatch.match, trackedMatch.match.getMatchStatus());
+            }
+            trackedMatch.detach(trackedMatch.teamOne);
+            trackedMatch.detach(trackedMatch.teamTwo);
+        }
+    }
+
+    /**
+     * Per-match bookkeeping kept alongside the registry entry. It remembers the teams the match had
+     * when it was registered, so listeners are detached from the same teams they were attached to, and
+     * refuses to let {@link FootballMatch#setTeamOne} or {@link FootballMatch#setTeamTwo} replace them
+     * while the match is registered; {@link #updateMatch} swaps teams by replacing the whole match.
+     */
+    private final class TrackedMatch implements RosterListener, MatchStatusListener {
+        private final String matchId;
+        private final FootballMatch match;
+        private final Team teamOne;
+        private final Team teamTwo;
+        private final PlayerRanking ranking;
+
+        private TrackedMatch(String matchId, FootballMatch match) {
+            this.matchId = matchId;
+            this.match = match;
+            this.ranking = new PlayerRanking();
+            this.teamOne = match.getTeamOne();
+            this.teamTwo = match.getTeamTwo();
+        }
+
+        // Roster changes are synchronized on the team, so holding its monitor here means no player
+        // can be added or removed between indexing the roster and (un)registering the listener.
+        private void attach(Team team) {
+            synchronized (team) {
+                playerIndex.indexTeam(matchId, team);
+                team.addRosterListener(this);
+            }
+        }
+
+        private void detach(Team team) {
+            synchronized (team) {
+                team.removeRosterListener(this);
+                playerIndex.unindexTeam(matchId, team);
+            }
+        }
+
+        @Override
+        public void playerAdded(Team team, Player player) {
+            playerIndex.indexPlayer(matchId, team, player);
+            ranking.rebuild(teamOne, teamTwo);
+            notifyListeners(listener -> listener.playerAdded(matchId, team, player));
+        }
+
+        @Override
+        public void playerRemoved(Team team, Player player) {
+            playerIndex.unindexPlayer(matchId, team, player);
+            ranking.rebuild(teamOne, teamTwo);
+            notifyListeners(listener -> listener.playerRemoved(matchId, team, player));
+        }
+
+        @Override
+        public boolean canReplaceTeam(FootballMatch match, Team currentTeam, Team newTeam) {
+            return false;
+        }
+
+        @Override
+        public void statusChanged(FootballMatch match, MatchStatus previousStatus, MatchStatus newStatus) {
+            scheduleIndex.statusChanged(matchId, match, previousStatus, newStatus);
+            notifyListeners(listener -> listener.matchStatusChanged(matchId, match, previousStatus, newStatus));
+        }
     }
 }
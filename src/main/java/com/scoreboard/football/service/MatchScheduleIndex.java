@@ -0,0 +1,79 @@
+package com.scoreboard.football.service;
+
+import com.scoreboard.football.FootballMatch;
+import com.scoreboard.football.common.MatchStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Secondary index of registered matches ordered by start time, overall and per status. Both are
+ * concurrent skip lists keyed by start time and match id, so a range of kick-off times or the matches
+ * in one status are found in O(log n) and read in start-time order without scanning the registry.
+ * <p>
+ * Callers keep a match in the status map that matches its current status by calling
+ * {@link #statusChanged} from its status listener, which runs under the match's monitor.
+ */
+class MatchScheduleIndex {
+    private static final Comparator<ScheduleKey> ORDER = Comparator
+            .comparing(ScheduleKey::startTime)
+            .thenComparing(ScheduleKey::matchId);
+
+    private final NavigableMap<ScheduleKey, FootballMatch> byStartTime = new ConcurrentSkipListMap<>(ORDER);
+    private final Map<MatchStatus, NavigableMap<ScheduleKey, FootballMatch>> byStatus = new EnumMap<>(MatchStatus.class);
+
+    MatchScheduleIndex() {
+        for (MatchStatus status : MatchStatus.values()) {
+            byStatus.put(status, new ConcurrentSkipListMap<>(ORDER));
+        }
+    }
+
+    void add(String matchId, FootballMatch match, MatchStatus status) {
+        ScheduleKey key = new ScheduleKey(match.getStartTime(), matchId);
+        byStartTime.put(key, match);
+        byStatus.get(status).put(key, match);
+    }
+
+    void remove(String matchId, FootballMatch match, MatchStatus status) {
+        ScheduleKey key = new ScheduleKey(match.getStartTime(), matchId);
+        byStartTime.remove(key, match);
+        byStatus.get(status).remove(key, match);
+    }
+
+    void statusChanged(String matchId, FootballMatch match, MatchStatus previousStatus, MatchStatus newStatus) {
+        ScheduleKey key = new ScheduleKey(match.getStartTime(), matchId);
+        if (byStatus.get(previousStatus).remove(key, match)) {
+            byStatus.get(newStatus).put(key, match);
+        }
+    }
+
+    List<FootballMatch> getMatches(MatchStatus status) {
+        return new ArrayList<>(byStatus.get(status).values());
+    }
+
+    /**
+     * Matches starting at or after {@code from} and before {@code to}, in start-time order.
+     */
+    List<FootballMatch> getMatchesStartingBetween(LocalDateTime from, LocalDateTime to) {
+        return range(byStartTime, from, to);
+    }
+
+    List<FootballMatch> getMatchesStartingBetween(MatchStatus status, LocalDateTime from, LocalDateTime to) {
+        return range(byStatus.get(status), from, to);
+    }
+
+    private static List<FootballMatch> range(NavigableMap<ScheduleKey, FootballMatch> index,
+                                             LocalDateTime from, LocalDateTime to) {
+        // The empty id sorts before every real id, so these keys bound the range at the given times.
+        return new ArrayList<>(index.subMap(new ScheduleKey(from, ""), true, new ScheduleKey(to, ""), false).values());
+    }
+
+    private record ScheduleKey(LocalDateTime startTime, String matchId) {
+    }
+}
@@ -0,0 +1,215 @@
+package com.scoreboard.football.service;
+
+import com.scoreboard.football.common.MatchStatus;
+import com.scoreboard.football.modal.Player;
+import com.scoreboard.football.modal.Team;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fixed-size match records in direct memory: status, both team scores and up to 11 players per team
+ * as jersey number and score. Records live in roughly 1 MB direct chunks that are never moved, so the heap
+ * holds only the chunk handles no matter how many matches are stored, and the garbage collector never
+ * scans or copies the data. Fields are read and written through a volatile {@link VarHandle} view.
+ * Scores are written once, when a record is allocated; afterwards only the status is ever updated, and
+ * only the jersey number and score of each player are kept, not names, titles or start times.
+ * <p>
+ * Slots are reused once freed, so a record is addressed by a handle that pairs the slot with the
+ * generation it was allocated in. Every allocation and free bumps the slot's generation: reads check
+ * it after copying the fields and give up if the slot changed hands meanwhile, and status updates and
+ * frees check it under the table lock.
+ */
+final class OffHeapScoreTable {
+    static final int PLAYERS_PER_TEAM = 11;
+
+    private static final VarHandle INT = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.nativeOrder());
+    private static final MatchStatus[] STATUSES = MatchStatus.values();
+
+    private static final int STATUS = 0;
+    private static final int TEAM_SCORES = 4;
+    private static final int PLAYER_COUNTS = 12;
+    private static final int PLAYERS = 20;
+    private static final int PLAYER_BYTES = 8;
+    private static final int TEAM_PLAYERS_BYTES = PLAYERS_PER_TEAM * PLAYER_BYTES;
+    private static final int GENERATION = PLAYERS + 2 * TEAM_PLAYERS_BYTES;
+    private static final int RECORD_BYTES = 200;
+    private static final int RECORDS_PER_CHUNK = 5242;
+    private static final int CHUNK_BYTES = RECORDS_PER_CHUNK * RECORD_BYTES;
+
+    // Replaced, never modified, when a chunk is added; a slot is handed out only after its chunk is published.
+    private volatile ByteBuffer[] chunks = new ByteBuffer[0];
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+    private int nextSlot;
+    private int size;
+
+    synchronized long allocate(MatchStatus status, Team teamOne, Team teamTwo) {
+        int slot = nextFreeSlot();
+        ByteBuffer chunk = chunkOf(slot);
+        int base = baseOf(slot);
+        int generation = nextGeneration(chunk, base);
+        INT.setVolatile(chunk, base + STATUS, status.ordinal());
+        writeTeam(chunk, base, 0, teamOne);
+        writeTeam(chunk, base, 1, teamTwo);
+        size++;
+        return handle(slot, generation);
+    }
+
+    synchronized long allocate(ArchivedMatch match) {
+        int slot = nextFreeSlot();
+        ByteBuffer chunk = chunkOf(slot);
+        int base = baseOf(slot);
+        int generation = nextGeneration(chunk, base);
+        INT.setVolatile(chunk, base + STATUS, match.getMatchStatus().ordinal());
+        writeTeam(chunk, base, 0, match.getTeamOneScore(), match.getTeamOnePlayerScores());
+        writeTeam(chunk, base, 1, match.getTeamTwoScore(), match.getTeamTwoPlayerScores());
+        size++;
+        return handle(slot, generation);
+    }
+
+    /**
+     * Frees the record behind {@code handle}. Returns {@code false} if it was already freed.
+     */
+    synchronized boolean free(long handle) {
+        int slot = slotOf(handle);
+        if (!isCurrent(handle)) {
+            return false;
+        }
+        nextGeneration(chunkOf(slot), baseOf(slot));
+        if (freeCount == freeSlots.length) {
+            int[] grown = new int[freeSlots.length * 2];
+            System.arraycopy(freeSlots, 0, grown, 0, freeCount);
+            freeSlots = grown;
+        }
+        freeSlots[freeCount++] = slot;
+        size--;
+        return true;
+    }
+
+    /**
+     * Copies the record behind {@code handle}, or returns {@code null} if it was freed before or while
+     * it was read.
+     */
+    ArchivedMatch read(String matchId, long handle) {
+        if (!isCurrent(handle)) {
+            return null;
+        }
+        ArchivedMatch match = new ArchivedMatch(matchId, this, slotOf(handle));
+        return isCurrent(handle) ? match : null;
+    }
+
+    /**
+     * Sets the status of the record behind {@code handle}. Returns {@code false} if it was freed.
+     */
+    synchronized boolean setStatus(long handle, MatchStatus status) {
+        if (!isCurrent(handle)) {
+            return false;
+        }
+        int slot = slotOf(handle);
+        INT.setVolatile(chunkOf(slot), baseOf(slot) + STATUS, status.ordinal());
+        return true;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    synchronized long getAllocatedBytes() {
+        return (long) chunks.length * CHUNK_BYTES;
+    }
+
+    MatchStatus getStatus(int slot) {
+        return STATUSES[(int) INT.getVolatile(chunkOf(slot), baseOf(slot) + STATUS)];
+    }
+
+    int getTeamScore(int slot, int team) {
+        return (int) INT.getVolatile(chunkOf(slot), baseOf(slot) + TEAM_SCORES + team * 4);
+    }
+
+    int getPlayerCount(int slot, int team) {
+        return (int) INT.getVolatile(chunkOf(slot), baseOf(slot) + PLAYER_COUNTS + team * 4);
+    }
+
+    int getPlayerNumber(int slot, int team, int position) {
+        return (int) INT.getVolatile(chunkOf(slot), playerOffset(slot, team, position));
+    }
+
+    int getPlayerScore(int slot, int team, int position) {
+        return (int) INT.getVolatile(chunkOf(slot), playerOffset(slot, team, position) + 4);
+    }
+
+    boolean isCurrent(long handle) {
+        int slot = slotOf(handle);
+        return (int) INT.getVolatile(chunkOf(slot), baseOf(slot) + GENERATION) == (int) (handle >>> 32);
+    }
+
+    static int slotOf(long handle) {
+        return (int) handle;
+    }
+
+    private int nextFreeSlot() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        int slot = nextSlot++;
+        if (slot / RECORDS_PER_CHUNK == chunks.length) {
+            ByteBuffer[] grown = Arrays.copyOf(chunks, chunks.length + 1);
+            grown[chunks.length] = ByteBuffer.allocateDirect(CHUNK_BYTES).order(ByteOrder.nativeOrder());
+            chunks = grown;
+        }
+        return slot;
+    }
+
+    private static int nextGeneration(ByteBuffer chunk, int base) {
+        return (int) INT.getAndAdd(chunk, base + GENERATION, 1) + 1;
+    }
+
+    private static long handle(int slot, int generation) {
+        return (long) generation << 32 | slot;
+    }
+
+    private void writeTeam(ByteBuffer chunk, int base, int team, Team source) {
+        List<Player> players = source.getPlayers();
+        int count = Math.min(players.size(), PLAYERS_PER_TEAM);
+        for (int position = 0; position < count; position++) {
+            int offset = base + PLAYERS + team * TEAM_PLAYERS_BYTES + position * PLAYER_BYTES;
+            INT.setVolatile(chunk, offset, players.get(position).getNumber());
+            INT.setVolatile(chunk, offset + 4, players.get(position).getScore());
+        }
+        INT.setVolatile(chunk, base + PLAYER_COUNTS + team * 4, count);
+        INT.setVolatile(chunk, base + TEAM_SCORES + team * 4, source.getScore());
+    }
+
+    private void writeTeam(ByteBuffer chunk, int base, int team, int score, Map<Integer, Integer> playerScores) {
+        int position = 0;
+        for (Map.Entry<Integer, Integer> player : playerScores.entrySet()) {
+            if (position == PLAYERS_PER_TEAM) {
+                break;
+            }
+            int offset = base + PLAYERS + team * TEAM_PLAYERS_BYTES + position * PLAYER_BYTES;
+            INT.setVolatile(chunk, offset, player.getKey());
+            INT.setVolatile(chunk, offset + 4, player.getValue());
+            position++;
+        }
+        INT.setVolatile(chunk, base + PLAYER_COUNTS + team * 4, position);
+        INT.setVolatile(chunk, base + TEAM_SCORES + team * 4, score);
+    }
+
+    private ByteBuffer chunkOf(int slot) {
+        return chunks[slot / RECORDS_PER_CHUNK];
+    }
+
+    private int playerOffset(int slot, int team, int position) {
+        return baseOf(slot) + PLAYERS + team * TEAM_PLAYERS_BYTES + position * PLAYER_BYTES;
+    }
+
+    private static int baseOf(int slot) {
+        return (slot % RECORDS_PER_CHUNK) * RECORD_BYTES;
+    }
+}
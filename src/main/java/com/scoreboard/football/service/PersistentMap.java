@@ -0,0 +1,267 @@
+package com.scoreboard.football.service;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Immutable hash array mapped trie. Every update returns a new map that shares all untouched nodes
+ * with the old one, so a put or remove copies at most seven small arrays whatever the size of the
+ * map. Keys and values must not be {@code null}.
+ */
+final class PersistentMap<K, V> {
+    private static final PersistentMap<?, ?> EMPTY = new PersistentMap<>(BitmapNode.EMPTY, 0);
+
+    private final Node root;
+    private final int size;
+
+    private PersistentMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <K, V> PersistentMap<K, V> empty() {
+        return (PersistentMap<K, V>) EMPTY;
+    }
+
+    int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(K key) {
+        return (V) root.get(0, hash(key), key);
+    }
+
+    PersistentMap<K, V> put(K key, V value) {
+        boolean[] added = new boolean[1];
+        Node newRoot = root.put(0, hash(key), key, value, added);
+        return newRoot == root ? this : new PersistentMap<>(newRoot, added[0] ? size + 1 : size);
+    }
+
+    PersistentMap<K, V> remove(K key) {
+        if (get(key) == null) {
+            return this;
+        }
+        Node newRoot = root.remove(0, hash(key), key);
+        return new PersistentMap<>(newRoot == null ? BitmapNode.EMPTY : newRoot, size - 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    void forEach(BiConsumer<? super K, ? super V> action) {
+        root.forEach((BiConsumer<Object, Object>) action);
+    }
+
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private interface Node {
+        Object get(int shift, int hash, Object key);
+
+        Node put(int shift, int hash, Object key, Object value, boolean[] added);
+
+        // Returns null once the node is empty.
+        Node remove(int shift, int hash, Object key);
+
+        void forEach(BiConsumer<Object, Object> action);
+    }
+
+    /**
+     * Up to 32 slots selected by five bits of the hash. Slots are stored densely as key/value pairs;
+     * a slot whose key is {@code null} holds a child node in place of the value.
+     */
+    private static final class BitmapNode implements Node {
+        private static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+        private final int bitmap;
+        private final Object[] array;
+
+        private BitmapNode(int bitmap, Object[] array) {
+            this.bitmap = bitmap;
+            this.array = array;
+        }
+
+        @Override
+        public Object get(int shift, int hash, Object key) {
+            int bit = bit(shift, hash);
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            int index = index(bit);
+            Object slotKey = array[index];
+            Object slotValue = array[index + 1];
+            if (slotKey == null) {
+                return ((Node) slotValue).get(shift + 5, hash, key);
+            }
+            return key.equals(slotKey) ? slotValue : null;
+        }
+
+        @Override
+        public Node put(int shift, int hash, Object key, Object value, boolean[] added) {
+            int bit = bit(shift, hash);
+            int index = index(bit);
+            if ((bitmap & bit) == 0) {
+                Object[] newArray = new Object[array.length + 2];
+                System.arraycopy(array, 0, newArray, 0, index);
+                newArray[index] = key;
+                newArray[index + 1] = value;
+                System.arraycopy(array, index, newArray, index + 2, array.length - index);
+                added[0] = true;
+                return new BitmapNode(bitmap | bit, newArray);
+            }
+            Object slotKey = array[index];
+            Object slotValue = array[index + 1];
+            if (slotKey == null) {
+                Node child = ((Node) slotValue).put(shift + 5, hash, key, value, added);
+                return child == slotValue ? this : withSlot(index, null, child);
+            }
+            if (key.equals(slotKey)) {
+                return value == slotValue ? this : withSlot(index, slotKey, value);
+            }
+            added[0] = true;
+            return withSlot(index, null, split(shift + 5, slotKey, slotValue, hash, key, value));
+        }
+
+        @Override
+        public Node remove(int shift, int hash, Object key) {
+            int bit = bit(shift, hash);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            int index = index(bit);
+            Object slotKey = array[index];
+            Object slotValue = array[index + 1];
+            if (slotKey == null) {
+                Node child = ((Node) slotValue).remove(shift + 5, hash, key);
+                if (child == slotValue) {
+                    return this;
+                }
+                return child == null ? withoutSlot(bit, index) : withSlot(index, null, child);
+            }
+            return key.equals(slotKey) ? withoutSlot(bit, index) : this;
+        }
+
+        @Override
+        public void forEach(BiConsumer<Object, Object> action) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (array[i] == null) {
+                    ((Node) array[i + 1]).forEach(action);
+                } else {
+                    action.accept(array[i], array[i + 1]);
+                }
+            }
+        }
+
+        private Node withSlot(int index, Object key, Object value) {
+            Object[] newArray = array.clone();
+            newArray[index] = key;
+            newArray[index + 1] = value;
+            return new BitmapNode(bitmap, newArray);
+        }
+
+        private Node withoutSlot(int bit, int index) {
+            if (bitmap == bit) {
+                return null;
+            }
+            Object[] newArray = new Object[array.length - 2];
+            System.arraycopy(array, 0, newArray, 0, index);
+            System.arraycopy(array, index + 2, newArray, index, newArray.length - index);
+            return new BitmapNode(bitmap ^ bit, newArray);
+        }
+
+        private int index(int bit) {
+            return 2 * Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        private static int bit(int shift, int hash) {
+            return 1 << ((hash >>> shift) & 31);
+        }
+
+        private static Node split(int shift, Object existingKey, Object existingValue, int hash, Object key, Object value) {
+            int existingHash = PersistentMap.hash(existingKey);
+            if (existingHash == hash) {
+                return new CollisionNode(hash, new Object[]{existingKey, existingValue, key, value});
+            }
+            boolean[] ignored = new boolean[1];
+            return EMPTY.put(shift, existingHash, existingKey, existingValue, ignored)
+                    .put(shift, hash, key, value, ignored);
+        }
+    }
+
+    /**
+     * Keys whose full 32-bit hashes are equal, kept as a flat list of key/value pairs.
+     */
+    private static final class CollisionNode implements Node {
+        private final int hash;
+        private final Object[] array;
+
+        private CollisionNode(int hash, Object[] array) {
+            this.hash = hash;
+            this.array = array;
+        }
+
+        @Override
+        public Object get(int shift, int hash, Object key) {
+            int index = indexOf(hash, key);
+            return index < 0 ? null : array[index + 1];
+        }
+
+        @Override
+        public Node put(int shift, int hash, Object key, Object value, boolean[] added) {
+            if (hash != this.hash) {
+                Node wrapper = new BitmapNode(BitmapNode.bit(shift, this.hash), new Object[]{null, this});
+                return wrapper.put(shift, hash, key, value, added);
+            }
+            int index = indexOf(hash, key);
+            if (index >= 0) {
+                if (array[index + 1] == value) {
+                    return this;
+                }
+                Object[] newArray = array.clone();
+                newArray[index + 1] = value;
+                return new CollisionNode(hash, newArray);
+            }
+            Object[] newArray = new Object[array.length + 2];
+            System.arraycopy(array, 0, newArray, 0, array.length);
+            newArray[array.length] = key;
+            newArray[array.length + 1] = value;
+            added[0] = true;
+            return new CollisionNode(hash, newArray);
+        }
+
+        @Override
+        public Node remove(int shift, int hash, Object key) {
+            int index = indexOf(hash, key);
+            if (index < 0) {
+                return this;
+            }
+            if (array.length == 2) {
+                return null;
+            }
+            Object[] newArray = new Object[array.length - 2];
+            System.arraycopy(array, 0, newArray, 0, index);
+            System.arraycopy(array, index + 2, newArray, index, newArray.length - index);
+            return new CollisionNode(hash, newArray);
+        }
+
+        @Override
+        public void forEach(BiConsumer<Object, Object> action) {
+            for (int i = 0; i < array.length; i += 2) {
+                action.accept(array[i], array[i + 1]);
+            }
+        }
+
+        private int indexOf(int hash, Object key) {
+            if (hash != this.hash) {
+                return -1;
+            }
+            for (int i = 0; i < array.length; i += 2) {
+                if (key.equals(array[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.scoreboard.football.service;
+
+import com.scoreboard.football.FootballMatch;
+import com.scoreboard.football.modal.Player;
+import com.scoreboard.football.modal.Team;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Secondary index of the players in registered matches, keyed by player name and by team name plus
+ * jersey number. Each key maps to the players carrying it per match id and team, so the same name can
+ * appear in many matches, and in both teams of one match, and removing one team never disturbs the
+ * entries of another. Almost every key belongs to a single team, so a key starts with a one-entry
+ * immutable map, far smaller than a concurrent map when millions of players are indexed, and is
+ * promoted to a {@link ConcurrentHashMap} when a second team shares it. Names common to many teams,
+ * such as "Goli" and "Skipper", then cost O(1) per change instead of a copy.
+ */
+class PlayerIndex {
+    private final Map<String, Map<TeamEntry, Player>> playersByName = new ConcurrentHashMap<>();
+    private final Map<TeamNumberKey, Map<TeamEntry, Player>> playersByTeamNumber = new ConcurrentHashMap<>();
+
+    void indexMatch(String matchId, FootballMatch match) {
+        indexTeam(matchId, match.getTeamOne());
+        indexTeam(matchId, match.getTeamTwo());
+    }
+
+    void unindexMatch(String matchId, FootballMatch match) {
+        unindexTeam(matchId, match.getTeamOne());
+        unindexTeam(matchId, match.getTeamTwo());
+    }
+
+    void indexTeam(String matchId, Team team) {
+        for (Player player : team.getPlayers()) {
+            indexPlayer(matchId, team, player);
+        }
+    }
+
+    void unindexTeam(String matchId, Team team) {
+        for (Player player : team.getPlayers()) {
+            unindexPlayer(matchId, team, player);
+        }
+    }
+
+    void indexPlayer(String matchId, Team team, Player player) {
+        TeamEntry entry = new TeamEntry(matchId, team);
+        put(playersByName, player.getName(), entry, player);
+        put(playersByTeamNumber, new TeamNumberKey(team.getName(), player.getNumber()), entry, player);
+    }
+
+    void unindexPlayer(String matchId, Team team, Player player) {
+        TeamEntry entry = new TeamEntry(matchId, team);
+        remove(playersByName, player.getName(), entry, player);
+        remove(playersByTeamNumber, new TeamNumberKey(team.getName(), player.getNumber()), entry, player);
+    }
+
+    Player getPlayer(String playerName) {
+        return any(playersByName.get(playerName));
+    }
+
+    Player getPlayer(String teamName, int number) {
+        return any(playersByTeamNumber.get(new TeamNumberKey(teamName, number)));
+    }
+
+    Set<String> getMatchIds(String playerName) {
+        Map<TeamEntry, Player> entries = playersByName.get(playerName);
+        if (entries == null) {
+            return Set.of();
+        }
+        Set<String> matchIds = new LinkedHashSet<>();
+        for (TeamEntry entry : entries.keySet()) {
+            matchIds.add(entry.matchId());
+        }
+        return matchIds;
+    }
+
+    private static <K> void put(Map<K, Map<TeamEntry, Player>> index, K key, TeamEntry entry, Player player) {
+        index.compute(key, (k, entries) -> {
+            if (entries == null || entries.size() == 1 && entries.containsKey(entry)) {
+                return Map.of(entry, player);
+            }
+            if (!(entries instanceof ConcurrentHashMap)) {
+                entries = new ConcurrentHashMap<>(entries);
+            }
+            entries.put(entry, player);
+            return entries;
+        });
+    }
+
+    private static <K> void remove(Map<K, Map<TeamEntry, Player>> index, K key, TeamEntry entry, Player player) {
+        index.computeIfPresent(key, (k, entries) -> {
+            if (!player.equals(entries.get(entry))) {
+                return entries;
+            }
+            if (entries.size() == 1) {
+                return null;
+            }
+            entries.remove(entry);
+            return entries;
+        });
+    }
+
+    private static Player any(Map<TeamEntry, Player> entries) {
+        if (entries == null) {
+            return null;
+        }
+        for (Player player : entries.values()) {
+            return player;
+        }
+        return null;
+    }
+
+    private record TeamNumberKey(String teamName, int number) {
+    }
+
+    /**
+     * One team of one match. Teams compare by identity, so both teams of a match get their own entry
+     * even when they share a name or field players with equal names and numbers.
+     */
+    private record TeamEntry(String matchId, Team team) {
+    }
+}
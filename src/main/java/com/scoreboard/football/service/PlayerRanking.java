@@ -0,0 +1,143 @@
+package com.scoreboard.football.service;
+
+import com.scoreboard.football.modal.Player;
+import com.scoreboard.football.modal.Team;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Players of one match ordered by score, highest first, with ties kept in roster order (team one
+ * before team two). The order is sorted once when the roster is loaded and afterwards each goal
+ * only moves the scorer up past the players it overtook. The ranking keeps its own copy of the
+ * scores it has seen, so concurrent goals are applied one at a time against a consistent order.
+ * Readers get an immutable list that is replaced only when the order or the roster changes.
+ * <p>
+ * Scores can also be raised directly on a {@link Player} or {@link Team}, bypassing the manager.
+ * Every read checks the published order against the players' live scores, a pass over two dozen
+ * counters, and re-sorts from the live scores if it no longer holds, so the ranking never drifts
+ * from the model.
+ */
+class PlayerRanking {
+    private Player[] players = new Player[0];
+    private int[] scores = new int[0];
+    private int[] rosterPositions = new int[0];
+    private volatile Published published = new Published(List.of(), new int[0]);
+
+    synchronized void rebuild(Team teamOne, Team teamTwo) {
+        List<Player> teamOnePlayers = teamOne.getPlayers();
+        List<Player> teamTwoPlayers = teamTwo.getPlayers();
+        int size = teamOnePlayers.size() + teamTwoPlayers.size();
+        players = new Player[size];
+        scores = new int[size];
+        rosterPositions = new int[size];
+        int position = 0;
+        for (Player player : teamOnePlayers) {
+            insert(position++, player);
+        }
+        for (Player player : teamTwoPlayers) {
+            insert(position++, player);
+        }
+        publish();
+    }
+
+    // Takes the player's live score rather than adding the points, so a goal that a concurrent
+    // resync has already picked up is not counted twice.
+    synchronized void scoreChanged(Player player) {
+        int index = indexOf(player);
+        if (index < 0) {
+            return;
+        }
+        scores[index] = player.getScore();
+        if (moveUp(index) != index) {
+            publish();
+        }
+    }
+
+    List<Player> getRanking() {
+        Published current = published;
+        return current.isCurrent() ? current.players : resync();
+    }
+
+    /**
+     * Returns at most {@code count} players, best first; a count below one gives an empty list.
+     */
+    List<Player> getTopScorers(int count) {
+        List<Player> current = getRanking();
+        return current.subList(0, Math.max(0, Math.min(count, current.size())));
+    }
+
+    private synchronized List<Player> resync() {
+        for (int i = 0; i < players.length; i++) {
+            scores[i] = players[i].getScore();
+        }
+        for (int i = 1; i < players.length; i++) {
+            moveUp(i);
+        }
+        publish();
+        return published.players;
+    }
+
+    private void insert(int size, Player player) {
+        players[size] = player;
+        scores[size] = player.getScore();
+        rosterPositions[size] = size;
+        moveUp(size);
+    }
+
+    private int moveUp(int index) {
+        Player player = players[index];
+        int score = scores[index];
+        int rosterPosition = rosterPositions[index];
+        int target = index;
+        while (target > 0 && ranksBelow(target - 1, score, rosterPosition)) {
+            players[target] = players[target - 1];
+            scores[target] = scores[target - 1];
+            rosterPositions[target] = rosterPositions[target - 1];
+            target--;
+        }
+        players[target] = player;
+        scores[target] = score;
+        rosterPositions[target] = rosterPosition;
+        return target;
+    }
+
+    private boolean ranksBelow(int index, int score, int rosterPosition) {
+        return scores[index] < score || (scores[index] == score && rosterPositions[index] > rosterPosition);
+    }
+
+    private int indexOf(Player player) {
+        for (int i = 0; i < players.length; i++) {
+            if (players[i] == player) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void publish() {
+        published = new Published(List.copyOf(Arrays.asList(players)), rosterPositions.clone());
+    }
+
+    // A published order together with the roster positions that break its ties.
+    private static final class Published {
+        private final List<Player> players;
+        private final int[] rosterPositions;
+
+        private Published(List<Player> players, int[] rosterPositions) {
+            this.players = players;
+            this.rosterPositions = rosterPositions;
+        }
+
+        private boolean isCurrent() {
+            for (int i = 1; i < rosterPositions.length; i++) {
+                int above = players.get(i - 1).getScore();
+                int below = players.get(i).getScore();
+                if (above < below || above == below && rosterPositions[i - 1] > rosterPositions[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
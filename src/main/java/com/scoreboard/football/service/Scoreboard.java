@@ -0,0 +1,81 @@
+package com.scoreboard.football.service;
+
+import com.scoreboard.football.FootballMatch;
+import com.scoreboard.football.common.MatchStatus;
+import com.scoreboard.football.modal.Player;
+import com.scoreboard.football.modal.Team;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * Publishes an immutable {@link ScoreboardSnapshot} after every change to the {@link MatchManager} it
+ * is registered with. Readers take the current snapshot with a single volatile read and never block
+ * or see a half-applied goal. Writers apply each change to the latest snapshot and install the result
+ * with a compare-and-set; matches are held in a persistent hash trie, so a goal copies only the path
+ * to its match and the scoring team's player list.
+ * <p>
+ * Register it with {@link MatchManager#addListener} before matches are added.
+ */
+public class Scoreboard implements MatchListener {
+    private final AtomicReference<ScoreboardSnapshot> current = new AtomicReference<>(ScoreboardSnapshot.EMPTY);
+
+    public ScoreboardSnapshot getSnapshot() {
+        return current.get();
+    }
+
+    @Override
+    public void matchAdded(String matchId, FootballMatch match) {
+        ScoreboardSnapshot.MatchView view = ScoreboardSnapshot.MatchView.of(matchId, match);
+        ScoreboardSnapshot snapshot;
+        do {
+            snapshot = current.get();
+        } while (!current.compareAndSet(snapshot, snapshot.withMatch(matchId, view)));
+    }
+
+    @Override
+    public void matchRemoved(String matchId, FootballMatch match) {
+        ScoreboardSnapshot snapshot;
+        do {
+            snapshot = current.get();
+        } while (!current.compareAndSet(snapshot, snapshot.withoutMatch(matchId)));
+    }
+
+    @Override
+    public void matchUpdated(String matchId, FootballMatch previousMatch, FootballMatch match) {
+        matchAdded(matchId, match);
+    }
+
+    @Override
+    public void matchStatusChanged(String matchId, FootballMatch match, MatchStatus previousStatus, MatchStatus newStatus) {
+        update(matchId, view -> view.withStatus(newStatus));
+    }
+
+    @Override
+    public void goalScored(String matchId, Team team, Player scorer, int points) {
+        update(matchId, view -> view.withGoal(view.slotOf(team), scorer, points));
+    }
+
+    @Override
+    public void playerAdded(String matchId, Team team, Player player) {
+        update(matchId, view -> view.withPlayerAdded(view.slotOf(team), player));
+    }
+
+    @Override
+    public void playerRemoved(String matchId, Team team, Player player) {
+        update(matchId, view -> view.withPlayerRemoved(view.slotOf(team), player));
+    }
+
+    private void update(String matchId, UnaryOperator<ScoreboardSnapshot.MatchView> change) {
+        ScoreboardSnapshot snapshot;
+        ScoreboardSnapshot next;
+        do {
+            snapshot = current.get();
+            ScoreboardSnapshot.MatchView view = snapshot.findMatch(matchId);
+            if (view == null) {
+                return;
+            }
+            next = snapshot.withMatch(matchId, change.apply(view));
+        } while (!current.compareAndSet(snapshot, next));
+    }
+}
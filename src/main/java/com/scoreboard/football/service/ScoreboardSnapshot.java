@@ -0,0 +1,283 @@
+package com.scoreboard.football.service;
+
+import com.scoreboard.football.FootballMatch;
+import com.scoreboard.football.common.MatchStatus;
+import com.scoreboard.football.modal.Player;
+import com.scoreboard.football.modal.Team;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * Immutable, versioned view of every match on a {@link Scoreboard}. Nothing in a snapshot changes
+ * after it is published, so it can be read and iterated from any thread while scoring goes on; a goal
+ * shows up in the team score and in the scorer's score of the same snapshot or of neither.
+ */
+public final class ScoreboardSnapshot {
+    static final ScoreboardSnapshot EMPTY = new ScoreboardSnapshot(0, PersistentMap.empty());
+
+    private final long version;
+    private final PersistentMap<String, MatchView> matches;
+
+    private ScoreboardSnapshot(long version, PersistentMap<String, MatchView> matches) {
+        this.version = version;
+        this.matches = matches;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int getMatchCount() {
+        return matches.size();
+    }
+
+    public boolean hasMatch(String matchId) {
+        return matches.get(matchId) != null;
+    }
+
+    public MatchView getMatch(String matchId) {
+        MatchView match = matches.get(matchId);
+        if (match == null) {
+            throw new IllegalArgumentException("Match not found: " + matchId);
+        }
+        return match;
+    }
+
+    public void forEachMatch(BiConsumer<String, MatchView> action) {
+        matches.forEach(action);
+    }
+
+    MatchView findMatch(String matchId) {
+        return matches.get(matchId);
+    }
+
+    ScoreboardSnapshot withMatch(String matchId, MatchView match) {
+        return new ScoreboardSnapshot(version + 1, matches.put(matchId, match));
+    }
+
+    ScoreboardSnapshot withoutMatch(String matchId) {
+        return new ScoreboardSnapshot(version + 1, matches.remove(matchId));
+    }
+
+    /**
+     * View of one match. Changes are applied to a team by its slot, {@link #TEAM_ONE} or {@link #TEAM_TWO},
+     * since the two teams of a match may share a name.
+     */
+    public static final class MatchView {
+        static final int TEAM_ONE = 1;
+        static final int TEAM_TWO = 2;
+
+        private final String matchId;
+        private final String matchTitle;
+        private final LocalDateTime startTime;
+        private final MatchStatus matchStatus;
+        private final TeamView teamOne;
+        private final TeamView teamTwo;
+        // Only compared by identity to find the slot of the team a change names; never exposed.
+        private final Team teamOneSource;
+        private final Team teamTwoSource;
+
+        private MatchView(String matchId, String matchTitle, LocalDateTime startTime, MatchStatus matchStatus,
+                          TeamView teamOne, TeamView teamTwo, Team teamOneSource, Team teamTwoSource) {
+            this.matchId = matchId;
+            this.matchTitle = matchTitle;
+            this.startTime = startTime;
+            this.matchStatus = matchStatus;
+            this.teamOne = teamOne;
+            this.teamTwo = teamTwo;
+            this.teamOneSource = teamOneSource;
+            this.teamTwoSource = teamTwoSource;
+        }
+
+        static MatchView of(String matchId, FootballMatch match) {
+            return new MatchView(matchId, match.getMatchTitle(), match.getStartTime(), match.getMatchStatus(),
+                    TeamView.of(match.getTeamOne()), TeamView.of(match.getTeamTwo()),
+                    match.getTeamOne(), match.getTeamTwo());
+        }
+
+        public String getMatchId() {
+            return matchId;
+        }
+
+        public String getMatchTitle() {
+            return matchTitle;
+        }
+
+        public LocalDateTime getStartTime() {
+            return startTime;
+        }
+
+        public MatchStatus getMatchStatus() {
+            return matchStatus;
+        }
+
+        public TeamView getTeamOne() {
+            return teamOne;
+        }
+
+        public TeamView getTeamTwo() {
+            return teamTwo;
+        }
+
+        /**
+         * Returns the slot the team plays in, or {@code 0} if it is not one of this match's teams.
+         */
+        int slotOf(Team team) {
+            if (team == teamOneSource) {
+                return TEAM_ONE;
+            }
+            if (team == teamTwoSource) {
+                return TEAM_TWO;
+            }
+            return 0;
+        }
+
+        MatchView withStatus(MatchStatus status) {
+            return new MatchView(matchId, matchTitle, startTime, status, teamOne, teamTwo, teamOneSource, teamTwoSource);
+        }
+
+        MatchView withGoal(int slot, Player scorer, int points) {
+            return withTeam(slot, team -> team.withGoal(scorer, points));
+        }
+
+        MatchView withPlayerAdded(int slot, Player player) {
+            return withTeam(slot, team -> team.withPlayerAdded(player));
+        }
+
+        MatchView withPlayerRemoved(int slot, Player player) {
+            return withTeam(slot, team -> team.withPlayerRemoved(player));
+        }
+
+        private MatchView withTeam(int slot, UnaryOperator<TeamView> change) {
+            if (slot == TEAM_ONE) {
+                return new MatchView(matchId, matchTitle, startTime, matchStatus, change.apply(teamOne), teamTwo,
+                        teamOneSource, teamTwoSource);
+            }
+            if (slot == TEAM_TWO) {
+                return new MatchView(matchId, matchTitle, startTime, matchStatus, teamOne, change.apply(teamTwo),
+                        teamOneSource, teamTwoSource);
+            }
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return "MatchView{" +
+                    "matchId='" + matchId + '\'' +
+                    ", matchTitle='" + matchTitle + '\'' +
+                    ", matchStatus=" + matchStatus +
+                    ", teamOne=" + teamOne +
+                    ", teamTwo=" + teamTwo +
+                    '}';
+        }
+    }
+
+    public static final class TeamView {
+        private final String name;
+        private final int score;
+        private final List<PlayerView> players;
+
+        private TeamView(String name, int score, List<PlayerView> players) {
+            this.name = name;
+            this.score = score;
+            this.players = players;
+        }
+
+        static TeamView of(Team team) {
+            List<PlayerView> players = new ArrayList<>();
+            for (Player player : team.getPlayers()) {
+                players.add(PlayerView.of(player));
+            }
+            return new TeamView(team.getName(), team.getScore(), List.copyOf(players));
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getScore() {
+            return score;
+        }
+
+        public List<PlayerView> getPlayers() {
+            return players;
+        }
+
+        private TeamView withGoal(Player scorer, int points) {
+            if (scorer == null) {
+                return new TeamView(name, score + points, players);
+            }
+            List<PlayerView> updated = new ArrayList<>(players);
+            for (int i = 0; i < updated.size(); i++) {
+                PlayerView player = updated.get(i);
+                if (player.number == scorer.getNumber()) {
+                    updated.set(i, new PlayerView(player.name, player.number, player.score + points));
+                    break;
+                }
+            }
+            return new TeamView(name, score + points, List.copyOf(updated));
+        }
+
+        private TeamView withPlayerAdded(Player player) {
+            List<PlayerView> updated = new ArrayList<>(players);
+            updated.add(PlayerView.of(player));
+            return new TeamView(name, score, List.copyOf(updated));
+        }
+
+        private TeamView withPlayerRemoved(Player player) {
+            List<PlayerView> updated = new ArrayList<>(players);
+            updated.removeIf(view -> view.number == player.getNumber());
+            return new TeamView(name, score, List.copyOf(updated));
+        }
+
+        @Override
+        public String toString() {
+            return "TeamView{" +
+                    "name='" + name + '\'' +
+                    ", score=" + score +
+                    ", players=" + players +
+                    '}';
+        }
+    }
+
+    public static final class PlayerView {
+        private final String name;
+        private final int number;
+        private final int score;
+
+        private PlayerView(String name, int number, int score) {
+            this.name = name;
+            this.number = number;
+            this.score = score;
+        }
+
+        private static PlayerView of(Player player) {
+            return new PlayerView(player.getName(), player.getNumber(), player.getScore());
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getNumber() {
+            return number;
+        }
+
+        public int getScore() {
+            return score;
+        }
+
+        @Override
+        public String toString() {
+            return "PlayerView{" +
+                    "name='" + name + '\'' +
+                    ", number=" + number +
+                    ", score=" + score +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,404 @@
+package com.scoreboard.football.service;
+
+import com.scoreboard.football.FootballMatch;
+import com.scoreboard.football.common.MatchStatus;
+import com.scoreboard.football.modal.Player;
+import com.scoreboard.football.modal.Team;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Season-wide statistics over completed matches. Registered with {@link MatchManager#addListener}, it
+ * records every match that reaches {@link MatchStatus#COMPLETED} as one row of int columns (home and
+ * away team, goals, referee), and each player who took part as one row of player and goals columns.
+ * Team, player and referee names are dictionary-encoded, so a row holds no object references. A player
+ * is identified by team and name, as given by {@link #playerKey}, since squads share names such as
+ * "Goli" and "Skipper".
+ * <p>
+ * Queries scan the columns in parallel on a {@link ForkJoinPool}: the rows are split into ranges,
+ * each range is summed into a histogram indexed by dictionary id or goal count, and the histograms
+ * are added up pairwise. Recording is serialized; queries read an immutable view of the rows recorded
+ * so far and never block it.
+ */
+public class SeasonStatistics implements MatchListener {
+    private static final int INITIAL_ROWS = 1024;
+    private static final int MIN_SPLIT_ROWS = 1 << 13;
+    private static final int SPLITS_PER_THREAD = 4;
+
+    private final ForkJoinPool pool;
+    private final Set<String> recordedMatches = new HashSet<>();
+    private final Dictionary teams = new Dictionary();
+    private final Dictionary players = new Dictionary();
+    private final Dictionary referees = new Dictionary();
+
+    private int[] homeTeam = new int[INITIAL_ROWS];
+    private int[] homeGoals = new int[INITIAL_ROWS];
+    private int[] awayTeam = new int[INITIAL_ROWS];
+    private int[] awayGoals = new int[INITIAL_ROWS];
+    private int[] referee = new int[INITIAL_ROWS];
+    private int matchRows;
+    private int[] appearancePlayer = new int[INITIAL_ROWS];
+    private int[] appearanceGoals = new int[INITIAL_ROWS];
+    private int appearanceRows;
+    private int maxMatchGoals;
+    private int maxPlayerGoals;
+    private volatile Columns columns = new Columns(this);
+
+    public SeasonStatistics() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public SeasonStatistics(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public void matchAdded(String matchId, FootballMatch match) {
+        if (match.getMatchStatus() == MatchStatus.COMPLETED) {
+            recordMatch(matchId, match);
+        }
+    }
+
+    @Override
+    public void matchStatusChanged(String matchId, FootballMatch match, MatchStatus previousStatus, MatchStatus newStatus) {
+        if (newStatus == MatchStatus.COMPLETED) {
+            recordMatch(matchId, match);
+        }
+    }
+
+    /**
+     * Records the final score and roster of a match. Returns {@code false} if a match with the same id
+     * has already been recorded.
+     */
+    public synchronized boolean recordMatch(String matchId, FootballMatch match) {
+        if (!recordedMatches.add(matchId)) {
+            return false;
+        }
+        if (matchRows == homeTeam.length) {
+            int capacity = matchRows * 2;
+            homeTeam = Arrays.copyOf(homeTeam, capacity);
+            homeGoals = Arrays.copyOf(homeGoals, capacity);
+            awayTeam = Arrays.copyOf(awayTeam, capacity);
+            awayGoals = Arrays.copyOf(awayGoals, capacity);
+            referee = Arrays.copyOf(referee, capacity);
+        }
+        Team teamOne = match.getTeamOne();
+        Team teamTwo = match.getTeamTwo();
+        Player matchReferee = match.getReferee();
+        homeTeam[matchRows] = teams.idOf(teamOne.getName());
+        homeGoals[matchRows] = teamOne.getScore();
+        awayTeam[matchRows] = teams.idOf(teamTwo.getName());
+        awayGoals[matchRows] = teamTwo.getScore();
+        referee[matchRows] = matchReferee == null ? -1 : referees.idOf(matchReferee.getName());
+        maxMatchGoals = Math.max(maxMatchGoals, homeGoals[matchRows] + awayGoals[matchRows]);
+        matchRows++;
+        recordAppearances(teamOne);
+        recordAppearances(teamTwo);
+        columns = new Columns(this);
+        return true;
+    }
+
+    public int getMatchCount() {
+        return columns.matchRows;
+    }
+
+    public long getGoalCount() {
+        Columns view = columns;
+        long[] total = aggregate(view.matchRows, 1, (buckets, from, to) -> {
+            long goals = 0;
+            for (int row = from; row < to; row++) {
+                goals += view.homeGoals[row] + view.awayGoals[row];
+            }
+            buckets[0] += goals;
+        });
+        return total[0];
+    }
+
+    /**
+     * Goals scored by each team over the season, in the order the teams were first recorded.
+     */
+    public Map<String, Long> getGoalsByTeam() {
+        Columns view = columns;
+        long[] goals = aggregate(view.matchRows, view.teamCount, (buckets, from, to) -> {
+            for (int row = from; row < to; row++) {
+                buckets[view.homeTeam[row]] += view.homeGoals[row];
+                buckets[view.awayTeam[row]] += view.awayGoals[row];
+            }
+        });
+        return toMap(view.teamNames, goals);
+    }
+
+    /**
+     * Goals scored by each player over the season, keyed by {@link #playerKey}, in the order the players
+     * were first recorded.
+     */
+    public Map<String, Long> getGoalsByPlayer() {
+        Columns view = columns;
+        return toMap(view.playerNames, playerGoals(view));
+    }
+
+    /**
+     * Returns the season's top {@code count} scorers, named by {@link #playerKey} and ordered like
+     * {@link Leaderboard#getTopScorers}.
+     * Only the selected players are materialized, so this stays cheap however many players there are.
+     */
+    public List<Leaderboard.LeaderboardEntry> getTopScorers(int count) {
+        Columns view = columns;
+        long[] goals = playerGoals(view);
+        int size = Math.max(0, Math.min(count, goals.length));
+        // Min-heap of the best players seen so far, worst at the root.
+        int[] heap = new int[size];
+        int heapSize = 0;
+        for (int id = 0; id < goals.length && size > 0; id++) {
+            if (heapSize < size) {
+                heap[heapSize] = id;
+                siftUp(heap, heapSize++, goals, view.playerNames);
+            } else if (ranksAbove(id, heap[0], goals, view.playerNames)) {
+                heap[0] = id;
+                siftDown(heap, heapSize, goals, view.playerNames);
+            }
+        }
+        Leaderboard.LeaderboardEntry[] topScorers = new Leaderboard.LeaderboardEntry[heapSize];
+        while (heapSize > 0) {
+            int id = heap[0];
+            heap[0] = heap[--heapSize];
+            siftDown(heap, heapSize, goals, view.playerNames);
+            topScorers[heapSize] = new Leaderboard.LeaderboardEntry(view.playerNames[id], (int) goals[id]);
+        }
+        return Arrays.asList(topScorers);
+    }
+
+    /**
+     * Goals scored in the matches each referee officiated.
+     */
+    public Map<String, Long> getGoalsByReferee() {
+        Columns view = columns;
+        long[] goals = aggregate(view.matchRows, view.refereeCount, (buckets, from, to) -> {
+            for (int row = from; row < to; row++) {
+                int id = view.referee[row];
+                if (id >= 0) {
+                    buckets[id] += view.homeGoals[row] + view.awayGoals[row];
+                }
+            }
+        });
+        return toMap(view.refereeNames, goals);
+    }
+
+    /**
+     * Returns the number of matches with each total number of goals, indexed by that total.
+     */
+    public long[] getMatchGoalDistribution() {
+        Columns view = columns;
+        return aggregate(view.matchRows, view.maxMatchGoals + 1, (buckets, from, to) -> {
+            for (int row = from; row < to; row++) {
+                buckets[view.homeGoals[row] + view.awayGoals[row]]++;
+            }
+        });
+    }
+
+    /**
+     * Returns the number of player appearances with each number of goals, indexed by that number.
+     */
+    public long[] getPlayerGoalDistribution() {
+        Columns view = columns;
+        return aggregate(view.appearanceRows, view.maxPlayerGoals + 1, (buckets, from, to) -> {
+            for (int row = from; row < to; row++) {
+                buckets[view.appearanceGoals[row]]++;
+            }
+        });
+    }
+
+    /**
+     * Returns the key a player's season statistics are reported under, such as {@code "Goli (TeamA)"}.
+     */
+    public static String playerKey(String teamName, String playerName) {
+        return playerName + " (" + teamName + ")";
+    }
+
+    private long[] playerGoals(Columns view) {
+        return aggregate(view.appearanceRows, view.playerCount, (buckets, from, to) -> {
+            for (int row = from; row < to; row++) {
+                buckets[view.appearancePlayer[row]] += view.appearanceGoals[row];
+            }
+        });
+    }
+
+    private static boolean ranksAbove(int id, int otherId, long[] goals, String[] names) {
+        return goals[id] != goals[otherId] ? goals[id] > goals[otherId] : names[id].compareTo(names[otherId]) < 0;
+    }
+
+    private static void siftUp(int[] heap, int index, long[] goals, String[] names) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!ranksAbove(heap[parent], heap[index], goals, names)) {
+                return;
+            }
+            swap(heap, parent, index);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(int[] heap, int size, long[] goals, String[] names) {
+        int index = 0;
+        while (true) {
+            int worst = index;
+            for (int child = 2 * index + 1; child <= 2 * index + 2 && child < size; child++) {
+                if (ranksAbove(heap[worst], heap[child], goals, names)) {
+                    worst = child;
+                }
+            }
+            if (worst == index) {
+                return;
+            }
+            swap(heap, worst, index);
+            index = worst;
+        }
+    }
+
+    private static void swap(int[] heap, int i, int j) {
+        int id = heap[i];
+        heap[i] = heap[j];
+        heap[j] = id;
+    }
+
+    private void recordAppearances(Team team) {
+        String teamName = team.getName();
+        for (Player player : team.getPlayers()) {
+            if (appearanceRows == appearancePlayer.length) {
+                appearancePlayer = Arrays.copyOf(appearancePlayer, appearanceRows * 2);
+                appearanceGoals = Arrays.copyOf(appearanceGoals, appearanceRows * 2);
+            }
+            int goals = player.getScore();
+            appearancePlayer[appearanceRows] = players.idOf(playerKey(teamName, player.getName()));
+            appearanceGoals[appearanceRows] = goals;
+            maxPlayerGoals = Math.max(maxPlayerGoals, goals);
+            appearanceRows++;
+        }
+    }
+
+    // Every range allocates its own histogram, so there are only a few ranges per worker, and fewer
+    // when the histograms are large next to the rows, as with one bucket per player.
+    private long[] aggregate(int rows, int buckets, RangeAggregator aggregator) {
+        long ranges = Math.min(pool.getParallelism() * SPLITS_PER_THREAD,
+                Math.max(1, (long) rows * SPLITS_PER_THREAD / Math.max(1, buckets)));
+        int splitRows = (int) Math.max(MIN_SPLIT_ROWS, rows / ranges + 1);
+        return pool.invoke(new Aggregation(aggregator, buckets, splitRows, 0, rows));
+    }
+
+    private static Map<String, Long> toMap(String[] names, long[] values) {
+        Map<String, Long> map = new LinkedHashMap<>();
+        for (int id = 0; id < values.length; id++) {
+            map.put(names[id], values[id]);
+        }
+        return map;
+    }
+
+    @FunctionalInterface
+    private interface RangeAggregator {
+        void accumulate(long[] buckets, int from, int to);
+    }
+
+    private static final class Aggregation extends RecursiveTask<long[]> {
+        private static final long serialVersionUID = 1L;
+
+        private final RangeAggregator aggregator;
+        private final int buckets;
+        private final int splitRows;
+        private final int from;
+        private final int to;
+
+        private Aggregation(RangeAggregator aggregator, int buckets, int splitRows, int from, int to) {
+            this.aggregator = aggregator;
+            this.buckets = buckets;
+            this.splitRows = splitRows;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from <= splitRows) {
+                long[] histogram = new long[buckets];
+                aggregator.accumulate(histogram, from, to);
+                return histogram;
+            }
+            int middle = (from + to) >>> 1;
+            Aggregation left = new Aggregation(aggregator, buckets, splitRows, from, middle);
+            left.fork();
+            long[] histogram = new Aggregation(aggregator, buckets, splitRows, middle, to).compute();
+            long[] leftHistogram = left.join();
+            for (int i = 0; i < buckets; i++) {
+                histogram[i] += leftHistogram[i];
+            }
+            return histogram;
+        }
+    }
+
+    // Rows past a view's counts may still be written by later recordings, so readers only read below them.
+    private static final class Columns {
+        private final int[] homeTeam;
+        private final int[] homeGoals;
+        private final int[] awayTeam;
+        private final int[] awayGoals;
+        private final int[] referee;
+        private final int matchRows;
+        private final int[] appearancePlayer;
+        private final int[] appearanceGoals;
+        private final int appearanceRows;
+        private final int maxMatchGoals;
+        private final int maxPlayerGoals;
+        private final String[] teamNames;
+        private final int teamCount;
+        private final String[] playerNames;
+        private final int playerCount;
+        private final String[] refereeNames;
+        private final int refereeCount;
+
+        private Columns(SeasonStatistics statistics) {
+            this.homeTeam = statistics.homeTeam;
+            this.homeGoals = statistics.homeGoals;
+            this.awayTeam = statistics.awayTeam;
+            this.awayGoals = statistics.awayGoals;
+            this.referee = statistics.referee;
+            this.matchRows = statistics.matchRows;
+            this.appearancePlayer = statistics.appearancePlayer;
+            this.appearanceGoals = statistics.appearanceGoals;
+            this.appearanceRows = statistics.appearanceRows;
+            this.maxMatchGoals = statistics.maxMatchGoals;
+            this.maxPlayerGoals = statistics.maxPlayerGoals;
+            this.teamNames = statistics.teams.names;
+            this.teamCount = statistics.teams.size;
+            this.playerNames = statistics.players.names;
+            this.playerCount = statistics.players.size;
+            this.refereeNames = statistics.referees.names;
+            this.refereeCount = statistics.referees.size;
+        }
+    }
+
+    private static final class Dictionary {
+        private final Map<String, Integer> ids = new HashMap<>();
+        private String[] names = new String[64];
+        private int size;
+
+        private int idOf(String name) {
+            Integer id = ids.get(name);
+            if (id != null) {
+                return id;
+            }
+            if (size == names.length) {
+                names = Arrays.copyOf(names, size * 2);
+            }
+            names[size] = name;
+            ids.put(name, size);
+            return size++;
+        }
+    }
+}
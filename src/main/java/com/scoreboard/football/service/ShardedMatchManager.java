@@ -0,0 +1,214 @@
+package com.scoreboard.football.service;
+
+import com.scoreboard.football.FootballMatch;
+import com.scoreboard.football.common.MatchStatus;
+import com.scoreboard.football.common.MatchValidator;
+import com.scoreboard.football.modal.Player;
+import com.scoreboard.football.modal.Team;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Partitioned alternative to sharing one {@link MatchManager} between threads. Match ids are hashed
+ * onto a fixed number of shards; each shard owns a private {@code MatchManager} and a single thread
+ * that applies every operation on its matches in submission order. No two threads ever touch the same
+ * match, team or player, so their monitors and counters stay uncontended and throughput grows with
+ * the number of shards.
+ * <p>
+ * Every operation returns a {@link CompletableFuture} completed on the shard thread; validation
+ * failures complete it exceptionally with the usual {@link IllegalArgumentException}. Queries that are
+ * not keyed by match id are sent to every shard and the answers combined. Teams and players handed to
+ * a shard must not be changed by the caller afterwards except through this manager.
+ */
+public class ShardedMatchManager implements Closeable {
+    private final MatchManager[] managers;
+    private final ExecutorService[] executors;
+
+    public ShardedMatchManager() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public ShardedMatchManager(int shards) {
+        if (shards < 1) {
+            throw new IllegalArgumentException("Shards must be positive: " + shards);
+        }
+        this.managers = new MatchManager[shards];
+        this.executors = new ExecutorService[shards];
+        for (int i = 0; i < shards; i++) {
+            String name = "match-shard-" + i;
+            managers[i] = new MatchManager();
+            executors[i] = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, name);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    public int getShardCount() {
+        return managers.length;
+    }
+
+    public int shardOf(String matchId) {
+        int hash = matchId.hashCode();
+        return ((hash ^ (hash >>> 16)) & Integer.MAX_VALUE) % managers.length;
+    }
+
+    /**
+     * Registers {@code listener} with every shard. Its callbacks run on the thread of the shard that
+     * owns the match.
+     */
+    public void addListener(MatchListener listener) {
+        for (MatchManager manager : managers) {
+            manager.addListener(listener);
+        }
+    }
+
+    public void removeListener(MatchListener listener) {
+        for (MatchManager manager : managers) {
+            manager.removeListener(listener);
+        }
+    }
+
+    public CompletableFuture<Void> addMatch(String matchId, FootballMatch match) {
+        return run(matchId, manager -> manager.addMatch(matchId, match));
+    }
+
+    public CompletableFuture<Void> updateMatch(String matchId, FootballMatch updatedMatch) {
+        return run(matchId, manager -> manager.updateMatch(matchId, updatedMatch));
+    }
+
+    public CompletableFuture<Void> removeMatch(String matchId) {
+        return run(matchId, manager -> manager.removeMatch(matchId));
+    }
+
+    public CompletableFuture<FootballMatch> getMatchDetails(String matchId) {
+        return call(matchId, manager -> manager.getMatchDetails(matchId));
+    }
+
+    public CompletableFuture<Void> setMatchStatus(String matchId, MatchStatus matchStatus) {
+        return run(matchId, manager -> manager.setMatchStatus(matchId, matchStatus));
+    }
+
+    public CompletableFuture<Void> transitionMatchStatus(String matchId, MatchStatus matchStatus) {
+        return run(matchId, manager -> manager.transitionMatchStatus(matchId, matchStatus));
+    }
+
+    public CompletableFuture<Void> scoreGoal(String matchId, String playerName, Team team) {
+        return run(matchId, manager -> manager.scoreGoal(matchId, playerName, team));
+    }
+
+    public CompletableFuture<Void> scoreGoal(String matchId, int playerNumber, Team team) {
+        return run(matchId, manager -> manager.scoreGoal(matchId, playerNumber, team));
+    }
+
+    public CompletableFuture<List<Player>> getPlayersRanking(String matchId) {
+        return call(matchId, manager -> manager.getPlayersRanking(matchId));
+    }
+
+    public CompletableFuture<List<Player>> getTopScorers(String matchId, int count) {
+        return call(matchId, manager -> manager.getTopScorers(matchId, count));
+    }
+
+    public CompletableFuture<Integer> getMatchCount() {
+        return gather(MatchManager::getMatchCount)
+                .thenApply(counts -> counts.stream().mapToInt(Integer::intValue).sum());
+    }
+
+    /**
+     * Looks the player up on every shard and completes with the first match found, in shard order.
+     */
+    public CompletableFuture<Player> getPlayerDetails(String playerName) {
+        return gather(manager -> new ShardAnswer<>(manager.getMatchCount(), manager.findPlayer(playerName)))
+                .thenApply(answers -> {
+                    int matchCount = 0;
+                    Player player = null;
+                    for (ShardAnswer<Player> answer : answers) {
+                        matchCount += answer.matchCount;
+                        if (player == null) {
+                            player = answer.value;
+                        }
+                    }
+                    MatchValidator.validateMatchesNotEmpty(matchCount);
+                    MatchValidator.validatePlayerExists(player, playerName);
+                    return player;
+                });
+    }
+
+    public CompletableFuture<List<String>> getAllPlayers() {
+        return gather(manager -> manager.getMatchCount() == 0
+                ? new ShardAnswer<List<String>>(0, List.of())
+                : new ShardAnswer<>(manager.getMatchCount(), manager.getAllPlayers()))
+                .thenApply(answers -> {
+                    int matchCount = 0;
+                    List<String> players = new ArrayList<>();
+                    for (ShardAnswer<List<String>> answer : answers) {
+                        matchCount += answer.matchCount;
+                        players.addAll(answer.value);
+                    }
+                    MatchValidator.validateMatchesNotEmpty(matchCount);
+                    return players;
+                });
+    }
+
+    /**
+     * Lets every shard finish the operations already submitted, then stops the shard threads.
+     */
+    @Override
+    public void close() {
+        for (ExecutorService executor : executors) {
+            executor.shutdown();
+        }
+        for (ExecutorService executor : executors) {
+            try {
+                executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private CompletableFuture<Void> run(String matchId, Consumer<MatchManager> operation) {
+        int shard = shardOf(matchId);
+        return CompletableFuture.runAsync(() -> operation.accept(managers[shard]), executors[shard]);
+    }
+
+    private <T> CompletableFuture<T> call(String matchId, Function<MatchManager, T> operation) {
+        int shard = shardOf(matchId);
+        return CompletableFuture.supplyAsync(() -> operation.apply(managers[shard]), executors[shard]);
+    }
+
+    private <T> CompletableFuture<List<T>> gather(Function<MatchManager, T> operation) {
+        List<CompletableFuture<T>> answers = new ArrayList<>(managers.length);
+        for (int i = 0; i < managers.length; i++) {
+            MatchManager manager = managers[i];
+            answers.add(CompletableFuture.supplyAsync(() -> operation.apply(manager), executors[i]));
+        }
+        return CompletableFuture.allOf(answers.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> {
+                    List<T> results = new ArrayList<>(answers.size());
+                    answers.forEach(answer -> results.add(answer.join()));
+                    return results;
+                });
+    }
+
+    // One shard's answer to a scatter-gather query, with its match count at the time it answered.
+    private static final class ShardAnswer<T> {
+        private final int matchCount;
+        private final T value;
+
+        private ShardAnswer(int matchCount, T value) {
+            this.matchCount = matchCount;
+            this.value = value;
+        }
+    }
+}
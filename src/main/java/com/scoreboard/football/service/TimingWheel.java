@@ -0,0 +1,162 @@
+package com.scoreboard.football.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel. Level 0 has one slot per tick; each higher level has slots as wide as a
+ * full turn of the level below and, as time reaches one of its slots, the timeouts in it cascade down
+ * to the levels below. Scheduling and cancelling are O(1) and a tick touches only the slots that are
+ * due, so the cost does not depend on how many timeouts are pending.
+ * <p>
+ * The wheel has no thread of its own: its owner calls {@link #advanceTo} and the due tasks run on the
+ * calling thread, after the wheel's lock is released.
+ */
+final class TimingWheel {
+    private static final int SLOT_BITS = 8;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+
+    private final long tickMillis;
+    private final Timeout[][] slots = new Timeout[LEVELS][SLOTS];
+    private long currentTick;
+    private int pending;
+
+    TimingWheel(long tickMillis, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick must be positive: " + tickMillis);
+        }
+        this.tickMillis = tickMillis;
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * Schedules {@code task} to run on the first {@link #advanceTo} at or after {@code deadlineMillis}.
+     * A deadline in the past runs on the next tick.
+     */
+    synchronized Timeout schedule(long deadlineMillis, Runnable task) {
+        long deadlineTick = Math.max(Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis), currentTick + 1);
+        if (deadlineTick - currentTick >= 1L << (SLOT_BITS * LEVELS)) {
+            throw new IllegalArgumentException("Deadline too far ahead: " + deadlineMillis);
+        }
+        Timeout timeout = new Timeout(this, deadlineTick, task);
+        insert(timeout);
+        pending++;
+        return timeout;
+    }
+
+    /**
+     * Advances the wheel to {@code nowMillis} and runs every task that has fallen due, earliest tick first.
+     */
+    void advanceTo(long nowMillis) {
+        List<Runnable> due = new ArrayList<>();
+        synchronized (this) {
+            long targetTick = nowMillis / tickMillis;
+            while (currentTick < targetTick) {
+                currentTick++;
+                cascade();
+                Timeout timeout = takeSlot(0, (int) (currentTick & SLOT_MASK));
+                while (timeout != null) {
+                    Timeout next = timeout.next;
+                    timeout.unlink();
+                    pending--;
+                    due.add(timeout.task);
+                    timeout = next;
+                }
+            }
+        }
+        due.forEach(Runnable::run);
+    }
+
+    synchronized int size() {
+        return pending;
+    }
+
+    private void cascade() {
+        int level = 1;
+        while (level < LEVELS && (currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+            level++;
+        }
+        for (int l = level - 1; l >= 1; l--) {
+            Timeout timeout = takeSlot(l, (int) ((currentTick >>> (SLOT_BITS * l)) & SLOT_MASK));
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                timeout.unlink();
+                insert(timeout);
+                timeout = next;
+            }
+        }
+    }
+
+    private void insert(Timeout timeout) {
+        long delta = timeout.deadlineTick - currentTick;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        int slot = (int) ((timeout.deadlineTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+        Timeout head = slots[level][slot];
+        timeout.level = level;
+        timeout.slot = slot;
+        timeout.next = head;
+        if (head != null) {
+            head.previous = timeout;
+        }
+        slots[level][slot] = timeout;
+    }
+
+    // Detaches the whole slot; its entries keep their links so they can be walked and unlinked.
+    private Timeout takeSlot(int level, int slot) {
+        Timeout head = slots[level][slot];
+        slots[level][slot] = null;
+        return head;
+    }
+
+    /**
+     * Handle of a scheduled task, used to cancel it.
+     */
+    static final class Timeout {
+        private final TimingWheel wheel;
+        private final long deadlineTick;
+        private final Runnable task;
+        private int level = -1;
+        private int slot;
+        private Timeout previous;
+        private Timeout next;
+
+        private Timeout(TimingWheel wheel, long deadlineTick, Runnable task) {
+            this.wheel = wheel;
+            this.deadlineTick = deadlineTick;
+            this.task = task;
+        }
+
+        /**
+         * Returns {@code false} if the task has already run or been cancelled.
+         */
+        boolean cancel() {
+            synchronized (wheel) {
+                if (level < 0) {
+                    return false;
+                }
+                if (previous == null) {
+                    wheel.slots[level][slot] = next;
+                } else {
+                    previous.next = next;
+                }
+                if (next != null) {
+                    next.previous = previous;
+                }
+                unlink();
+                wheel.pending--;
+                return true;
+            }
+        }
+
+        private void unlink() {
+            level = -1;
+            previous = null;
+            next = null;
+        }
+    }
+}
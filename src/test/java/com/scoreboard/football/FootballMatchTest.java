@@ -1,11 +1,14 @@
 package com.scoreboard.football;
 
+import com.scoreboard.football.common.MatchIdGenerator;
 import com.scoreboard.football.common.MatchStatus;
 import com.scoreboard.football.modal.Player;
 import com.scoreboard.football.modal.Team;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -178,6 +181,35 @@ class FootballMatchTest {
         assertEquals(3, playerNames.size());
     }
 
+    @Test
+    void testFlattenedRosterIsCachedUntilRosterChanges() {
+        Player player1 = new Player("Player1", 11);
+        Player player2 = new Player("Player2", 23);
+        footballMatch.getTeamOne().addPlayer(player1);
+        footballMatch.getTeamTwo().addPlayer(player2);
+
+        List<Player> players = footballMatch.getAllPlayers();
+        List<String> names = footballMatch.getAllPlayerNames();
+        assertEquals(List.of(player1, player2), players);
+        assertEquals(List.of("Player1", "Player2"), names);
+        assertSame(players, footballMatch.getAllPlayers());
+        assertSame(names, footballMatch.getAllPlayerNames());
+        assertThrows(UnsupportedOperationException.class, () -> names.add("Player3"));
+
+        Player player3 = new Player("Player3", 7);
+        footballMatch.getTeamTwo().addPlayer(player3);
+        assertEquals(List.of(player1, player2, player3), footballMatch.getAllPlayers());
+
+        player1.setName("Renamed");
+        assertEquals(List.of("Renamed", "Player2", "Player3"), footballMatch.getAllPlayerNames());
+
+        Team replacement = new Team("TeamC");
+        Player player4 = new Player("Player4", 4);
+        replacement.addPlayer(player4);
+        assertTrue(footballMatch.setTeamOne(replacement));
+        assertEquals(List.of("Player4", "Player2", "Player3"), footballMatch.getAllPlayerNames());
+    }
+
     @Test
     void testGetAllPlayerNamesNoPlayers() {
         List<String> playerNames = footballMatch.getAllPlayerNames();
@@ -193,4 +225,53 @@ class FootballMatchTest {
     void testGetSecondTeam() {
         assertEquals("TeamB", footballMatch.getTeamTwo().getName());
     }
+
+    @Test
+    void testStatusListenerNotifiedOnChange() {
+        List<String> transitions = new ArrayList<>();
+        footballMatch.addStatusListener((match, previousStatus, newStatus) ->
+                transitions.add(previousStatus + "->" + newStatus));
+        footballMatch.setMatchStatus(MatchStatus.IN_PROGRESS);
+        footballMatch.setMatchStatus(MatchStatus.IN_PROGRESS);
+        footballMatch.setMatchStatus(MatchStatus.COMPLETED);
+        assertEquals(List.of("SCHEDULED->IN_PROGRESS", "IN_PROGRESS->COMPLETED"), transitions);
+    }
+
+    @Test
+    void testBuilderRestoresIdentityAndStartTime() {
+        LocalDateTime startTime = LocalDateTime.of(2024, 5, 1, 18, 30);
+        FootballMatch restored = new FootballMatch.Builder()
+                .matchId("Match42")
+                .teamOne(new Team("TeamA"))
+                .teamTwo(new Team("TeamB"))
+                .matchTitle("Match Football")
+                .referee(new Player("Robin Referee", 777))
+                .startTime(startTime)
+                .matchStatus(MatchStatus.COMPLETED)
+                .build();
+        assertEquals("Match42", restored.getMatchId());
+        assertEquals(startTime, restored.getStartTime());
+        assertEquals(MatchStatus.COMPLETED, restored.getMatchStatus());
+    }
+
+    @Test
+    void testBuilderUsesIdGenerator() {
+        MatchIdGenerator idGenerator = new MatchIdGenerator(3);
+        FootballMatch first = new FootballMatch.Builder()
+                .teamOne(new Team("TeamA"))
+                .teamTwo(new Team("TeamB"))
+                .matchTitle("Match Football")
+                .referee(new Player("Robin Referee", 777))
+                .idGenerator(idGenerator)
+                .build();
+        FootballMatch second = new FootballMatch.Builder()
+                .teamOne(new Team("TeamA"))
+                .teamTwo(new Team("TeamB"))
+                .matchTitle("Match Football")
+                .referee(new Player("Robin Referee", 777))
+                .idGenerator(idGenerator)
+                .build();
+        assertTrue(MatchIdGenerator.isCompact(first.getMatchId()));
+        assertTrue(first.getMatchId().compareTo(second.getMatchId()) < 0);
+    }
 }
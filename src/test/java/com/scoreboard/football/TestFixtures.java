@@ -0,0 +1,66 @@
+package com.scoreboard.football;
+
+import com.scoreboard.football.modal.Player;
+import com.scoreboard.football.modal.Team;
+
+/**
+ * Teams and matches shared by the tests. Every team has a full roster of 11 players numbered 1 to 11.
+ */
+public final class TestFixtures {
+
+    private TestFixtures() {
+    }
+
+    /**
+     * Returns a team whose players are named {@code playerNamePrefix} followed by their number.
+     */
+    public static Team createTeamWithPlayers(String teamName, String playerNamePrefix) {
+        Team team = new Team(teamName);
+        for (int i = 1; i <= 11; i++) {
+            team.addPlayer(new Player(playerNamePrefix + i, i));
+        }
+        return team;
+    }
+
+    /**
+     * Returns a team with a goalkeeper named "Goli" and a captain named "Skipper", the names every
+     * squad shares, and nine outfield players named after the team.
+     */
+    public static Team createSquad(String teamName) {
+        Team team = new Team(teamName);
+        team.addPlayer(new Player("Goli", 1));
+        team.addPlayer(new Player("Skipper", 2));
+        for (int i = 3; i <= 11; i++) {
+            team.addPlayer(new Player(teamName + "Player" + i, i));
+        }
+        return team;
+    }
+
+    /**
+     * Returns a builder for a match between the given teams with a title and a referee already set.
+     */
+    public static FootballMatch.Builder createMatchBuilder(Team teamOne, Team teamTwo) {
+        return new FootballMatch.Builder()
+                .teamOne(teamOne)
+                .teamTwo(teamTwo)
+                .matchTitle("Match Football")
+                .referee(new Player("MatchReferee", 777));
+    }
+
+    /**
+     * Returns a builder for a match whose team one players are prefixed with {@code playerNamePrefix}
+     * and whose team two players are prefixed with {@code playerNamePrefix + "X"}.
+     */
+    public static FootballMatch.Builder createMatchBuilder(String teamOne, String teamTwo, String playerNamePrefix) {
+        return createMatchBuilder(createTeamWithPlayers(teamOne, playerNamePrefix),
+                createTeamWithPlayers(teamTwo, playerNamePrefix + "X"));
+    }
+
+    public static FootballMatch createValidFootballMatch(String teamOne, String teamTwo, String playerNamePrefix) {
+        return createMatchBuilder(teamOne, teamTwo, playerNamePrefix).build();
+    }
+
+    public static FootballMatch createValidFootballMatch(String teamOne, String teamTwo) {
+        return createValidFootballMatch(teamOne, teamTwo, "Player");
+    }
+}
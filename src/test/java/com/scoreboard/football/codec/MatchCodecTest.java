@@ -0,0 +1,235 @@
+package com.scoreboard.football.codec;
+
+import com.scoreboard.football.FootballMatch;
+import com.scoreboard.football.common.MatchStatus;
+import com.scoreboard.football.modal.Player;
+import com.scoreboard.football.modal.Team;
+import com.scoreboard.football.service.GoalEvent;
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.LocalDateTime;
+
+import static com.scoreboard.football.TestFixtures.createMatchBuilder;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchCodecTest {
+    private static final LocalDateTime START = LocalDateTime.of(2026, 5, 1, 15, 0, 30, 123_456_789);
+
+    @Test
+    void testMatchRoundTripInHeapAndDirectBuffers() {
+        FootballMatch match = createMatch("Match1", "TeamA", "TeamB");
+        match.getTeamOne().increaseScore(2, "Player5");
+        match.getTeamTwo().increaseScore(1, 3);
+        match.setMatchStatus(MatchStatus.IN_PROGRESS);
+
+        for (ByteBuffer buffer : new ByteBuffer[]{ByteBuffer.allocate(4096), ByteBuffer.allocateDirect(4096)}) {
+            int length = MatchCodec.encode(buffer, match);
+            assertEquals(length, buffer.position());
+            buffer.flip();
+            assertMatchEquals(match, MatchCodec.decode(buffer));
+            assertFalse(buffer.hasRemaining());
+        }
+    }
+
+    @Test
+    void testEveryStatusAndUnicodeTextRoundTrip() {
+        ByteBuffer buffer = ByteBuffer.allocate(1 << 16);
+        for (MatchStatus status : MatchStatus.values()) {
+            FootballMatch match = createMatch("Jogo \u00e9\ud83d\ude00", "Se\u00f1ores", "\u6771\u4eac");
+            match.setMatchStatus(status);
+            MatchCodec.encode(buffer, match);
+        }
+        buffer.flip();
+        for (MatchStatus status : MatchStatus.values()) {
+            FootballMatch decoded = MatchCodec.decode(buffer);
+            assertEquals(status, decoded.getMatchStatus());
+            assertEquals("Jogo \u00e9\ud83d\ude00", decoded.getMatchId());
+            assertEquals("Se\u00f1ores", decoded.getTeamOne().getName());
+            assertEquals("\u6771\u4eac", decoded.getTeamTwo().getName());
+        }
+    }
+
+    @Test
+    void testEmptyTeamsRoundTrip() {
+        FootballMatch match = new FootballMatch.Builder()
+                .matchId("Match1")
+                .teamOne(new Team("TeamA"))
+                .teamTwo(new Team("TeamB"))
+                .matchTitle("Friendly")
+                .referee(new Player("MatchReferee", 777))
+                .startTime(START)
+                .build();
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        MatchCodec.encode(buffer, match);
+        buffer.flip();
+        assertMatchEquals(match, MatchCodec.decode(buffer));
+    }
+
+    @Test
+    void testFlyweightReadsFieldsInPlace() {
+        FootballMatch match = createMatch("Match1", "TeamA", "TeamB");
+        match.getTeamTwo().increaseScore(3, "PlayerX9");
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        buffer.position(100);
+        int length = MatchCodec.encode(buffer, match);
+
+        MatchFlyweight flyweight = new MatchFlyweight().wrap(buffer, 100);
+        assertEquals(length, flyweight.getLength());
+        assertTrue(flyweight.matchIdEquals("Match1"));
+        assertFalse(flyweight.matchIdEquals("Match2"));
+        assertEquals("Match Football", flyweight.getMatchTitle());
+        assertEquals(START, flyweight.getStartTime());
+        assertEquals(MatchStatus.SCHEDULED, flyweight.getMatchStatus());
+        assertEquals("MatchReferee", flyweight.getRefereeName());
+        assertEquals(777, flyweight.getRefereeNumber());
+
+        TeamFlyweight team = new TeamFlyweight();
+        assertTrue(flyweight.teamOne(team).nameEquals("TeamA"));
+        assertEquals(0, team.getScore());
+        assertSame(team, flyweight.teamTwo(team));
+        assertEquals("TeamB", team.getName());
+        assertEquals(3, team.getScore());
+        assertEquals(11, team.getPlayerCount());
+        int index = team.indexOfNumber(9);
+        assertEquals("PlayerX9", team.getPlayerName(index));
+        assertEquals(3, team.getPlayerScore(index));
+        assertEquals(-1, team.indexOfNumber(42));
+        assertThrows(IndexOutOfBoundsException.class, () -> team.getPlayerNumber(11));
+    }
+
+    @Test
+    void testGoalRoundTrip() {
+        Team team = new Team("TeamA");
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        MatchCodec.encodeGoal(buffer, new GoalEvent("Match1", "Player5", team));
+        int second = buffer.position();
+        MatchCodec.encodeGoal(buffer, "Match1", "TeamB", null, 3);
+        buffer.flip();
+
+        assertEquals(MatchCodec.GOAL, MatchCodec.typeOf(buffer, 0));
+        GoalFlyweight goal = new GoalFlyweight().wrap(buffer, 0);
+        assertTrue(goal.matchIdEquals("Match1"));
+        assertTrue(goal.teamNameEquals("TeamA"));
+        assertEquals(1, goal.getPoints());
+        GoalEvent event = goal.toGoalEvent(team);
+        assertEquals("Match1", event.getMatchId());
+        assertEquals("Player5", event.getPlayerName());
+        assertSame(team, event.getTeam());
+
+        assertEquals(second, goal.getLength());
+        goal.wrap(buffer, second);
+        assertEquals("TeamB", goal.getTeamName());
+        assertNull(goal.getPlayerName());
+        assertEquals(3, goal.getPoints());
+    }
+
+    @Test
+    void testGoalEventWithoutTeamIsRejected() {
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        buffer.position(5);
+        assertThrows(IllegalArgumentException.class, () -> MatchCodec.encodeGoal(buffer, new GoalEvent("Match1", "Player5", null)));
+        assertEquals(5, buffer.position());
+    }
+
+    @Test
+    void testOverflowLeavesBufferPositionUnchanged() {
+        FootballMatch match = createMatch("Match1", "TeamA", "TeamB");
+        ByteBuffer small = ByteBuffer.allocate(400);
+        small.position(10);
+        assertThrows(BufferOverflowException.class, () -> MatchCodec.encode(small, match));
+        assertEquals(10, small.position());
+        ByteBuffer tiny = ByteBuffer.allocate(30);
+        assertThrows(BufferOverflowException.class, () -> MatchCodec.encodeGoal(tiny, "Match1", "TeamA", "Player1", 1));
+        assertEquals(0, tiny.position());
+    }
+
+    @Test
+    void testMalformedMessagesAreRejected() {
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        int length = MatchCodec.encode(buffer, createMatch("Match1", "TeamA", "TeamB"));
+        buffer.flip();
+
+        assertThrows(IllegalArgumentException.class, () -> new GoalFlyweight().wrap(buffer, 0));
+        ByteBuffer truncated = buffer.duplicate().limit(length - 1);
+        assertThrows(IllegalArgumentException.class, () -> new MatchFlyweight().wrap(truncated, 0));
+        assertThrows(IllegalArgumentException.class, () -> new MatchFlyweight().wrap(buffer, length));
+
+        buffer.put(4, (byte) (MatchCodec.VERSION + 1));
+        assertThrows(IllegalArgumentException.class, () -> MatchCodec.decode(buffer));
+        assertThrows(IllegalArgumentException.class,
+                () -> MatchCodec.encode(ByteBuffer.allocate(4096).order(ByteOrder.LITTLE_ENDIAN), createMatch("Match1", "TeamA", "TeamB")));
+    }
+
+    @Test
+    void testCorruptFieldsAreRejected() {
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        int length = MatchCodec.encode(buffer, createMatch("Match1", "TeamA", "TeamB"));
+        MatchFlyweight flyweight = new MatchFlyweight();
+        TeamFlyweight team = new TeamFlyweight();
+
+        ByteBuffer status = copy(buffer, length);
+        status.put(MatchCodec.MATCH_STATUS, (byte) 99);
+        assertThrows(IllegalArgumentException.class, () -> flyweight.wrap(status, 0).getMatchStatus());
+        status.put(MatchCodec.MATCH_STATUS, (byte) -1);
+        assertThrows(IllegalArgumentException.class, () -> flyweight.wrap(status, 0).getMatchStatus());
+
+        ByteBuffer matchId = copy(buffer, length);
+        matchId.putInt(MatchCodec.MATCH_ID, length - 1);
+        assertThrows(IllegalArgumentException.class, () -> flyweight.wrap(matchId, 0).getMatchId());
+        matchId.putInt(MatchCodec.MATCH_ID, -4);
+        assertThrows(IllegalArgumentException.class, () -> flyweight.wrap(matchId, 0).matchIdEquals("Match1"));
+
+        ByteBuffer title = copy(buffer, length);
+        int titleOffset = title.getInt(MatchCodec.MATCH_TITLE);
+        title.putShort(titleOffset, (short) (length - titleOffset));
+        assertThrows(IllegalArgumentException.class, () -> flyweight.wrap(title, 0).getMatchTitle());
+
+        ByteBuffer referee = copy(buffer, length);
+        referee.putInt(MatchCodec.MATCH_REFEREE, length - MatchCodec.PLAYER_BYTES + 1);
+        assertThrows(IllegalArgumentException.class, () -> flyweight.wrap(referee, 0).getRefereeNumber());
+
+        ByteBuffer teamOffset = copy(buffer, length);
+        teamOffset.putInt(MatchCodec.MATCH_TEAM_TWO, Integer.MAX_VALUE);
+        assertThrows(IllegalArgumentException.class, () -> flyweight.wrap(teamOffset, 0).teamTwo(team));
+
+        ByteBuffer playerCount = copy(buffer, length);
+        playerCount.putInt(playerCount.getInt(MatchCodec.MATCH_TEAM_ONE) + MatchCodec.TEAM_PLAYER_COUNT, 1_000_000);
+        assertThrows(IllegalArgumentException.class, () -> flyweight.wrap(playerCount, 0).teamOne(team));
+        assertThrows(IllegalArgumentException.class, () -> MatchCodec.decode(playerCount));
+    }
+
+    private static ByteBuffer copy(ByteBuffer buffer, int length) {
+        ByteBuffer copy = ByteBuffer.allocate(length);
+        copy.put(0, buffer, 0, length);
+        return copy;
+    }
+
+    private void assertMatchEquals(FootballMatch expected, FootballMatch actual) {
+        assertEquals(expected.getMatchId(), actual.getMatchId());
+        assertEquals(expected.getMatchTitle(), actual.getMatchTitle());
+        assertEquals(expected.getStartTime(), actual.getStartTime());
+        assertEquals(expected.getMatchStatus(), actual.getMatchStatus());
+        assertEquals(expected.getReferee(), actual.getReferee());
+        assertTeamEquals(expected.getTeamOne(), actual.getTeamOne());
+        assertTeamEquals(expected.getTeamTwo(), actual.getTeamTwo());
+    }
+
+    private void assertTeamEquals(Team expected, Team actual) {
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(expected.getScore(), actual.getScore());
+        assertEquals(expected.getPlayers(), actual.getPlayers());
+        for (int i = 0; i < expected.getPlayers().size(); i++) {
+            assertEquals(expected.getPlayers().get(i).getScore(), actual.getPlayers().get(i).getScore());
+        }
+    }
+
+    private FootballMatch createMatch(String matchId, String teamOne, String teamTwo) {
+        return createMatchBuilder(teamOne, teamTwo, "Player")
+                .matchId(matchId)
+                .startTime(START)
+                .build();
+    }
+}
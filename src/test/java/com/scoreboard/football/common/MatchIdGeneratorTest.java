@@ -0,0 +1,66 @@
+package com.scoreboard.football.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchIdGeneratorTest {
+
+    @Test
+    void testIdsStrictlyIncreaseBeyondSequenceCapacity() {
+        MatchIdGenerator idGenerator = new MatchIdGenerator(5);
+        long previous = idGenerator.nextId();
+        for (int i = 0; i < 100_000; i++) {
+            long next = idGenerator.nextId();
+            assertTrue(next > previous);
+            assertEquals(5, next & 1023);
+            previous = next;
+        }
+    }
+
+    @Test
+    void testIdsAreUniqueAcrossThreads() throws Exception {
+        MatchIdGenerator idGenerator = new MatchIdGenerator();
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 25_000; i++) {
+                    ids.add(idGenerator.nextId());
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        assertEquals(100_000, ids.size());
+    }
+
+    @Test
+    void testStringFormRoundTripsAndSorts() {
+        MatchIdGenerator idGenerator = new MatchIdGenerator();
+        long first = idGenerator.nextId();
+        long second = idGenerator.nextId();
+        String firstId = MatchIdGenerator.toString(first);
+        assertEquals(16, firstId.length());
+        assertEquals(first, MatchIdGenerator.parse(firstId));
+        assertTrue(firstId.compareTo(MatchIdGenerator.toString(second)) < 0);
+        assertEquals("000000000000002a", MatchIdGenerator.toString(42));
+    }
+
+    @Test
+    void testNonCompactIdsAreRejected() {
+        Set<String> invalid = new HashSet<>(Set.of("Match1", "000000000000002A", "00000000000002a", "zzzzzzzzzzzzzzzz"));
+        for (String matchId : invalid) {
+            assertFalse(MatchIdGenerator.isCompact(matchId));
+            assertThrows(IllegalArgumentException.class, () -> MatchIdGenerator.parse(matchId));
+        }
+        assertThrows(IllegalArgumentException.class, () -> new MatchIdGenerator(1024));
+    }
+}
@@ -0,0 +1,33 @@
+package com.scoreboard.football.common;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchStatusTest {
+
+    @Test
+    void testLegalTransitions() {
+        assertTrue(MatchStatus.SCHEDULED.canTransitionTo(MatchStatus.IN_PROGRESS));
+        assertTrue(MatchStatus.IN_PROGRESS.canTransitionTo(MatchStatus.PAUSED));
+        assertTrue(MatchStatus.IN_PROGRESS.canTransitionTo(MatchStatus.COMPLETED));
+        assertTrue(MatchStatus.PAUSED.canTransitionTo(MatchStatus.IN_PROGRESS));
+        assertTrue(MatchStatus.PAUSED.canTransitionTo(MatchStatus.COMPLETED));
+
+        assertFalse(MatchStatus.SCHEDULED.canTransitionTo(MatchStatus.PAUSED));
+        assertFalse(MatchStatus.SCHEDULED.canTransitionTo(MatchStatus.COMPLETED));
+        assertFalse(MatchStatus.IN_PROGRESS.canTransitionTo(MatchStatus.SCHEDULED));
+        for (MatchStatus status : MatchStatus.values()) {
+            assertFalse(MatchStatus.COMPLETED.canTransitionTo(status));
+            assertFalse(status.canTransitionTo(status));
+        }
+    }
+
+    @Test
+    void testLiveStatuses() {
+        assertTrue(MatchStatus.IN_PROGRESS.isLive());
+        assertTrue(MatchStatus.PAUSED.isLive());
+        assertFalse(MatchStatus.SCHEDULED.isLive());
+        assertFalse(MatchStatus.COMPLETED.isLive());
+    }
+}
@@ -0,0 +1,224 @@
+package com.scoreboard.football.ingest;
+
+import com.scoreboard.football.FootballMatch;
+import com.scoreboard.football.common.MatchStatus;
+import com.scoreboard.football.modal.Player;
+import com.scoreboard.football.modal.Team;
+import com.scoreboard.football.service.MatchListener;
+import com.scoreboard.football.service.MatchManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static com.scoreboard.football.TestFixtures.createValidFootballMatch;
+import static org.junit.jupiter.api.Assertions.*;
+
+class IngestionPipelineTest {
+    private MatchManager matchManager;
+    private List<FootballMatch> matches;
+
+    @BeforeEach
+    void setUp() {
+        matchManager = new MatchManager();
+        matches = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            FootballMatch match = createValidFootballMatch("TeamA" + i, "TeamB" + i);
+            matchManager.addMatch("Match" + i, match);
+            matches.add(match);
+        }
+    }
+
+    @Test
+    void testEventsFromManyProducersAreApplied() throws Exception {
+        int producers = 4;
+        int goalsPerProducer = 10_000;
+        try (IngestionPipeline pipeline = new IngestionPipeline(matchManager, 4, 1024, BackpressurePolicy.BLOCK)) {
+            ExecutorService executor = Executors.newFixedThreadPool(producers);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < goalsPerProducer; i++) {
+                        int matchIndex = i % matches.size();
+                        assertTrue(pipeline.publishGoal("Match" + matchIndex, "Player1", matches.get(matchIndex).getTeamOne()));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+            executor.shutdown();
+            pipeline.publishStatus("Match3", MatchStatus.IN_PROGRESS);
+        }
+
+        int expectedPerMatch = producers * goalsPerProducer / matches.size();
+        for (FootballMatch match : matches) {
+            assertEquals(expectedPerMatch, match.getTeamOne().getScore());
+        }
+        assertEquals(MatchStatus.IN_PROGRESS, matches.get(3).getMatchStatus());
+    }
+
+    @Test
+    void testFailedEventsAreCounted() {
+        IngestionPipeline pipeline = new IngestionPipeline(matchManager, 2, 16, BackpressurePolicy.BLOCK);
+        pipeline.publishGoal("Unknown", "Player1", matches.get(0).getTeamOne());
+        pipeline.publishGoal("Match0", "Player1", matches.get(0).getTeamOne());
+        pipeline.close();
+        assertEquals(1, pipeline.getAppliedCount());
+        assertEquals(1, pipeline.getFailedCount());
+        assertEquals(0, pipeline.getQueueDepth());
+    }
+
+    @Test
+    void testConsumerSurvivesUnexpectedExceptions() {
+        MatchManager failingManager = new MatchManager() {
+            @Override
+            public void scoreGoal(String matchId, String playerName, Team team) {
+                if ("Broken".equals(playerName)) {
+                    throw new IllegalStateException("Unexpected failure");
+                }
+                super.scoreGoal(matchId, playerName, team);
+            }
+        };
+        failingManager.addMatch("Match0", matches.get(0));
+        IngestionPipeline pipeline = new IngestionPipeline(failingManager, 1, 16, BackpressurePolicy.BLOCK);
+        pipeline.publishGoal("Match0", "Broken", matches.get(0).getTeamOne());
+        pipeline.publishGoal("Match0", "Player1", matches.get(0).getTeamOne());
+        pipeline.close();
+
+        assertEquals(1, pipeline.getFailedCount());
+        assertEquals(1, pipeline.getAppliedCount());
+        assertEquals(1, matches.get(0).getTeamOne().getScore());
+    }
+
+    @Test
+    void testErrorStopsThePartitionAndFailsLaterPublishes() throws Exception {
+        MatchManager failingManager = new MatchManager() {
+            @Override
+            public void scoreGoal(String matchId, String playerName, Team team) {
+                throw new StackOverflowError("Listener recursion");
+            }
+        };
+        failingManager.addMatch("Match0", matches.get(0));
+        IngestionPipeline pipeline = new IngestionPipeline(failingManager, 1, 16, BackpressurePolicy.BLOCK);
+        try {
+            pipeline.publishGoal("Match0", "Player1", matches.get(0).getTeamOne());
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (pipeline.getFailure(0) == null && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            assertInstanceOf(StackOverflowError.class, pipeline.getFailure(0));
+            assertEquals(1, pipeline.getFailedCount());
+            IllegalStateException failure = assertThrows(IllegalStateException.class,
+                    () -> pipeline.publishGoal("Match0", "Player1", matches.get(0).getTeamOne()));
+            assertSame(pipeline.getFailure(0), failure.getCause());
+        } finally {
+            pipeline.close();
+        }
+    }
+
+    @Test
+    void testCloseAppliesEveryAcceptedEvent() throws Exception {
+        for (int round = 0; round < 20; round++) {
+            IngestionPipeline pipeline = new IngestionPipeline(matchManager, 4, 1024, BackpressurePolicy.BLOCK);
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            CountDownLatch started = new CountDownLatch(4);
+            List<Future<Integer>> accepted = new ArrayList<>();
+            for (int p = 0; p < 4; p++) {
+                accepted.add(executor.submit(() -> {
+                    started.countDown();
+                    int count = 0;
+                    try {
+                        for (int i = 0; ; i++) {
+                            pipeline.publishStatus("Match" + (i % matches.size()), MatchStatus.IN_PROGRESS);
+                            count++;
+                        }
+                    } catch (IllegalStateException e) {
+                        return count;
+                    }
+                }));
+            }
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            pipeline.close();
+            long total = 0;
+            for (Future<Integer> future : accepted) {
+                total += future.get(10, TimeUnit.SECONDS);
+            }
+            executor.shutdown();
+
+            assertEquals(total, pipeline.getAppliedCount() + pipeline.getFailedCount());
+            assertEquals(0, pipeline.getQueueDepth());
+        }
+    }
+
+    @Test
+    void testDropPolicyWhenPartitionFull() throws Exception {
+        CountDownLatch consumerBlocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        matchManager.addListener(blockingListener(consumerBlocked, release));
+        IngestionPipeline pipeline = new IngestionPipeline(matchManager, 1, 4, BackpressurePolicy.DROP);
+        try {
+            assertTrue(pipeline.publishGoal("Match0", "Player1", matches.get(0).getTeamOne()));
+            assertTrue(consumerBlocked.await(10, TimeUnit.SECONDS));
+            for (int i = 0; i < 4; i++) {
+                assertTrue(pipeline.publishGoal("Match0", "Player1", matches.get(0).getTeamOne()));
+            }
+            assertEquals(4, pipeline.getQueueDepth());
+            assertFalse(pipeline.publishGoal("Match0", "Player1", matches.get(0).getTeamOne()));
+            assertEquals(1, pipeline.getDroppedCount());
+        } finally {
+            release.countDown();
+            pipeline.close();
+        }
+        assertEquals(5, matches.get(0).getTeamOne().getScore());
+    }
+
+    @Test
+    void testRejectPolicyWhenPartitionFull() throws Exception {
+        CountDownLatch consumerBlocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        matchManager.addListener(blockingListener(consumerBlocked, release));
+        IngestionPipeline pipeline = new IngestionPipeline(matchManager, 1, 2, BackpressurePolicy.REJECT);
+        try {
+            pipeline.publishGoal("Match0", "Player1", matches.get(0).getTeamOne());
+            assertTrue(consumerBlocked.await(10, TimeUnit.SECONDS));
+            pipeline.publishGoal("Match0", "Player1", matches.get(0).getTeamOne());
+            pipeline.publishGoal("Match0", "Player1", matches.get(0).getTeamOne());
+            assertThrows(RejectedExecutionException.class, () ->
+                    pipeline.publishGoal("Match0", "Player1", matches.get(0).getTeamOne()));
+            assertEquals(1, pipeline.getRejectedCount());
+        } finally {
+            release.countDown();
+            pipeline.close();
+        }
+    }
+
+    @Test
+    void testRingCapacityMustBePowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new IngestionPipeline(matchManager, 1, 100, BackpressurePolicy.BLOCK));
+    }
+
+    private MatchListener blockingListener(CountDownLatch blocked, CountDownLatch release) {
+        return new MatchListener() {
+            @Override
+            public void goalScored(String matchId, Team team, Player scorer, int points) {
+                if (blocked.getCount() > 0) {
+                    blocked.countDown();
+                    try {
+                        release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+        };
+    }
+}
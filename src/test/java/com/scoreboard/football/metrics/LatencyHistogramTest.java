@@ -0,0 +1,67 @@
+package com.scoreboard.football.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void testBucketsCoverEveryValue() {
+        long[] values = {0, 1, 15, 16, 17, 31, 32, 1_000, 123_456_789, Long.MAX_VALUE};
+        for (long value : values) {
+            int bucket = LatencyHistogram.bucketOf(value);
+            assertTrue(LatencyHistogram.highestValueIn(bucket) >= value);
+            if (bucket > 0) {
+                assertTrue(LatencyHistogram.highestValueIn(bucket - 1) < value);
+            }
+        }
+    }
+
+    @Test
+    void testPercentilesWithinRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 10_000; i++) {
+            histogram.record(i * 100L);
+        }
+        LatencySnapshot snapshot = histogram.snapshot();
+        assertEquals(10_000, snapshot.getCount());
+        assertEquals(1_000_000, snapshot.getMaxNanos());
+        assertWithin(500_000, snapshot.getP50Nanos());
+        assertWithin(990_000, snapshot.getP99Nanos());
+        assertWithin(999_000, snapshot.getP999Nanos());
+    }
+
+    @Test
+    void testConcurrentRecordingIsMergedOnSnapshot() throws Exception {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            long value = (t + 1) * 1_000L;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.record(value);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        LatencySnapshot snapshot = histogram.snapshot();
+        assertEquals(80_000, snapshot.getCount());
+        assertEquals(8_000, snapshot.getMaxNanos());
+        assertWithin(4_000, snapshot.getP50Nanos());
+    }
+
+    @Test
+    void testEmptyHistogram() {
+        LatencySnapshot snapshot = new LatencyHistogram().snapshot();
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.getP99Nanos());
+    }
+
+    private void assertWithin(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected * 1.07, "expected about " + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,123 @@
+package com.scoreboard.football.metrics;
+
+import com.scoreboard.football.FootballMatch;
+import com.scoreboard.football.common.MatchStatus;
+import com.scoreboard.football.common.MatchValidationException;
+import com.scoreboard.football.common.ValidationRule;
+import com.scoreboard.football.modal.Player;
+import com.scoreboard.football.service.GoalEvent;
+import com.scoreboard.football.service.MatchManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static com.scoreboard.football.TestFixtures.createTeamWithPlayers;
+import static com.scoreboard.football.TestFixtures.createValidFootballMatch;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchManagerMetricsTest {
+    private MatchManager matchManager;
+    private MatchManagerMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        matchManager = new MatchManager();
+        metrics = matchManager.getMetrics();
+    }
+
+    @Test
+    void testCallsAndLatenciesAreRecorded() {
+        FootballMatch match = createValidFootballMatch("TeamA", "TeamB");
+        matchManager.addMatch("Match1", match);
+        for (int i = 0; i < 10; i++) {
+            matchManager.scoreGoal("Match1", "Player1", match.getTeamOne());
+        }
+        matchManager.getPlayersRanking("Match1");
+
+        assertEquals(1, metrics.getCallCount(MatchOperation.ADD_MATCH));
+        assertEquals(10, metrics.getCallCount(MatchOperation.SCORE_GOAL));
+        assertEquals(1, metrics.getCallCount(MatchOperation.GET_PLAYERS_RANKING));
+        assertEquals(0, metrics.getCallCount(MatchOperation.REMOVE_MATCH));
+        LatencySnapshot latency = metrics.getLatency(MatchOperation.SCORE_GOAL);
+        assertTrue(latency.getP50Nanos() > 0);
+        assertTrue(latency.getP50Nanos() <= latency.getP99Nanos());
+        assertTrue(latency.getP99Nanos() <= latency.getP999Nanos());
+    }
+
+    @Test
+    void testValidationFailuresAreCountedPerRule() {
+        FootballMatch match = createValidFootballMatch("TeamA", "TeamB");
+        matchManager.addMatch("Match1", match);
+        assertThrows(MatchValidationException.class, () -> matchManager.addMatch("Match1", match));
+        assertThrows(IllegalArgumentException.class, () -> matchManager.scoreGoal("Unknown", "Player1", match.getTeamOne()));
+        assertThrows(IllegalArgumentException.class, () -> matchManager.getPlayerDetails("Nobody"));
+        matchManager.setMatchStatus("Match1", MatchStatus.IN_PROGRESS);
+        MatchValidationException removeFailure = assertThrows(MatchValidationException.class,
+                () -> matchManager.removeMatch("Match1"));
+        assertEquals(ValidationRule.MATCH_NOT_IN_PROGRESS, removeFailure.getRule());
+        matchManager.scoreGoals(List.of(
+                new GoalEvent("Unknown", "Player1", match.getTeamOne()),
+                new GoalEvent("Match1", "Player1", createTeamWithPlayers("TeamC", "Player"))));
+
+        assertEquals(1, metrics.getValidationFailureCount(ValidationRule.MATCH_ID_UNIQUE));
+        assertEquals(2, metrics.getValidationFailureCount(ValidationRule.MATCH_EXISTS));
+        assertEquals(1, metrics.getValidationFailureCount(ValidationRule.PLAYER_EXISTS));
+        assertEquals(1, metrics.getValidationFailureCount(ValidationRule.MATCH_NOT_IN_PROGRESS));
+        assertEquals(1, metrics.getValidationFailureCount(ValidationRule.TEAM_IN_MATCH));
+        assertEquals(1, metrics.getFailureCount(MatchOperation.ADD_MATCH));
+        assertEquals(2, metrics.getCallCount(MatchOperation.ADD_MATCH));
+        assertEquals(0, metrics.getFailureCount(MatchOperation.SCORE_GOALS));
+    }
+
+    @Test
+    void testArchiveAndIterationOperationsAreRecorded() {
+        FootballMatch match = createValidFootballMatch("TeamA", "TeamB");
+        matchManager.addMatch("Match1", match);
+        matchManager.forEachMatch((matchId, registered) -> { });
+        assertEquals(1, matchManager.getMatchCount());
+        matchManager.setMatchStatus("Match1", MatchStatus.COMPLETED);
+        matchManager.archiveMatch("Match1");
+        matchManager.setArchivedMatchStatus("Match1", MatchStatus.COMPLETED);
+        matchManager.forEachArchivedMatch(matchManager::restoreArchivedMatch);
+        assertEquals(1, matchManager.getArchivedMatchCount());
+        matchManager.removeArchivedMatch("Match1");
+        assertThrows(MatchValidationException.class, () -> matchManager.removeArchivedMatch("Match1"));
+        assertThrows(MatchValidationException.class,
+                () -> matchManager.setArchivedMatchStatus("Match1", MatchStatus.COMPLETED));
+
+        assertEquals(1, metrics.getCallCount(MatchOperation.FOR_EACH_MATCH));
+        assertEquals(1, metrics.getCallCount(MatchOperation.GET_MATCH_COUNT));
+        assertEquals(2, metrics.getCallCount(MatchOperation.SET_ARCHIVED_MATCH_STATUS));
+        assertEquals(1, metrics.getFailureCount(MatchOperation.SET_ARCHIVED_MATCH_STATUS));
+        assertEquals(1, metrics.getCallCount(MatchOperation.FOR_EACH_ARCHIVED_MATCH));
+        assertEquals(1, metrics.getCallCount(MatchOperation.RESTORE_ARCHIVED_MATCH));
+        assertEquals(1, metrics.getCallCount(MatchOperation.GET_ARCHIVED_MATCH_COUNT));
+        assertEquals(2, metrics.getCallCount(MatchOperation.REMOVE_ARCHIVED_MATCH));
+        assertEquals(1, metrics.getFailureCount(MatchOperation.REMOVE_ARCHIVED_MATCH));
+    }
+
+    @Test
+    void testMetricsAreExposedOverJmx() throws Exception {
+        FootballMatch match = createValidFootballMatch("TeamA", "TeamB");
+        matchManager.addMatch("Match1", match);
+        assertThrows(IllegalArgumentException.class, () -> matchManager.getMatchDetails("Unknown"));
+
+        ObjectName objectName = metrics.registerMBean("test");
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            TabularData latencies = (TabularData) server.getAttribute(objectName, "Latencies");
+            CompositeData addMatch = (CompositeData) latencies.get(new Object[]{"ADD_MATCH"}).get("value");
+            assertEquals(1L, addMatch.get("count"));
+            TabularData validationFailures = (TabularData) server.getAttribute(objectName, "ValidationFailures");
+            assertEquals(1L, validationFailures.get(new Object[]{"MATCH_EXISTS"}).get("value"));
+        } finally {
+            metrics.unregisterMBean("test");
+        }
+    }
+}
@@ -5,6 +5,9 @@ import com.scoreboard.football.modal.Team;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.Assert.*;
 
 class TeamTest {
@@ -151,4 +154,89 @@ class TeamTest {
 
         assertNull(team.getSkipper()); // No Skipper added to the team
     }
-}
\ No newline at end of file
+
+    @Test
+    void testRosterListenerNotifiedOnChanges() {
+        List<String> events = new ArrayList<>();
+        team.addRosterListener(new RosterListener() {
+            @Override
+            public void playerAdded(Team team, Player player) {
+                events.add("added " + player.getName());
+            }
+
+            @Override
+            public void playerRemoved(Team team, Player player) {
+                events.add("removed " + player.getName());
+            }
+        });
+        Player player = new Player("Player1", 10);
+        team.addPlayer(player);
+        team.addPlayer(player);
+        team.removePlayer(player);
+        team.removePlayer(player);
+
+        assertEquals(List.of("added Player1", "removed Player1"), events);
+    }
+
+    @Test
+    void testJerseyNumberFreedOnRemoval() {
+        Player player1 = new Player("Player1", 7);
+        team.addPlayer(player1);
+        team.removePlayer(player1);
+
+        assertTrue(team.addPlayer(new Player("Player2", 7)));
+        assertEquals(1, team.getPlayers().size());
+        assertEquals("Player2", team.getPlayers().get(0).getName());
+    }
+
+    @Test
+    void testIncreaseScoreFindsRenamedPlayer() {
+        Player player = new Player("Player1", 7);
+        team.addPlayer(player);
+        player.setName("Renamed");
+
+        assertSame(player, team.increaseScore(1, "Renamed"));
+        assertNull(team.increaseScore(1, "Player1"));
+        assertEquals(1, player.getScore());
+        assertEquals(2, team.getScore());
+    }
+
+    @Test
+    void testGetPlayerByNumber() {
+        Player player = new Player("Player1", 10);
+        Player highNumber = new Player("Player2", 1000);
+        team.addPlayer(player);
+        team.addPlayer(highNumber);
+
+        assertSame(player, team.getPlayerByNumber(10));
+        assertSame(highNumber, team.getPlayerByNumber(1000));
+        assertNull(team.getPlayerByNumber(11));
+        assertNull(team.getPlayerByNumber(-1));
+        team.removePlayer(player);
+        assertNull(team.getPlayerByNumber(10));
+    }
+
+    @Test
+    void testHighJerseyNumbers() {
+        Player player = new Player("Player1", Integer.MAX_VALUE - 1);
+        assertTrue(team.addPlayer(player));
+        assertFalse(team.addPlayer(new Player("Player2", Integer.MAX_VALUE - 1)));
+        assertTrue(team.addPlayer(new Player("Player3", Integer.MAX_VALUE)));
+
+        assertSame(player, team.getPlayerByNumber(Integer.MAX_VALUE - 1));
+        team.removePlayer(player);
+        assertTrue(team.addPlayer(new Player("Player2", Integer.MAX_VALUE - 1)));
+        assertEquals(2, team.getPlayers().size());
+    }
+
+    @Test
+    void testIncreaseScoreByNumber() {
+        Player player = new Player("Player1", 10);
+        team.addPlayer(player);
+
+        assertSame(player, team.increaseScore(2, 10));
+        assertNull(team.increaseScore(1, 11));
+        assertEquals(2, player.getScore());
+        assertEquals(3, team.getScore());
+    }
+}
@@ -0,0 +1,290 @@
+package com.scoreboard.football.persistence;
+
+import com.scoreboard.football.FootballMatch;
+import com.scoreboard.football.common.MatchStatus;
+import com.scoreboard.football.modal.Player;
+import com.scoreboard.football.modal.Team;
+import com.scoreboard.football.service.MatchManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.scoreboard.football.TestFixtures.createTeamWithPlayers;
+import static com.scoreboard.football.TestFixtures.createValidFootballMatch;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GoalLogTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testReplayRebuildsMatchManager() throws IOException {
+        Path logFile = tempDir.resolve("goals.log");
+        MatchManager matchManager = new MatchManager();
+        FootballMatch match1 = createValidFootballMatch("TeamA", "TeamB", "Player");
+        FootballMatch match2 = createValidFootballMatch("TeamC", "TeamD", "Other");
+        try (GoalLog goalLog = new GoalLog(logFile)) {
+            matchManager.addListener(goalLog);
+            matchManager.addMatch("Match1", match1);
+            matchManager.addMatch("Match2", match2);
+            matchManager.setMatchStatus("Match1", MatchStatus.IN_PROGRESS);
+            matchManager.scoreGoal("Match1", "Player3", match1.getTeamOne());
+            matchManager.scoreGoal("Match1", "Player3", match1.getTeamOne());
+            matchManager.scoreGoal("Match1", "PlayerX7", match1.getTeamTwo());
+            matchManager.scoreGoal("Match1", "Nobody", match1.getTeamTwo());
+            matchManager.removeMatch("Match2");
+            goalLog.sync();
+            assertEquals(goalLog.getAppendedSequence(), goalLog.getDurableSequence());
+        }
+
+        MatchManager replayed = GoalLog.replay(logFile);
+
+        assertEquals(1, replayed.getAllMatches().size());
+        FootballMatch replayedMatch = replayed.getMatchDetails("Match1");
+        assertEquals(match1.getMatchId(), replayedMatch.getMatchId());
+        assertEquals(match1.getStartTime(), replayedMatch.getStartTime());
+        assertEquals(MatchStatus.IN_PROGRESS, replayedMatch.getMatchStatus());
+        assertEquals(2, replayedMatch.getTeamOne().getScore());
+        assertEquals(2, replayedMatch.getTeamTwo().getScore());
+        assertEquals(2, replayed.getPlayerDetails("Player3").getScore());
+        assertEquals(1, replayed.getPlayerDetails("PlayerX7").getScore());
+        assertEquals("Player3", replayed.getPlayersRanking("Match1").get(0).getName());
+    }
+
+    @Test
+    void testReplayAppliesRosterChangesAndUpdates() throws IOException {
+        Path logFile = tempDir.resolve("goals.log");
+        MatchManager matchManager = new MatchManager();
+        FootballMatch match = createValidFootballMatch("TeamA", "TeamB", "Player");
+        FootballMatch replacement = createValidFootballMatch("TeamE", "TeamF", "Replacement");
+        try (GoalLog goalLog = new GoalLog(logFile)) {
+            matchManager.addListener(goalLog);
+            matchManager.addMatch("Match1", match);
+            match.getTeamOne().removePlayer(match.getTeamOne().getPlayers().get(0));
+            match.getTeamOne().addPlayer(new Player("Substitute", 40));
+            matchManager.addMatch("Match2", replacement);
+            matchManager.updateMatch("Match2", createValidFootballMatch("TeamG", "TeamH", "Updated"));
+        }
+
+        MatchManager replayed = GoalLog.replay(logFile);
+
+        assertEquals("Substitute", replayed.getPlayerDetails("TeamA", 40).getName());
+        assertThrows(IllegalArgumentException.class, () -> replayed.getPlayerDetails("Player1"));
+        assertEquals("TeamG", replayed.getMatchDetails("Match2").getTeamOne().getName());
+    }
+
+    @Test
+    void testReplayArchivesInsteadOfDeleting() throws IOException {
+        Path logFile = tempDir.resolve("goals.log");
+        MatchManager matchManager = new MatchManager();
+        FootballMatch match1 = createValidFootballMatch("TeamA", "TeamB", "Player");
+        FootballMatch match2 = createValidFootballMatch("TeamC", "TeamD", "Other");
+        try (GoalLog goalLog = new GoalLog(logFile)) {
+            matchManager.addListener(goalLog);
+            matchManager.addMatch("Match1", match1);
+            matchManager.addMatch("Match2", match2);
+            matchManager.scoreGoal("Match1", "Player3", match1.getTeamOne());
+            matchManager.setMatchStatus("Match1", MatchStatus.COMPLETED);
+            matchManager.setMatchStatus("Match2", MatchStatus.COMPLETED);
+            matchManager.archiveMatch("Match1");
+            matchManager.archiveMatch("Match2");
+            matchManager.removeArchivedMatch("Match2");
+        }
+
+        MatchManager replayed = GoalLog.replay(logFile);
+
+        assertEquals(0, replayed.getMatchCount());
+        assertEquals(1, replayed.getArchivedMatchCount());
+        assertEquals(MatchStatus.COMPLETED, replayed.getArchivedMatch("Match1").getMatchStatus());
+        assertEquals(1, replayed.getArchivedMatch("Match1").getTeamOneScore());
+        assertEquals(1, replayed.getArchivedMatch("Match1").getTeamOnePlayerScores().get(3));
+        assertFalse(replayed.hasArchivedMatch("Match2"));
+    }
+
+    @Test
+    void testTornTailIsIgnoredAndTruncated() throws IOException {
+        Path logFile = tempDir.resolve("goals.log");
+        MatchManager matchManager = new MatchManager();
+        FootballMatch match = createValidFootballMatch("TeamA", "TeamB", "Player");
+        try (GoalLog goalLog = new GoalLog(logFile)) {
+            matchManager.addListener(goalLog);
+            matchManager.addMatch("Match1", match);
+            matchManager.scoreGoal("Match1", "Player1", match.getTeamOne());
+        }
+        long intactLength = Files.size(logFile);
+        try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0, 0, 0, 40, 4, 1, 2}));
+        }
+
+        assertEquals(1, GoalLog.replay(logFile).getMatchDetails("Match1").getTeamOne().getScore());
+
+        try (GoalLog reopened = new GoalLog(logFile)) {
+            assertEquals(intactLength, Files.size(logFile));
+            MatchManager replayed = GoalLog.replay(logFile);
+            replayed.addListener(reopened);
+            FootballMatch replayedMatch = replayed.getMatchDetails("Match1");
+            replayed.scoreGoal("Match1", "Player1", replayedMatch.getTeamOne());
+        }
+        assertEquals(2, GoalLog.replay(logFile).getPlayerDetails("Player1").getScore());
+    }
+
+    @Test
+    void testConcurrentAppendsShareFlushes() throws Exception {
+        Path logFile = tempDir.resolve("goals.log");
+        MatchManager matchManager = new MatchManager();
+        List<FootballMatch> matches = new ArrayList<>();
+        int threads = 4;
+        int goalsPerThread = 5_000;
+        try (GoalLog goalLog = new GoalLog(logFile, 1 << 16)) {
+            matchManager.addListener(goalLog);
+            for (int i = 0; i < threads; i++) {
+                FootballMatch match = createValidFootballMatch("TeamA" + i, "TeamB" + i, "Player");
+                matchManager.addMatch("Match" + i, match);
+                matches.add(match);
+            }
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int matchIndex = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < goalsPerThread; i++) {
+                        matchManager.scoreGoal("Match" + matchIndex, "Player1", matches.get(matchIndex).getTeamOne());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+            executor.shutdown();
+            goalLog.sync();
+            assertEquals(threads * (goalsPerThread + 1L), goalLog.getDurableSequence());
+        }
+
+        MatchManager replayed = GoalLog.replay(logFile);
+        for (int i = 0; i < threads; i++) {
+            assertEquals(goalsPerThread, replayed.getMatchDetails("Match" + i).getTeamOne().getScore());
+        }
+    }
+
+    @Test
+    void testReplayRestoresMatchesWithoutRevalidatingThem() throws IOException {
+        Path logFile = tempDir.resolve("goals.log");
+        MatchManager matchManager = new MatchManager();
+        FootballMatch match = createValidFootballMatch("TeamA", "TeamB", "Player");
+        match.getTeamOne().removePlayer(match.getTeamOne().getPlayers().get(0));
+        try (GoalLog goalLog = new GoalLog(logFile)) {
+            matchManager.addListener(goalLog);
+            matchManager.restoreMatch("Match1", match);
+        }
+
+        MatchManager replayed = GoalLog.replay(logFile);
+
+        assertEquals(10, replayed.getMatchDetails("Match1").getTeamOne().getPlayers().size());
+    }
+
+    @Test
+    void testRecordForUnknownTeamFailsReplay() throws IOException {
+        Path logFile = tempDir.resolve("goals.log");
+        FootballMatch match = createValidFootballMatch("TeamA", "TeamB", "Player");
+        Team stranger = createTeamWithPlayers("TeamZ", "Stranger");
+        try (GoalLog goalLog = new GoalLog(logFile)) {
+            goalLog.matchAdded("Match1", match);
+            goalLog.goalScored("Match1", stranger, stranger.getPlayers().get(0), 1);
+        }
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> GoalLog.replay(logFile));
+        assertTrue(e.getMessage().contains("TeamZ"));
+    }
+
+    @Test
+    void testChangeAfterCloseIsLatchedAsFailure() throws IOException {
+        Path logFile = tempDir.resolve("goals.log");
+        MatchManager matchManager = new MatchManager();
+        GoalLog goalLog = new GoalLog(logFile);
+        matchManager.addListener(goalLog);
+        matchManager.addMatch("Match1", createValidFootballMatch("TeamA", "TeamB", "Player"));
+        assertNull(goalLog.getFailure());
+        goalLog.close();
+
+        matchManager.setMatchStatus("Match1", MatchStatus.IN_PROGRESS);
+
+        assertNotNull(goalLog.getFailure());
+        assertEquals(1, matchManager.getMetrics().getListenerFailures());
+        assertThrows(IOException.class, goalLog::sync);
+        assertEquals(1, GoalLog.replay(logFile).getAllMatches().size());
+    }
+
+    @Test
+    void testRecoverReplaysOnlyRecordsAfterTheCheckpoint() throws IOException {
+        Path logFile = tempDir.resolve("goals.log");
+        Path snapshotFile = tempDir.resolve("board.snapshot");
+        MatchManager matchManager = new MatchManager();
+        FootballMatch match = createValidFootballMatch("TeamA", "TeamB", "Player");
+        try (GoalLog goalLog = new GoalLog(logFile)) {
+            matchManager.addListener(goalLog);
+            matchManager.addMatch("Match1", match);
+            matchManager.setMatchStatus("Match1", MatchStatus.IN_PROGRESS);
+            matchManager.scoreGoal("Match1", "Player3", match.getTeamOne());
+            goalLog.sync();
+            assertEquals(Files.size(logFile), GoalLog.checkpoint(logFile, snapshotFile));
+
+            matchManager.scoreGoal("Match1", "Player3", match.getTeamOne());
+            matchManager.scoreGoal("Match1", "PlayerX2", match.getTeamTwo());
+            goalLog.sync();
+            assertEquals(Files.size(logFile), GoalLog.checkpoint(logFile, snapshotFile));
+
+            matchManager.scoreGoal("Match1", "PlayerX2", match.getTeamTwo());
+        }
+
+        MatchManager recovered = GoalLog.recover(snapshotFile, logFile);
+
+        FootballMatch recoveredMatch = recovered.getMatchDetails("Match1");
+        assertEquals(2, recoveredMatch.getTeamOne().getScore());
+        assertEquals(2, recoveredMatch.getTeamTwo().getScore());
+        assertEquals(2, recovered.getPlayerDetails("Player3").getScore());
+        assertEquals(MatchStatus.IN_PROGRESS, recoveredMatch.getMatchStatus());
+    }
+
+    @Test
+    void testRecoverWithoutCheckpointReplaysTheWholeLog() throws IOException {
+        Path logFile = tempDir.resolve("goals.log");
+        MatchManager matchManager = new MatchManager();
+        FootballMatch match = createValidFootballMatch("TeamA", "TeamB", "Player");
+        try (GoalLog goalLog = new GoalLog(logFile)) {
+            matchManager.addListener(goalLog);
+            matchManager.addMatch("Match1", match);
+            matchManager.scoreGoal("Match1", "Player3", match.getTeamOne());
+        }
+
+        MatchManager recovered = GoalLog.recover(tempDir.resolve("board.snapshot"), logFile);
+
+        assertEquals(1, recovered.getMatchDetails("Match1").getTeamOne().getScore());
+    }
+
+    @Test
+    void testRecoverRejectsSnapshotOfLiveManager() throws IOException {
+        Path logFile = tempDir.resolve("goals.log");
+        Path snapshotFile = tempDir.resolve("board.snapshot");
+        MatchManager matchManager = new MatchManager();
+        try (GoalLog goalLog = new GoalLog(logFile)) {
+            matchManager.addListener(goalLog);
+            matchManager.addMatch("Match1", createValidFootballMatch("TeamA", "TeamB", "Player"));
+        }
+        MatchSnapshot.write(matchManager, snapshotFile);
+
+        assertThrows(IOException.class, () -> GoalLog.recover(snapshotFile, logFile));
+        assertThrows(IOException.class, () -> GoalLog.checkpoint(logFile, snapshotFile));
+    }
+}
@@ -0,0 +1,128 @@
+package com.scoreboard.football.persistence;
+
+import com.scoreboard.football.FootballMatch;
+import com.scoreboard.football.common.MatchStatus;
+import com.scoreboard.football.modal.Player;
+import com.scoreboard.football.service.ArchivedMatch;
+import com.scoreboard.football.service.MatchManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.scoreboard.football.TestFixtures.createValidFootballMatch;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchSnapshotTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testSnapshotRoundTrip() throws IOException {
+        MatchManager matchManager = new MatchManager();
+        FootballMatch match1 = createValidFootballMatch("TeamA", "TeamB", "Player");
+        FootballMatch match2 = createValidFootballMatch("TeamC", "TeamD", "Other");
+        matchManager.addMatch("Match1", match1);
+        matchManager.addMatch("Match2", match2);
+        match1.setMatchStatus(MatchStatus.IN_PROGRESS);
+        matchManager.scoreGoal("Match1", "Player5", match1.getTeamOne());
+        matchManager.scoreGoal("Match1", "Nobody", match1.getTeamTwo());
+        match2.getTeamTwo().removePlayer(match2.getTeamTwo().getPlayers().get(3));
+
+        Path snapshotFile = tempDir.resolve("board.snapshot");
+        MatchSnapshot.write(matchManager, snapshotFile);
+        MatchManager loaded = MatchSnapshot.load(snapshotFile);
+
+        assertEquals(2, loaded.getMatchCount());
+        FootballMatch loadedMatch1 = loaded.getMatchDetails("Match1");
+        assertEquals(match1.getMatchId(), loadedMatch1.getMatchId());
+        assertEquals(match1.getMatchTitle(), loadedMatch1.getMatchTitle());
+        assertEquals(match1.getStartTime(), loadedMatch1.getStartTime());
+        assertEquals(MatchStatus.IN_PROGRESS, loadedMatch1.getMatchStatus());
+        assertEquals(match1.getReferee(), loadedMatch1.getReferee());
+        assertEquals(1, loadedMatch1.getTeamOne().getScore());
+        assertEquals(1, loadedMatch1.getTeamTwo().getScore());
+        assertEquals(1, loaded.getPlayerDetails("Player5").getScore());
+        assertEquals(10, loaded.getMatchDetails("Match2").getTeamTwo().getPlayers().size());
+        assertFalse(Files.exists(tempDir.resolve("board.snapshot.tmp")));
+    }
+
+    @Test
+    void testSnapshotKeepsArchivedMatches() throws IOException {
+        MatchManager matchManager = new MatchManager();
+        FootballMatch match1 = createValidFootballMatch("TeamA", "TeamB", "Player");
+        FootballMatch match2 = createValidFootballMatch("TeamC", "TeamD", "Other");
+        matchManager.addMatch("Match1", match1);
+        matchManager.addMatch("Match2", match2);
+        matchManager.scoreGoal("Match1", "Player5", match1.getTeamOne());
+        matchManager.scoreGoal("Match1", "PlayerX2", match1.getTeamTwo());
+        matchManager.setMatchStatus("Match1", MatchStatus.COMPLETED);
+        matchManager.archiveMatch("Match1");
+
+        Path snapshotFile = tempDir.resolve("board.snapshot");
+        MatchSnapshot.write(matchManager, snapshotFile);
+        MatchManager loaded = MatchSnapshot.load(snapshotFile);
+
+        assertEquals(1, loaded.getMatchCount());
+        assertTrue(loaded.hasMatch("Match2"));
+        assertEquals(1, loaded.getArchivedMatchCount());
+        ArchivedMatch archived = loaded.getArchivedMatch("Match1");
+        assertEquals(MatchStatus.COMPLETED, archived.getMatchStatus());
+        assertEquals(1, archived.getTeamOneScore());
+        assertEquals(1, archived.getTeamTwoScore());
+        assertEquals(matchManager.getArchivedMatch("Match1").getTeamOnePlayerScores(), archived.getTeamOnePlayerScores());
+        assertEquals(1, archived.getTeamTwoPlayerScores().get(2));
+    }
+
+    @Test
+    void testEmptySnapshot() throws IOException {
+        Path snapshotFile = tempDir.resolve("board.snapshot");
+        MatchSnapshot.write(new MatchManager(), snapshotFile);
+        assertEquals(0, MatchSnapshot.load(snapshotFile).getMatchCount());
+    }
+
+    @Test
+    void testCorruptSnapshotIsRejected() throws IOException {
+        MatchManager matchManager = new MatchManager();
+        matchManager.addMatch("Match1", createValidFootballMatch("TeamA", "TeamB", "Player"));
+        Path snapshotFile = tempDir.resolve("board.snapshot");
+        MatchSnapshot.write(matchManager, snapshotFile);
+        try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{42}), 20);
+        }
+        assertThrows(IOException.class, () -> MatchSnapshot.load(snapshotFile));
+    }
+
+    @Test
+    void testSnapshotWhileScoring() throws Exception {
+        MatchManager matchManager = new MatchManager();
+        for (int i = 0; i < 2_000; i++) {
+            matchManager.addMatch("Match" + i, createValidFootballMatch("TeamA" + i, "TeamB" + i, "Player"));
+        }
+        FootballMatch scoredMatch = matchManager.getMatchDetails("Match0");
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread scorer = new Thread(() -> {
+            while (running.get()) {
+                matchManager.scoreGoal("Match0", "Player1", scoredMatch.getTeamOne());
+            }
+        });
+        scorer.start();
+        Path snapshotFile = tempDir.resolve("board.snapshot");
+        try {
+            MatchSnapshot.write(matchManager, snapshotFile);
+        } finally {
+            running.set(false);
+            scorer.join();
+        }
+
+        MatchManager loaded = MatchSnapshot.load(snapshotFile);
+        assertEquals(2_000, loaded.getMatchCount());
+        assertTrue(loaded.getMatchDetails("Match0").getTeamOne().getScore() <= scoredMatch.getTeamOne().getScore());
+    }
+}
@@ -0,0 +1,349 @@
+package com.scoreboard.football.persistence;
+
+import com.scoreboard.football.FootballMatch;
+import com.scoreboard.football.common.MatchStatus;
+import com.scoreboard.football.modal.Player;
+import com.scoreboard.football.service.MatchListener;
+import com.scoreboard.football.service.MatchManager;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Pipe;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.channels.WritableByteChannel;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static com.scoreboard.football.TestFixtures.createValidFootballMatch;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplicationTest {
+    @Test
+    void testFollowerAppliesLeaderMutationsInOrder() throws Exception {
+        Pipe pipe = Pipe.open();
+        MatchManager leaderManager = new MatchManager();
+        try (ReplicationFollower follower = new ReplicationFollower(pipe.source());
+             ReplicationLeader leader = new ReplicationLeader(leaderManager, pipe.sink())) {
+            FootballMatch match1 = createValidFootballMatch("TeamA", "TeamB", "Player");
+            FootballMatch match2 = createValidFootballMatch("TeamC", "TeamD", "Other");
+            leaderManager.addMatch("Match1", match1);
+            leaderManager.addMatch("Match2", match2);
+            leaderManager.setMatchStatus("Match1", MatchStatus.IN_PROGRESS);
+            leaderManager.scoreGoal("Match1", "Player3", match1.getTeamOne());
+            leaderManager.scoreGoal("Match1", "Player3", match1.getTeamOne());
+            leaderManager.scoreGoal("Match1", "PlayerX7", match1.getTeamTwo());
+            match1.getTeamOne().addPlayer(new Player("Substitute", 40));
+            leaderManager.scoreGoal("Match1", "Substitute", match1.getTeamOne());
+            leaderManager.removeMatch("Match2");
+
+            assertTrue(follower.awaitSequence(leader.getAppendedSequence(), 10, TimeUnit.SECONDS));
+
+            MatchManager replica = follower.getMatchManager();
+            assertFalse(replica.hasMatch("Match2"));
+            FootballMatch replicated = replica.getMatchDetails("Match1");
+            assertEquals(MatchStatus.IN_PROGRESS, replicated.getMatchStatus());
+            assertEquals(3, replicated.getTeamOne().getScore());
+            assertEquals(1, replicated.getTeamTwo().getScore());
+            assertEquals(names(leaderManager, "Match1"), names(replica, "Match1"));
+            assertEquals(leader.getAppendedSequence(), follower.getAppliedSequence());
+            assertEquals(0, follower.getLag());
+        }
+    }
+
+    @Test
+    void testFollowerReplicatesOverLoopbackSocket() throws Exception {
+        MatchManager leaderManager = new MatchManager();
+        try (ServerSocketChannel server = ServerSocketChannel.open()) {
+            server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            SocketChannel followerEnd = SocketChannel.open(server.getLocalAddress());
+            SocketChannel leaderEnd = server.accept();
+            try (ReplicationFollower follower = new ReplicationFollower(followerEnd);
+                 ReplicationLeader leader = new ReplicationLeader(leaderManager, leaderEnd)) {
+                for (int i = 0; i < 100; i++) {
+                    FootballMatch match = createValidFootballMatch("Home" + i, "Away" + i, "M" + i + "P");
+                    leaderManager.addMatch("Match" + i, match);
+                    leaderManager.scoreGoal("Match" + i, "M" + i + "P1", match.getTeamOne());
+                }
+                leader.flush();
+                assertEquals(leader.getAppendedSequence(), leader.getSentSequence());
+
+                assertTrue(follower.awaitSequence(leader.getAppendedSequence(), 10, TimeUnit.SECONDS));
+                assertEquals(100, follower.getMatchManager().getMatchCount());
+                assertEquals(1, follower.getMatchManager().getPlayerDetails("M42P1").getScore());
+            }
+        }
+    }
+
+    @Test
+    void testLagIsReportedWhileFollowerIsBehind() throws Exception {
+        Pipe pipe = Pipe.open();
+        MutableClock clock = new MutableClock(Instant.parse("2026-06-01T12:00:00Z"));
+        MatchManager leaderManager = new MatchManager();
+        MatchManager replica = new MatchManager();
+        CountDownLatch applying = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        replica.addListener(new MatchListener() {
+            @Override
+            public void matchAdded(String matchId, FootballMatch match) {
+                applying.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        try (ReplicationFollower follower = new ReplicationFollower(pipe.source(), replica, clock);
+             ReplicationLeader leader = new ReplicationLeader(leaderManager, pipe.sink(), clock, 1 << 20, 60_000)) {
+            leaderManager.addMatch("Match1", createValidFootballMatch("TeamA", "TeamB", "Player"));
+            assertTrue(applying.await(10, TimeUnit.SECONDS));
+            clock.instant = clock.instant.plusSeconds(5);
+
+            assertEquals(1, follower.getLeaderSequence());
+            assertEquals(0, follower.getAppliedSequence());
+            assertEquals(1, follower.getLag());
+            assertEquals(5_000, follower.getLagMillis());
+
+            release.countDown();
+            assertTrue(follower.awaitSequence(1, 10, TimeUnit.SECONDS));
+            assertEquals(0, follower.getLag());
+            assertEquals(5_000, follower.getLagMillis());
+        }
+    }
+
+    @Test
+    void testLagCountsRecordsAnnouncedAheadOfTheirBatch() throws Exception {
+        Pipe pipe = Pipe.open();
+        MatchManager leaderManager = new MatchManager();
+        MatchManager replica = new MatchManager();
+        CountDownLatch applying = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        replica.addListener(new MatchListener() {
+            @Override
+            public void matchAdded(String matchId, FootballMatch match) {
+                if (matchId.equals("Match2")) {
+                    applying.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+        });
+        GatedChannel channel = new GatedChannel(pipe.sink());
+        try (ReplicationFollower follower = new ReplicationFollower(pipe.source(), replica);
+             ReplicationLeader leader = new ReplicationLeader(leaderManager, channel, 1 << 20, 60_000)) {
+            leaderManager.addMatch("Match1", createValidFootballMatch("TeamA", "TeamB", "Player"));
+            // The sender is held in its first write, so the next three records make up one batch.
+            assertTrue(channel.writing.await(10, TimeUnit.SECONDS));
+            leaderManager.addMatch("Match2", createValidFootballMatch("TeamC", "TeamD", "Other"));
+            leaderManager.addMatch("Match3", createValidFootballMatch("TeamE", "TeamF", "Third"));
+            leaderManager.addMatch("Match4", createValidFootballMatch("TeamG", "TeamH", "Fourth"));
+            channel.open.countDown();
+            assertTrue(applying.await(10, TimeUnit.SECONDS));
+
+            assertEquals(4, follower.getLeaderSequence());
+            assertEquals(1, follower.getAppliedSequence());
+            assertEquals(3, follower.getLag());
+
+            release.countDown();
+            assertTrue(follower.awaitSequence(4, 10, TimeUnit.SECONDS));
+            assertEquals(0, follower.getLag());
+        }
+    }
+
+    @Test
+    void testHeartbeatRefreshesLagWhileLeaderIsIdle() throws Exception {
+        Pipe pipe = Pipe.open();
+        MutableClock clock = new MutableClock(Instant.parse("2026-06-01T12:00:00Z"));
+        MatchManager leaderManager = new MatchManager();
+        try (ReplicationFollower follower = new ReplicationFollower(pipe.source(), new MatchManager(), clock);
+             ReplicationLeader leader = new ReplicationLeader(leaderManager, pipe.sink(), clock, 1 << 20, 10)) {
+            leaderManager.addMatch("Match1", createValidFootballMatch("TeamA", "TeamB", "Player"));
+            assertTrue(follower.awaitSequence(1, 10, TimeUnit.SECONDS));
+            clock.instant = clock.instant.plusSeconds(30);
+            assertTrue(follower.getLagMillis() > 0);
+
+            // The leader is idle, so only a heartbeat stamped with the new time can bring the lag back to 0.
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (follower.getLagMillis() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertEquals(0, follower.getLagMillis());
+            assertEquals(1, follower.getAppliedSequence());
+            assertEquals(0, follower.getLag());
+        }
+    }
+
+    @Test
+    void testStalledFollowerStopsReplicationWithoutBlockingLeader() throws Exception {
+        Pipe pipe = Pipe.open();
+        MatchManager leaderManager = new MatchManager();
+        ReplicationLeader leader = new ReplicationLeader(leaderManager, pipe.sink(), ReplicationLeader.HEADER_BYTES
+                + ReplicationLeader.MAX_RECORD_BYTES, 60_000);
+        // Nothing reads the pipe, so the sender blocks once the pipe is full and the buffer fills up behind it.
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            for (int i = 0; i < 2_000; i++) {
+                FootballMatch match = createValidFootballMatch("Home" + i, "Away" + i, "M" + i + "P");
+                leaderManager.addMatch("Match" + i, match);
+                leaderManager.scoreGoal("Match" + i, "M" + i + "P1", match.getTeamOne());
+            }
+        });
+
+        assertNotNull(leader.getFailure());
+        assertEquals(2_000, leaderManager.getMatchCount());
+        assertThrows(IOException.class, leader::flush);
+        leaderManager.addMatch("MatchAfter", createValidFootballMatch("TeamA", "TeamB", "Player"));
+        leader.close();
+        pipe.source().close();
+    }
+
+    @Test
+    void testLeaderCloseIgnoresDepartedFollower() throws Exception {
+        Pipe pipe = Pipe.open();
+        MatchManager leaderManager = new MatchManager();
+        ReplicationFollower follower = new ReplicationFollower(pipe.source());
+        ReplicationLeader leader = new ReplicationLeader(leaderManager, pipe.sink(), 1 << 20, 1);
+        leaderManager.addMatch("Match1", createValidFootballMatch("TeamA", "TeamB", "Player"));
+        assertTrue(follower.awaitSequence(1, 10, TimeUnit.SECONDS));
+        follower.close();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (leader.getFailure() == null && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertNotNull(leader.getFailure());
+        leaderManager.scoreGoal("Match1", "Player1", leaderManager.getMatchDetails("Match1").getTeamOne());
+        assertDoesNotThrow(leader::close);
+    }
+
+    @Test
+    void testCorruptFrameStopsFollower() throws Exception {
+        Pipe pipe = Pipe.open();
+        try (ReplicationFollower follower = new ReplicationFollower(pipe.source())) {
+            ByteBuffer frame = ByteBuffer.allocate(ReplicationLeader.HEADER_BYTES + 1 + ReplicationLeader.TRAILER_BYTES);
+            frame.putInt(1).putLong(1).putLong(0).put(MatchRecordWriter.MATCH_REMOVED).putInt(0).flip();
+            pipe.sink().write(frame);
+
+            assertFalse(follower.awaitSequence(1, 10, TimeUnit.SECONDS));
+            assertTrue(follower.isStopped());
+            assertNotNull(follower.getFailure());
+            assertEquals(0, follower.getAppliedSequence());
+        }
+    }
+
+    @Test
+    void testUnexpectedExceptionStopsFollower() throws Exception {
+        Pipe pipe = Pipe.open();
+        MatchManager leaderManager = new MatchManager();
+        MatchManager replica = new MatchManager() {
+            @Override
+            public void removeMatch(String matchId) {
+                throw new UnsupportedOperationException("Read-only replica");
+            }
+        };
+        try (ReplicationFollower follower = new ReplicationFollower(pipe.source(), replica);
+             ReplicationLeader leader = new ReplicationLeader(leaderManager, pipe.sink())) {
+            leaderManager.addMatch("Match1", createValidFootballMatch("TeamA", "TeamB", "Player"));
+            leaderManager.removeMatch("Match1");
+
+            assertFalse(follower.awaitSequence(2, 10, TimeUnit.SECONDS));
+            assertTrue(follower.isStopped());
+            assertInstanceOf(UnsupportedOperationException.class, follower.getFailure().getCause());
+            assertEquals(1, follower.getAppliedSequence());
+        }
+    }
+
+    @Test
+    void testEndOfStreamStopsFollowerCleanly() throws Exception {
+        Pipe pipe = Pipe.open();
+        MatchManager leaderManager = new MatchManager();
+        try (ReplicationFollower follower = new ReplicationFollower(pipe.source())) {
+            ReplicationLeader leader = new ReplicationLeader(leaderManager, pipe.sink());
+            leaderManager.addMatch("Match1", createValidFootballMatch("TeamA", "TeamB", "Player"));
+            leader.close();
+            leaderManager.addMatch("Match2", createValidFootballMatch("TeamC", "TeamD", "Other"));
+
+            assertFalse(follower.awaitSequence(2, 10, TimeUnit.SECONDS));
+            assertTrue(follower.isStopped());
+            assertNull(follower.getFailure());
+            assertEquals(1, follower.getMatchManager().getMatchCount());
+        }
+    }
+
+    private static String names(MatchManager matchManager, String matchId) {
+        return matchManager.getPlayersRanking(matchId).stream()
+                .map(player -> player.getName() + "=" + player.getScore())
+                .collect(Collectors.joining(","));
+    }
+
+    /**
+     * Holds every write until {@code open} is released, signalling {@code writing} when the first one arrives.
+     */
+    private static final class GatedChannel implements WritableByteChannel {
+        private final WritableByteChannel delegate;
+        private final CountDownLatch writing = new CountDownLatch(1);
+        private final CountDownLatch open = new CountDownLatch(1);
+
+        private GatedChannel(WritableByteChannel delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int write(ByteBuffer source) throws IOException {
+            writing.countDown();
+            try {
+                open.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            return delegate.write(source);
+        }
+
+        @Override
+        public boolean isOpen() {
+            return delegate.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+            open.countDown();
+            delegate.close();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private volatile Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
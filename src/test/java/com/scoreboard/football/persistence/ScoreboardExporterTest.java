@@ -0,0 +1,148 @@
+package com.scoreboard.football.persistence;
+
+import com.scoreboard.football.FootballMatch;
+import com.scoreboard.football.common.MatchStatus;
+import com.scoreboard.football.modal.Player;
+import com.scoreboard.football.modal.Team;
+import com.scoreboard.football.service.MatchManager;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.scoreboard.football.TestFixtures.createMatchBuilder;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoreboardExporterTest {
+    private static final LocalDateTime START = LocalDateTime.of(2026, 5, 1, 15, 0);
+
+    @Test
+    void testCsvHasOneRowPerPlayerWithQuotedFields() throws IOException {
+        MatchManager matchManager = new MatchManager();
+        FootballMatch match = createMatch("Derby, \"North\"", "TeamA", "TeamB", "Player");
+        matchManager.addMatch("Match1", match);
+        match.setMatchStatus(MatchStatus.IN_PROGRESS);
+        matchManager.scoreGoal("Match1", "Player5", match.getTeamOne());
+
+        RecordingChannel channel = new RecordingChannel(7);
+        long written = ScoreboardExporter.writeCsv(matchManager, channel, 16);
+        String csv = channel.text();
+        assertEquals(csv.getBytes(StandardCharsets.UTF_8).length, written);
+
+        List<String> rows = Arrays.asList(csv.split("\n"));
+        assertEquals(23, rows.size());
+        assertEquals("matchId,matchTitle,startTime,status,team,teamScore,playerNumber,playerName,playerScore", rows.get(0));
+        assertTrue(rows.contains("Match1,\"Derby, \"\"North\"\"\",2026-05-01T15:00,IN_PROGRESS,TeamA,1,5,Player5,1"));
+        assertTrue(rows.contains("Match1,\"Derby, \"\"North\"\"\",2026-05-01T15:00,IN_PROGRESS,TeamB,0,11,PlayerX11,0"));
+    }
+
+    @Test
+    void testCsvKeepsTeamWithoutPlayers() throws IOException {
+        MatchManager matchManager = new MatchManager();
+        FootballMatch match = createMatch("Friendly", "TeamA", "TeamB", "Player");
+        matchManager.addMatch("Match1", match);
+        for (Player player : match.getTeamTwo().getPlayers()) {
+            match.getTeamTwo().removePlayer(player);
+        }
+        RecordingChannel channel = new RecordingChannel(Integer.MAX_VALUE);
+        ScoreboardExporter.writeCsv(matchManager, channel);
+        assertTrue(channel.text().contains("Match1,Friendly,2026-05-01T15:00,SCHEDULED,TeamB,0,,,\n"));
+    }
+
+    @Test
+    void testJsonEscapesTextAndEncodesUtf8() throws IOException {
+        MatchManager matchManager = new MatchManager();
+        FootballMatch match = createMatch("Cup \"Final\"\n", "Se\u00f1ores", "Team \uD83D\uDE00", "Jogador");
+        matchManager.addMatch("Match1", match);
+        matchManager.scoreGoal("Match1", "Jogador2", match.getTeamOne());
+
+        RecordingChannel channel = new RecordingChannel(5);
+        ScoreboardExporter.writeJson(matchManager, channel, 16);
+        String json = channel.text();
+
+        assertTrue(json.startsWith("{\"matches\":[{\"matchId\":\"Match1\",\"matchTitle\":\"Cup \\\"Final\\\"\\u000a\","));
+        assertTrue(json.contains("\"startTime\":\"2026-05-01T15:00\",\"status\":\"SCHEDULED\""));
+        assertTrue(json.contains("{\"name\":\"Se\u00f1ores\",\"score\":1,\"players\":[{\"number\":1,\"name\":\"Jogador1\",\"score\":0},"
+                + "{\"number\":2,\"name\":\"Jogador2\",\"score\":1},"));
+        assertTrue(json.contains("{\"name\":\"Team \uD83D\uDE00\",\"score\":0,"));
+        assertTrue(json.endsWith("}]}]}]}\n"));
+    }
+
+    @Test
+    void testEmptyBoardAndManyMatchesStreamThroughSmallChunks() throws IOException {
+        MatchManager matchManager = new MatchManager();
+        RecordingChannel empty = new RecordingChannel(Integer.MAX_VALUE);
+        ScoreboardExporter.writeJson(matchManager, empty);
+        assertEquals("{\"matches\":[]}\n", empty.text());
+
+        for (int i = 0; i < 200; i++) {
+            matchManager.addMatch("Match" + i, createMatch("Match" + i, "Team" + i + "A", "Team" + i + "B", "Match" + i + "Player"));
+        }
+        RecordingChannel channel = new RecordingChannel(Integer.MAX_VALUE);
+        ScoreboardExporter.writeCsv(matchManager, channel, 64);
+        assertEquals(1 + 200 * 22, channel.text().split("\n").length);
+        assertTrue(channel.writes > 200);
+        assertThrows(IllegalArgumentException.class, () -> ScoreboardExporter.writeCsv(matchManager, channel, 8));
+    }
+
+    @Test
+    void testChannelFailureIsThrown() {
+        MatchManager matchManager = new MatchManager();
+        matchManager.addMatch("Match1", createMatch("Friendly", "TeamA", "TeamB", "Player"));
+        WritableByteChannel failing = new RecordingChannel(Integer.MAX_VALUE) {
+            @Override
+            public int write(ByteBuffer source) throws IOException {
+                throw new IOException("disk full");
+            }
+        };
+        IOException failure = assertThrows(IOException.class, () -> ScoreboardExporter.writeJson(matchManager, failing, 16));
+        assertEquals("disk full", failure.getMessage());
+    }
+
+    // Accepts at most maxBytesPerWrite bytes per call, like a socket with a small send buffer.
+    private static class RecordingChannel implements WritableByteChannel {
+        private final int maxBytesPerWrite;
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private int writes;
+
+        private RecordingChannel(int maxBytesPerWrite) {
+            this.maxBytesPerWrite = maxBytesPerWrite;
+        }
+
+        @Override
+        public int write(ByteBuffer source) throws IOException {
+            int count = Math.min(source.remaining(), maxBytesPerWrite);
+            for (int i = 0; i < count; i++) {
+                bytes.write(source.get());
+            }
+            writes++;
+            return count;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private String text() {
+            return bytes.toString(StandardCharsets.UTF_8);
+        }
+    }
+
+    private FootballMatch createMatch(String title, String teamOne, String teamTwo, String playerNamePrefix) {
+        return createMatchBuilder(teamOne, teamTwo, playerNamePrefix)
+                .matchTitle(title)
+                .startTime(START)
+                .build();
+    }
+}
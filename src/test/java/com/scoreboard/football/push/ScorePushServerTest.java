@@ -0,0 +1,132 @@
+package com.scoreboard.football.push;
+
+import com.scoreboard.football.FootballMatch;
+import com.scoreboard.football.common.MatchStatus;
+import com.scoreboard.football.modal.Player;
+import com.scoreboard.football.service.MatchManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import static com.scoreboard.football.TestFixtures.createMatchBuilder;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScorePushServerTest {
+    private MatchManager matchManager;
+    private ScorePushServer server;
+
+    @BeforeEach
+    void setUp() {
+        matchManager = new MatchManager();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    @Test
+    void testSubscribersReceiveDeltas() throws Exception {
+        server = new ScorePushServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1 << 16);
+        matchManager.addListener(server);
+        try (Socket first = connect(); Socket second = connect()) {
+            awaitConnections(2);
+            FootballMatch match = createValidFootballMatch("TeamA", "TeamB");
+            matchManager.addMatch("Match1", match);
+            matchManager.scoreGoal("Match1", "Player1", match.getTeamOne());
+            matchManager.setMatchStatus("Match1", MatchStatus.IN_PROGRESS);
+
+            for (Socket socket : new Socket[]{first, second}) {
+                BufferedReader reader = reader(socket);
+                assertEquals("{\"type\":\"added\",\"matchId\":\"Match1\",\"title\":\"Match \\\"Football\\\"\","
+                        + "\"teamOne\":\"TeamA\",\"teamTwo\":\"TeamB\",\"status\":\"SCHEDULED\"}", reader.readLine());
+                assertEquals("{\"type\":\"goal\",\"matchId\":\"Match1\",\"team\":\"TeamA\",\"teamScore\":1,"
+                        + "\"player\":\"Player1\",\"playerScore\":1}", reader.readLine());
+                assertEquals("{\"type\":\"status\",\"matchId\":\"Match1\",\"status\":\"IN_PROGRESS\"}", reader.readLine());
+            }
+        }
+    }
+
+    @Test
+    void testSlowConsumerIsDisconnectedWithoutBlockingScoring() throws Exception {
+        server = new ScorePushServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 4096);
+        matchManager.addListener(server);
+        FootballMatch match = createValidFootballMatch("TeamA", "TeamB");
+        matchManager.addMatch("Match1", match);
+        try (Socket stalled = connect()) {
+            stalled.setReceiveBufferSize(1024);
+            awaitConnections(1);
+            long deadline = System.currentTimeMillis() + 20_000;
+            while (server.getSlowConsumerDisconnects() == 0 && System.currentTimeMillis() < deadline) {
+                for (int i = 0; i < 1_000; i++) {
+                    matchManager.scoreGoal("Match1", "Player1", match.getTeamOne());
+                }
+                Thread.sleep(1);
+            }
+            assertEquals(1, server.getSlowConsumerDisconnects());
+            awaitConnections(0);
+        }
+    }
+
+    @Test
+    void testMissingTitleIsSentAsNull() throws Exception {
+        server = new ScorePushServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1 << 16);
+        matchManager.addListener(server);
+        try (Socket socket = connect()) {
+            awaitConnections(1);
+            FootballMatch match = createValidFootballMatch("TeamA", "TeamB");
+            match.setMatchTitle(null);
+            matchManager.addMatch("Match1", match);
+
+            assertEquals("{\"type\":\"added\",\"matchId\":\"Match1\",\"title\":null,"
+                    + "\"teamOne\":\"TeamA\",\"teamTwo\":\"TeamB\",\"status\":\"SCHEDULED\"}", reader(socket).readLine());
+        }
+    }
+
+    @Test
+    void testDeltasBeyondOutboxCapAreDropped() throws Exception {
+        server = new ScorePushServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1 << 16, 1);
+        matchManager.addListener(server);
+        FootballMatch match = createValidFootballMatch("TeamA", "TeamB");
+        matchManager.addMatch("Match1", match);
+        for (int i = 0; i < 100; i++) {
+            matchManager.scoreGoal("Match1", "Player1", match.getTeamOne());
+        }
+
+        assertEquals(101, server.getDroppedMessages());
+        assertEquals(100, match.getTeamOne().getScore());
+    }
+
+    private Socket connect() throws IOException {
+        return new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+    }
+
+    private BufferedReader reader(Socket socket) throws IOException {
+        socket.setSoTimeout(10_000);
+        return new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+    }
+
+    private void awaitConnections(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (server.getConnectionCount() != expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, server.getConnectionCount());
+    }
+
+    private FootballMatch createValidFootballMatch(String teamOne, String teamTwo) {
+        return createMatchBuilder(teamOne, teamTwo, "Player")
+                .matchTitle("Match \"Football\"")
+                .build();
+    }
+}
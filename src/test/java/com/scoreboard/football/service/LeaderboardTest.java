@@ -0,0 +1,154 @@
+package com.scoreboard.football.service;
+
+import com.scoreboard.football.FootballMatch;
+import com.scoreboard.football.common.MatchStatus;
+import com.scoreboard.football.modal.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.scoreboard.football.TestFixtures.createMatchBuilder;
+import static com.scoreboard.football.TestFixtures.createTeamWithPlayers;
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeaderboardTest {
+    private MatchManager matchManager;
+    private Leaderboard leaderboard;
+
+    @BeforeEach
+    void setUp() {
+        matchManager = new MatchManager();
+        leaderboard = new Leaderboard();
+        matchManager.addListener(leaderboard);
+    }
+
+    @Test
+    void testTopScorersAcrossMatches() {
+        FootballMatch match1 = createValidFootballMatch("TeamA", "TeamB", "Home", "Away");
+        FootballMatch match2 = createValidFootballMatch("TeamA", "TeamD", "Home", "Visitor");
+        matchManager.addMatch(match1.getMatchId(), match1);
+        matchManager.addMatch(match2.getMatchId(), match2);
+
+        matchManager.scoreGoal(match1.getMatchId(), "Home1", match1.getTeamOne());
+        matchManager.scoreGoal(match2.getMatchId(), "Home1", match2.getTeamOne());
+        matchManager.scoreGoal(match1.getMatchId(), "Away5", match1.getTeamTwo());
+
+        List<Leaderboard.LeaderboardEntry> topScorers = leaderboard.getTopScorers(2);
+        assertEquals(List.of(
+                new Leaderboard.LeaderboardEntry("Home1 (TeamA)", 2),
+                new Leaderboard.LeaderboardEntry("Away5 (TeamB)", 1)), topScorers);
+        assertEquals(33, leaderboard.size());
+        assertTrue(leaderboard.getTopScorers(0).isEmpty());
+        assertTrue(leaderboard.getTopScorers(-1).isEmpty());
+    }
+
+    @Test
+    void testRank() {
+        FootballMatch match = createValidFootballMatch("TeamA", "TeamB", "Home", "Away");
+        matchManager.addMatch(match.getMatchId(), match);
+        matchManager.scoreGoal(match.getMatchId(), "Home2", match.getTeamOne());
+        matchManager.scoreGoal(match.getMatchId(), "Home2", match.getTeamOne());
+        matchManager.scoreGoal(match.getMatchId(), "Away3", match.getTeamTwo());
+        matchManager.scoreGoal(match.getMatchId(), "Away4", match.getTeamTwo());
+
+        assertEquals(1, leaderboard.getRank("TeamA", "Home2"));
+        assertEquals(2, leaderboard.getRank("TeamB", "Away3"));
+        assertEquals(2, leaderboard.getRank("TeamB", "Away4"));
+        assertEquals(4, leaderboard.getRank("TeamA", "Home1"));
+        assertEquals(2, leaderboard.getGoals("TeamA", "Home2"));
+        assertThrows(IllegalArgumentException.class, () -> leaderboard.getRank("TeamA", "Nobody"));
+        assertThrows(IllegalArgumentException.class, () -> leaderboard.getRank("TeamB", "Home2"));
+    }
+
+    @Test
+    void testRankBeyondInitialCapacity() {
+        FootballMatch match = createValidFootballMatch("TeamA", "TeamB", "Home", "Away");
+        matchManager.addMatch(match.getMatchId(), match);
+        for (int i = 0; i < 200; i++) {
+            matchManager.scoreGoal(match.getMatchId(), "Home1", match.getTeamOne());
+        }
+        matchManager.scoreGoal(match.getMatchId(), "Away1", match.getTeamTwo());
+
+        assertEquals(200, leaderboard.getGoals("TeamA", "Home1"));
+        assertEquals(1, leaderboard.getRank("TeamA", "Home1"));
+        assertEquals(2, leaderboard.getRank("TeamB", "Away1"));
+        assertEquals(3, leaderboard.getRank("TeamB", "Away2"));
+    }
+
+    @Test
+    void testRemovedMatchNoLongerCounts() {
+        FootballMatch match1 = createValidFootballMatch("TeamA", "TeamB", "Home", "Away");
+        FootballMatch match2 = createValidFootballMatch("TeamA", "TeamD", "Home", "Visitor");
+        matchManager.addMatch(match1.getMatchId(), match1);
+        matchManager.addMatch(match2.getMatchId(), match2);
+        matchManager.scoreGoal(match1.getMatchId(), "Home1", match1.getTeamOne());
+        matchManager.scoreGoal(match2.getMatchId(), "Home1", match2.getTeamOne());
+
+        matchManager.removeMatch(match1.getMatchId());
+
+        assertEquals(1, leaderboard.getGoals("TeamA", "Home1"));
+        assertThrows(IllegalArgumentException.class, () -> leaderboard.getGoals("TeamB", "Away1"));
+        assertEquals(22, leaderboard.size());
+    }
+
+    @Test
+    void testArchivedMatchCountsUntilRemovedFromTheArchive() {
+        FootballMatch match1 = createValidFootballMatch("TeamA", "TeamB", "Home", "Away");
+        FootballMatch match2 = createValidFootballMatch("TeamA", "TeamD", "Home", "Visitor");
+        matchManager.addMatch(match1.getMatchId(), match1);
+        matchManager.addMatch(match2.getMatchId(), match2);
+        matchManager.scoreGoal(match1.getMatchId(), "Home1", match1.getTeamOne());
+        matchManager.scoreGoal(match1.getMatchId(), "Away2", match1.getTeamTwo());
+        matchManager.scoreGoal(match2.getMatchId(), "Home1", match2.getTeamOne());
+        matchManager.setMatchStatus(match1.getMatchId(), MatchStatus.COMPLETED);
+
+        matchManager.archiveMatch(match1.getMatchId());
+
+        assertEquals(2, leaderboard.getGoals("TeamA", "Home1"));
+        assertEquals(1, leaderboard.getGoals("TeamB", "Away2"));
+        assertEquals(33, leaderboard.size());
+
+        matchManager.removeArchivedMatch(match1.getMatchId());
+
+        assertEquals(1, leaderboard.getGoals("TeamA", "Home1"));
+        assertThrows(IllegalArgumentException.class, () -> leaderboard.getGoals("TeamB", "Away2"));
+        assertEquals(22, leaderboard.size());
+    }
+
+    @Test
+    void testRosterChangesAreTracked() {
+        FootballMatch match = createValidFootballMatch("TeamA", "TeamB", "Home", "Away");
+        matchManager.addMatch(match.getMatchId(), match);
+        Player substitute = new Player("Substitute", 40);
+        substitute.increaseScore(3);
+        match.getTeamOne().removePlayer(match.getTeamOne().getPlayers().get(0));
+        match.getTeamOne().addPlayer(substitute);
+
+        assertEquals(new Leaderboard.LeaderboardEntry("Substitute (TeamA)", 3), leaderboard.getTopScorers(1).get(0));
+        assertThrows(IllegalArgumentException.class, () -> leaderboard.getGoals("TeamA", "Home1"));
+    }
+
+    @Test
+    void testPlayersSharingANameAreRankedPerTeam() {
+        FootballMatch match = createValidFootballMatch("TeamA", "TeamB", "Player", "Player");
+        matchManager.addMatch(match.getMatchId(), match);
+        matchManager.scoreGoal(match.getMatchId(), "Player1", match.getTeamOne());
+        matchManager.scoreGoal(match.getMatchId(), "Player1", match.getTeamOne());
+        matchManager.scoreGoal(match.getMatchId(), "Player1", match.getTeamTwo());
+
+        assertEquals(2, leaderboard.getGoals("TeamA", "Player1"));
+        assertEquals(1, leaderboard.getGoals("TeamB", "Player1"));
+        assertEquals(2, leaderboard.getRank("TeamB", "Player1"));
+        assertEquals(22, leaderboard.size());
+
+        match.getTeamTwo().removePlayer(match.getTeamTwo().getPlayers().get(0));
+        assertEquals(2, leaderboard.getGoals("TeamA", "Player1"));
+        assertThrows(IllegalArgumentException.class, () -> leaderboard.getGoals("TeamB", "Player1"));
+    }
+
+    private FootballMatch createValidFootballMatch(String teamOne, String teamTwo, String teamOnePrefix, String teamTwoPrefix) {
+        return createMatchBuilder(createTeamWithPlayers(teamOne, teamOnePrefix), createTeamWithPlayers(teamTwo, teamTwoPrefix))
+                .build();
+    }
+}
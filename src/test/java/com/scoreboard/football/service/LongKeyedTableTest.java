@@ -0,0 +1,55 @@
+package com.scoreboard.football.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongKeyedTableTest {
+
+    @Test
+    void testPutGetRemove() {
+        LongKeyedTable<String> table = new LongKeyedTable<>();
+        table.put(1L, "one");
+        table.put(0L, "zero");
+        table.put(-7L, "minus seven");
+        table.put(1L, "uno");
+
+        assertEquals(3, table.size());
+        assertEquals("uno", table.get(1L));
+        assertEquals("zero", table.get(0L));
+        assertEquals("minus seven", table.get(-7L));
+        assertNull(table.get(2L));
+
+        table.remove(0L);
+        table.remove(1L);
+        table.remove(99L);
+        assertEquals(1, table.size());
+        assertNull(table.get(0L));
+        assertNull(table.get(1L));
+    }
+
+    @Test
+    void testMatchesHashMapUnderRandomUpdates() {
+        Random random = new Random(7);
+        Map<Long, Integer> expected = new HashMap<>();
+        LongKeyedTable<Integer> table = new LongKeyedTable<>();
+        for (int i = 0; i < 200_000; i++) {
+            long key = random.nextInt(20_000);
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                table.remove(key);
+            } else {
+                expected.put(key, i);
+                table.put(key, i);
+            }
+        }
+        assertEquals(expected.size(), table.size());
+        for (long key = 0; key < 20_000; key++) {
+            assertEquals(expected.get(key), table.get(key));
+        }
+    }
+}
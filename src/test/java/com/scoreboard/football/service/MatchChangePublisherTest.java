@@ -0,0 +1,259 @@
+package com.scoreboard.football.service;
+
+import com.scoreboard.football.FootballMatch;
+import com.scoreboard.football.common.MatchStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static com.scoreboard.football.TestFixtures.createValidFootballMatch;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchChangePublisherTest {
+    private MatchManager matchManager;
+    private FootballMatch match;
+
+    @BeforeEach
+    void setUp() {
+        matchManager = new MatchManager();
+        match = createValidFootballMatch("TeamA", "TeamB");
+    }
+
+    @Test
+    void testSubscriberReceivesTypedChanges() throws Exception {
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+        matchManager.changes().subscribe(subscriber);
+
+        matchManager.addMatch("Match1", match);
+        assertEquals(EnumSet.of(MatchChange.Type.ADDED), subscriber.next().getTypes());
+
+        matchManager.scoreGoal("Match1", "Player1", match.getTeamOne());
+        MatchChange goal = subscriber.next();
+        assertEquals(EnumSet.of(MatchChange.Type.GOAL), goal.getTypes());
+        assertEquals(Map.of("Player1 (TeamA)", 1), goal.getGoalsByScorer());
+        assertEquals(1, goal.getTeamOneScore());
+        assertEquals(0, goal.getTeamTwoScore());
+
+        matchManager.setMatchStatus("Match1", MatchStatus.IN_PROGRESS);
+        MatchChange status = subscriber.next();
+        assertEquals(EnumSet.of(MatchChange.Type.STATUS), status.getTypes());
+        assertEquals(MatchStatus.IN_PROGRESS, status.getStatus());
+
+        match.getTeamTwo().removePlayer(match.getTeamTwo().getPlayers().get(10));
+        assertEquals(EnumSet.of(MatchChange.Type.ROSTER), subscriber.next().getTypes());
+    }
+
+    @Test
+    void testChangesAreCoalescedPerMatchWithoutDemand() throws Exception {
+        QueuedExecutor executor = new QueuedExecutor();
+        MatchChangePublisher publisher = new MatchChangePublisher(matchManager, executor);
+        matchManager.addListener(publisher);
+        RecordingSubscriber subscriber = new RecordingSubscriber(0);
+        publisher.subscribe(subscriber);
+
+        FootballMatch other = createValidFootballMatch("TeamC", "TeamD");
+        matchManager.addMatch("Match1", match);
+        matchManager.addMatch("Match2", other);
+        for (int i = 0; i < 100; i++) {
+            matchManager.scoreGoal("Match1", "Player1", match.getTeamOne());
+        }
+        matchManager.setMatchStatus("Match1", MatchStatus.IN_PROGRESS);
+        matchManager.scoreGoal("Match2", "Player1", other.getTeamTwo());
+        executor.runAll();
+        assertTrue(subscriber.received.isEmpty());
+
+        subscriber.subscription.request(10);
+        executor.runAll();
+        assertEquals(2, subscriber.received.size());
+        MatchChange first = subscriber.next();
+        assertEquals("Match1", first.getMatchId());
+        assertEquals(EnumSet.of(MatchChange.Type.ADDED, MatchChange.Type.GOAL, MatchChange.Type.STATUS), first.getTypes());
+        assertEquals(100, first.getTeamOneScore());
+        assertEquals(Map.of("Player1 (TeamA)", 100), first.getGoalsByScorer());
+        assertEquals(MatchStatus.IN_PROGRESS, first.getStatus());
+        MatchChange second = subscriber.next();
+        assertEquals("Match2", second.getMatchId());
+        assertEquals(1, second.getTeamTwoScore());
+    }
+
+    @Test
+    void testCoalescingKeepsTheLatestLifecycle() throws Exception {
+        QueuedExecutor executor = new QueuedExecutor();
+        MatchChangePublisher publisher = new MatchChangePublisher(matchManager, executor);
+        matchManager.addListener(publisher);
+        RecordingSubscriber subscriber = new RecordingSubscriber(0);
+        publisher.subscribe(subscriber);
+
+        matchManager.addMatch("Match1", match);
+        matchManager.scoreGoal("Match1", "Player1", match.getTeamOne());
+        matchManager.removeMatch("Match1");
+        FootballMatch known = createValidFootballMatch("TeamC", "TeamD");
+        matchManager.addMatch("Match2", known);
+        subscriber.subscription.request(10);
+        executor.runAll();
+        assertEquals(EnumSet.of(MatchChange.Type.ADDED), subscriber.next().getTypes());
+        assertTrue(subscriber.received.isEmpty());
+
+        matchManager.scoreGoal("Match2", "Player1", known.getTeamOne());
+        matchManager.removeMatch("Match2");
+        FootballMatch replacement = createValidFootballMatch("TeamE", "TeamF");
+        matchManager.addMatch("Match2", replacement);
+        matchManager.scoreGoal("Match2", "PlayerX2", replacement.getTeamTwo());
+        executor.runAll();
+        MatchChange replaced = subscriber.next();
+        assertEquals(EnumSet.of(MatchChange.Type.REMOVED, MatchChange.Type.ADDED, MatchChange.Type.GOAL), replaced.getTypes());
+        assertEquals(Map.of("PlayerX2 (TeamF)", 1), replaced.getGoalsByScorer());
+        assertEquals(0, replaced.getTeamOneScore());
+
+        matchManager.removeMatch("Match2");
+        executor.runAll();
+        MatchChange removed = subscriber.next();
+        assertEquals(EnumSet.of(MatchChange.Type.REMOVED), removed.getTypes());
+        assertTrue(removed.getGoalsByScorer().isEmpty());
+    }
+
+    @Test
+    void testDemandIsHonouredAndCancelStopsDelivery() throws Exception {
+        QueuedExecutor executor = new QueuedExecutor();
+        MatchChangePublisher publisher = new MatchChangePublisher(matchManager, executor);
+        matchManager.addListener(publisher);
+        RecordingSubscriber subscriber = new RecordingSubscriber(1);
+        publisher.subscribe(subscriber);
+
+        matchManager.addMatch("Match1", match);
+        matchManager.addMatch("Match2", createValidFootballMatch("TeamC", "TeamD"));
+        executor.runAll();
+        assertEquals(1, subscriber.received.size());
+        assertEquals("Match1", subscriber.next().getMatchId());
+
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(5);
+        matchManager.scoreGoal("Match1", "Player1", match.getTeamOne());
+        executor.runAll();
+        assertTrue(subscriber.received.isEmpty());
+    }
+
+    @Test
+    void testNonPositiveRequestSignalsError() {
+        QueuedExecutor executor = new QueuedExecutor();
+        MatchChangePublisher publisher = new MatchChangePublisher(matchManager, executor);
+        matchManager.addListener(publisher);
+        RecordingSubscriber subscriber = new RecordingSubscriber(0);
+        publisher.subscribe(subscriber);
+
+        subscriber.subscription.request(0);
+        executor.runAll();
+        assertTrue(subscriber.error instanceof IllegalArgumentException);
+        subscriber.subscription.request(5);
+        matchManager.addMatch("Match1", match);
+        executor.runAll();
+        assertTrue(subscriber.received.isEmpty());
+    }
+
+    @Test
+    void testThrowingSubscriberIsCancelledWithError() throws Exception {
+        QueuedExecutor executor = new QueuedExecutor();
+        MatchChangePublisher publisher = new MatchChangePublisher(matchManager, executor);
+        matchManager.addListener(publisher);
+        RuntimeException failure = new IllegalStateException("Subscriber failure");
+        RecordingSubscriber throwing = new RecordingSubscriber(Long.MAX_VALUE) {
+            @Override
+            public void onNext(MatchChange item) {
+                super.onNext(item);
+                throw failure;
+            }
+        };
+        RecordingSubscriber healthy = new RecordingSubscriber(Long.MAX_VALUE);
+        publisher.subscribe(throwing);
+        publisher.subscribe(healthy);
+
+        matchManager.addMatch("Match1", match);
+        matchManager.addMatch("Match2", createValidFootballMatch("TeamC", "TeamD"));
+        executor.runAll();
+        assertSame(failure, throwing.error);
+        assertEquals(1, throwing.received.size());
+        assertEquals(2, healthy.received.size());
+
+        matchManager.scoreGoal("Match1", "Player1", match.getTeamOne());
+        executor.runAll();
+        assertEquals(1, throwing.received.size());
+        assertEquals(3, healthy.received.size());
+    }
+
+    @Test
+    void testRejectedDeliveryCancelsWithError() {
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+        MatchChangePublisher publisher = new MatchChangePublisher(matchManager, command -> {
+            throw new RejectedExecutionException("Executor shut down");
+        });
+        matchManager.addListener(publisher);
+        publisher.subscribe(subscriber);
+
+        assertTrue(subscriber.error instanceof RejectedExecutionException);
+        assertDoesNotThrow(() -> matchManager.addMatch("Match1", match));
+        assertTrue(subscriber.received.isEmpty());
+    }
+
+    private static class RecordingSubscriber implements Flow.Subscriber<MatchChange> {
+        private final long initialDemand;
+        private final LinkedBlockingQueue<MatchChange> received = new LinkedBlockingQueue<>();
+        private Flow.Subscription subscription;
+        private Throwable error;
+
+        private RecordingSubscriber(long initialDemand) {
+            this.initialDemand = initialDemand;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialDemand > 0) {
+                subscription.request(initialDemand);
+            }
+        }
+
+        @Override
+        public void onNext(MatchChange item) {
+            received.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+        }
+
+        private MatchChange next() throws InterruptedException {
+            MatchChange change = received.poll(10, TimeUnit.SECONDS);
+            assertNotNull(change);
+            return change;
+        }
+    }
+
+    private static final class QueuedExecutor implements Executor {
+        private final List<Runnable> tasks = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        private void runAll() {
+            while (!tasks.isEmpty()) {
+                tasks.remove(0).run();
+            }
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.scoreboard.football.service;
+
+import com.scoreboard.football.FootballMatch;
+import com.scoreboard.football.common.MatchStatus;
+import com.scoreboard.football.modal.Player;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static com.scoreboard.football.TestFixtures.createMatchBuilder;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchLifecycleTest {
+    private static final LocalDateTime KICK_OFF = LocalDateTime.of(2026, 5, 1, 15, 0);
+
+    private MatchManager matchManager;
+    private MutableClock clock;
+    private MatchLifecycle lifecycle;
+
+    @BeforeEach
+    void setUp() {
+        matchManager = new MatchManager();
+        clock = new MutableClock(KICK_OFF.minusMinutes(10).toInstant(ZoneOffset.UTC));
+        lifecycle = new MatchLifecycle(matchManager, clock, Duration.ofMinutes(45), Duration.ofMinutes(15), false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        lifecycle.close();
+    }
+
+    @Test
+    void testManualTransitionsFollowLegalMoves() {
+        FootballMatch match = createMatch("Match1", KICK_OFF);
+        assertThrows(IllegalArgumentException.class, () -> lifecycle.pauseMatch("Match1"));
+        assertThrows(IllegalArgumentException.class, () -> lifecycle.endMatch("Match1"));
+
+        lifecycle.startMatch("Match1");
+        lifecycle.pauseMatch("Match1");
+        assertEquals(MatchStatus.PAUSED, match.getMatchStatus());
+        assertThrows(IllegalArgumentException.class, () -> matchManager.removeMatch("Match1"));
+        assertThrows(IllegalArgumentException.class, () -> lifecycle.pauseMatch("Match1"));
+
+        lifecycle.resumeMatch("Match1");
+        lifecycle.endMatch("Match1");
+        assertEquals(MatchStatus.COMPLETED, match.getMatchStatus());
+        assertThrows(IllegalArgumentException.class, () -> lifecycle.resumeMatch("Match1"));
+        assertThrows(IllegalArgumentException.class, () -> lifecycle.startMatch("Missing"));
+    }
+
+    @Test
+    void testScheduledMatchMovesThroughEveryPhase() {
+        FootballMatch match = createMatch("Match1", KICK_OFF);
+        lifecycle.scheduleMatch("Match1");
+        assertEquals(1, lifecycle.getScheduledMatchCount());
+
+        advanceTo(KICK_OFF.minusSeconds(1));
+        assertEquals(MatchStatus.SCHEDULED, match.getMatchStatus());
+        advanceTo(KICK_OFF);
+        assertEquals(MatchStatus.IN_PROGRESS, match.getMatchStatus());
+        advanceTo(KICK_OFF.plusMinutes(45));
+        assertEquals(MatchStatus.PAUSED, match.getMatchStatus());
+        advanceTo(KICK_OFF.plusMinutes(60));
+        assertEquals(MatchStatus.IN_PROGRESS, match.getMatchStatus());
+        advanceTo(KICK_OFF.plusMinutes(105));
+        assertEquals(MatchStatus.COMPLETED, match.getMatchStatus());
+        assertEquals(0, lifecycle.getScheduledMatchCount());
+    }
+
+    @Test
+    void testManualMovesAreRespectedBySchedule() {
+        FootballMatch early = createMatch("Early", KICK_OFF);
+        FootballMatch ended = createMatch("Ended", KICK_OFF);
+        lifecycle.scheduleMatch("Early");
+        lifecycle.scheduleMatch("Ended");
+
+        lifecycle.startMatch("Early");
+        advanceTo(KICK_OFF.plusMinutes(10));
+        assertEquals(MatchStatus.IN_PROGRESS, early.getMatchStatus());
+
+        lifecycle.endMatch("Ended");
+        advanceTo(KICK_OFF.plusMinutes(45));
+        assertEquals(MatchStatus.PAUSED, early.getMatchStatus());
+        assertEquals(MatchStatus.COMPLETED, ended.getMatchStatus());
+        assertEquals(1, lifecycle.getScheduledMatchCount());
+    }
+
+    @Test
+    void testRemovedOrCancelledMatchesAreNotMoved() {
+        FootballMatch removed = createMatch("Removed", KICK_OFF);
+        FootballMatch cancelled = createMatch("Cancelled", KICK_OFF);
+        lifecycle.scheduleMatch("Removed");
+        lifecycle.scheduleMatch("Cancelled");
+
+        matchManager.removeMatch("Removed");
+        assertTrue(lifecycle.cancelSchedule("Cancelled"));
+        assertFalse(lifecycle.cancelSchedule("Cancelled"));
+        assertEquals(0, lifecycle.getScheduledMatchCount());
+
+        advanceTo(KICK_OFF.plusMinutes(1));
+        assertEquals(MatchStatus.SCHEDULED, removed.getMatchStatus());
+        assertEquals(MatchStatus.SCHEDULED, cancelled.getMatchStatus());
+    }
+
+    @Test
+    void testManyScheduledMatchesKickOffTogether() {
+        for (int i = 0; i < 5000; i++) {
+            createMatch("Match" + i, KICK_OFF.plusSeconds(i % 600));
+            lifecycle.scheduleMatch("Match" + i);
+        }
+        advanceTo(KICK_OFF.plusMinutes(10));
+        assertEquals(5000, matchManager.getMatchesByStatus(MatchStatus.IN_PROGRESS).size());
+        assertEquals(5000, lifecycle.getScheduledMatchCount());
+    }
+
+    private void advanceTo(LocalDateTime time) {
+        clock.instant = time.toInstant(ZoneOffset.UTC);
+        lifecycle.advance();
+    }
+
+    private FootballMatch createMatch(String matchId, LocalDateTime startTime) {
+        FootballMatch match = createMatchBuilder(matchId + "A", matchId + "B", matchId + "Player")
+                .matchTitle(matchId)
+                .startTime(startTime)
+                .build();
+        matchManager.addMatch(matchId, match);
+        return match;
+    }
+
+    private static final class MutableClock extends Clock {
+        private volatile Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
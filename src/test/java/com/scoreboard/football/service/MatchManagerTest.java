@@ -1,14 +1,24 @@
 package com.scoreboard.football.service;
 
 import com.scoreboard.football.FootballMatch;
+import com.scoreboard.football.common.MatchIdGenerator;
 import com.scoreboard.football.common.MatchStatus;
+import com.scoreboard.football.metrics.MatchOperation;
 import com.scoreboard.football.modal.Player;
 import com.scoreboard.football.modal.Team;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -129,6 +139,15 @@ class MatchManagerTest {
         assertThrows(IllegalArgumentException.class, () -> matchManager.getMatchDetails("xyz"));
     }
 
+    @Test
+    void testSetMatchStatus() {
+        FootballMatch match = createValidFootballMatch("TeamA", "TeamB", "Player");
+        matchManager.addMatch(match.getMatchId(), match);
+        matchManager.setMatchStatus(match.getMatchId(), MatchStatus.IN_PROGRESS);
+        assertEquals(MatchStatus.IN_PROGRESS, match.getMatchStatus());
+        assertThrows(IllegalArgumentException.class, () -> matchManager.setMatchStatus("xyz", MatchStatus.COMPLETED));
+    }
+
     @Test
     void testScoreGoalTeamSuccess() {
         FootballMatch match = createValidFootballMatch("TeamA", "TeamB", "PlayerAB");
@@ -170,6 +189,187 @@ class MatchManagerTest {
                 .filter (player->player.getName ().equals ("PlayerAB1")).findAny ().get ().getScore());
     }
 
+    @Test
+    void testScoreGoalByNumber() {
+        Team teamA = new Team("TeamA");
+        for (int i = 1; i <= 11; i++) {
+            teamA.addPlayer(new Player(i <= 2 ? "Twin" : "Player" + i, i));
+        }
+        FootballMatch match = new FootballMatch.Builder()
+                .teamOne(teamA)
+                .teamTwo(createTeamWithPlayers("TeamB", 11, "PlayerX"))
+                .matchTitle("Match Football")
+                .referee(new Player("MatchReferee", 777))
+                .build();
+        matchManager.addMatch(match.getMatchId(), match);
+        matchManager.scoreGoal(match.getMatchId(), 2, teamA);
+        matchManager.scoreGoal(match.getMatchId(), 2, teamA);
+
+        assertEquals(0, teamA.getPlayerByNumber(1).getScore());
+        assertEquals(2, teamA.getPlayerByNumber(2).getScore());
+        assertEquals(2, teamA.getScore());
+        assertEquals(teamA.getPlayerByNumber(2), matchManager.getPlayersRanking(match.getMatchId()).get(0));
+    }
+
+    @Test
+    void testScoreGoalByUnknownNumberCreditsNothing() {
+        FootballMatch match = createValidFootballMatch("TeamA", "TeamB", "Player");
+        matchManager.addMatch(match.getMatchId(), match);
+        assertThrows(IllegalArgumentException.class, () ->
+                matchManager.scoreGoal(match.getMatchId(), 99, match.getTeamOne()));
+        assertEquals(0, match.getTeamOne().getScore());
+    }
+
+    @Test
+    void testCompactIdLookupAndScoring() {
+        MatchIdGenerator idGenerator = new MatchIdGenerator();
+        long matchId = idGenerator.nextId();
+        FootballMatch match = new FootballMatch.Builder()
+                .matchId(matchId)
+                .teamOne(createTeamWithPlayers("TeamA", 11, "Player"))
+                .teamTwo(createTeamWithPlayers("TeamB", 11, "PlayerX"))
+                .matchTitle("Match Football")
+                .referee(new Player("MatchReferee", 777))
+                .build();
+        matchManager.addMatch(match.getMatchId(), match);
+
+        assertTrue(matchManager.hasMatch(matchId));
+        assertSame(match, matchManager.getMatchDetails(matchId));
+        assertSame(match, matchManager.getMatchDetails(MatchIdGenerator.toString(matchId)));
+        matchManager.scoreGoal(matchId, 3, match.getTeamOne());
+        assertEquals(1, match.getTeamOne().getPlayerByNumber(3).getScore());
+
+        matchManager.removeMatch(match.getMatchId());
+        assertFalse(matchManager.hasMatch(matchId));
+        assertThrows(IllegalArgumentException.class, () -> matchManager.getMatchDetails(matchId));
+        assertThrows(IllegalArgumentException.class, () -> matchManager.scoreGoal(matchId, 3, match.getTeamOne()));
+    }
+
+    @Test
+    void testArchiveMatchMovesScoresOffHeap() {
+        FootballMatch match = createValidFootballMatch("TeamA", "TeamB", "Player");
+        matchManager.addMatch(match.getMatchId(), match);
+        matchManager.scoreGoal(match.getMatchId(), 7, match.getTeamOne());
+        matchManager.scoreGoal(match.getMatchId(), 2, match.getTeamTwo());
+        matchManager.setMatchStatus(match.getMatchId(), MatchStatus.IN_PROGRESS);
+        assertThrows(IllegalArgumentException.class, () -> matchManager.archiveMatch(match.getMatchId()));
+
+        matchManager.setMatchStatus(match.getMatchId(), MatchStatus.COMPLETED);
+        matchManager.archiveMatch(match.getMatchId());
+        assertFalse(matchManager.hasMatch(match.getMatchId()));
+        assertThrows(IllegalArgumentException.class, () -> matchManager.getPlayerDetails("Player7"));
+        assertEquals(1, matchManager.getArchivedMatchCount());
+
+        ArchivedMatch archived = matchManager.getArchivedMatch(match.getMatchId());
+        assertEquals(MatchStatus.COMPLETED, archived.getMatchStatus());
+        assertEquals(1, archived.getTeamOneScore());
+        assertEquals(1, archived.getTeamTwoScore());
+        assertEquals(1, archived.getTeamOnePlayerScores().get(7));
+        assertEquals(0, archived.getTeamOnePlayerScores().get(1));
+        assertEquals(11, archived.getTeamTwoPlayerScores().size());
+
+        matchManager.removeArchivedMatch(match.getMatchId());
+        assertEquals(0, matchManager.getArchivedMatchCount());
+        assertThrows(IllegalArgumentException.class, () -> matchManager.getArchivedMatch(match.getMatchId()));
+        assertThrows(IllegalArgumentException.class,
+                () -> matchManager.setArchivedMatchStatus(match.getMatchId(), MatchStatus.PAUSED));
+    }
+
+    @Test
+    void testArchiveNotifiesListenersAsArchived() {
+        List<String> events = new ArrayList<>();
+        Leaderboard leaderboard = new Leaderboard();
+        matchManager.addListener(leaderboard);
+        matchManager.addListener(new MatchListener() {
+            @Override
+            public void matchRemoved(String matchId, FootballMatch match) {
+                events.add("removed " + matchId);
+            }
+
+            @Override
+            public void matchArchived(String matchId, FootballMatch match) {
+                events.add("archived " + matchId);
+            }
+
+            @Override
+            public void archivedMatchRemoved(String matchId) {
+                events.add("archive removed " + matchId);
+            }
+        });
+        FootballMatch match = createValidFootballMatch("TeamA", "TeamB", "Player");
+        matchManager.addMatch("Match1", match);
+        matchManager.setMatchStatus("Match1", MatchStatus.COMPLETED);
+        matchManager.archiveMatch("Match1");
+        matchManager.removeArchivedMatch("Match1");
+
+        assertEquals(List.of("archived Match1", "archive removed Match1"), events);
+        assertEquals(0, leaderboard.size());
+    }
+
+    @Test
+    void testScoreGoalsBatch() {
+        FootballMatch match1 = createValidFootballMatch("TeamA", "TeamB", "Player");
+        FootballMatch match2 = createValidFootballMatch("TeamC", "TeamD", "Other");
+        matchManager.addMatch(match1.getMatchId(), match1);
+        matchManager.addMatch(match2.getMatchId(), match2);
+        FootballMatch matchNotAdded = createValidFootballMatch("TeamY", "TeamZ", "Player");
+
+        List<GoalResult> results = matchManager.scoreGoals(List.of(
+                new GoalEvent(match1.getMatchId(), "Player1", match1.getTeamOne()),
+                new GoalEvent(match2.getMatchId(), "OtherX2", match2.getTeamTwo()),
+                new GoalEvent(match1.getMatchId(), "Player1", match1.getTeamOne()),
+                new GoalEvent("xyz", "Player1", match1.getTeamOne()),
+                new GoalEvent(match1.getMatchId(), "Player1", matchNotAdded.getTeamOne()),
+                new GoalEvent(match1.getMatchId(), "PlayerX3", match1.getTeamTwo())));
+
+        assertEquals(6, results.size());
+        assertTrue(results.get(0).isApplied());
+        assertEquals("Player1", results.get(0).getScorer().getName());
+        assertTrue(results.get(1).isApplied());
+        assertTrue(results.get(2).isApplied());
+        assertFalse(results.get(3).isApplied());
+        assertEquals("Match not found: xyz", results.get(3).getError());
+        assertFalse(results.get(4).isApplied());
+        assertEquals("Team does not exist in the match for scoring: TeamY", results.get(4).getError());
+        assertTrue(results.get(5).isApplied());
+
+        assertEquals(2, match1.getTeamOne().getScore());
+        assertEquals(1, match1.getTeamTwo().getScore());
+        assertEquals(1, match2.getTeamTwo().getScore());
+        assertEquals(2, results.get(0).getScorer().getScore());
+        assertEquals("Player1", matchManager.getPlayersRanking(match1.getMatchId()).get(0).getName());
+    }
+
+    @Test
+    void testScoreGoalsRejectsMissingTeamOrMatchPerEvent() {
+        FootballMatch match = createValidFootballMatch("TeamA", "TeamB", "Player");
+        matchManager.addMatch(match.getMatchId(), match);
+
+        List<GoalResult> results = matchManager.scoreGoals(List.of(
+                new GoalEvent(match.getMatchId(), "Player1", null),
+                new GoalEvent(null, "Player1", match.getTeamOne()),
+                new GoalEvent(match.getMatchId(), "Player1", match.getTeamOne())));
+
+        assertFalse(results.get(0).isApplied());
+        assertEquals("Team is required for scoring", results.get(0).getError());
+        assertFalse(results.get(1).isApplied());
+        assertEquals("Match not found: null", results.get(1).getError());
+        assertTrue(results.get(2).isApplied());
+        assertEquals(1, match.getTeamOne().getScore());
+        assertThrows(IllegalArgumentException.class, () -> matchManager.scoreGoal(match.getMatchId(), "Player1", null));
+    }
+
+    @Test
+    void testScoreGoalsUnknownPlayerCreditsTeamOnly() {
+        FootballMatch match = createValidFootballMatch("TeamA", "TeamB", "Player");
+        matchManager.addMatch(match.getMatchId(), match);
+        List<GoalResult> results = matchManager.scoreGoals(List.of(
+                new GoalEvent(match.getMatchId(), "Nobody", match.getTeamOne())));
+        assertTrue(results.get(0).isApplied());
+        assertNull(results.get(0).getScorer());
+        assertEquals(1, match.getTeamOne().getScore());
+    }
+
     @Test
     void testGetPlayersRanking() {
         FootballMatch match = createValidFootballMatch("Team1", "Team2", "PlayerAB");
@@ -182,6 +382,79 @@ class MatchManagerTest {
         assertEquals("PlayerAB2", rankedPlayers.get(2).getName());
     }
 
+    @Test
+    void testGetPlayersRankingAfterGoals() {
+        FootballMatch match = createValidFootballMatch("Team1", "Team2", "PlayerAB");
+        matchManager.addMatch(match.getMatchId(), match);
+        for (int i = 0; i < 9; i++) {
+            matchManager.scoreGoal(match.getMatchId(), "PlayerABX4", match.getTeamTwo());
+        }
+        List<Player> rankedPlayers = matchManager.getPlayersRanking(match.getMatchId());
+        assertEquals(22, rankedPlayers.size());
+        assertEquals("PlayerAB1", rankedPlayers.get(0).getName());
+        assertEquals("PlayerABX4", rankedPlayers.get(1).getName());
+        assertEquals("PlayerAB3", rankedPlayers.get(2).getName());
+
+        matchManager.scoreGoal(match.getMatchId(), "PlayerABX4", match.getTeamTwo());
+        rankedPlayers = matchManager.getPlayersRanking(match.getMatchId());
+        assertEquals("PlayerAB1", rankedPlayers.get(0).getName());
+        assertEquals("PlayerABX4", rankedPlayers.get(1).getName());
+
+        matchManager.scoreGoal(match.getMatchId(), "PlayerABX4", match.getTeamTwo());
+        rankedPlayers = matchManager.getPlayersRanking(match.getMatchId());
+        assertEquals("PlayerABX4", rankedPlayers.get(0).getName());
+        assertEquals(11, rankedPlayers.get(0).getScore());
+    }
+
+    @Test
+    void testGetTopScorers() {
+        FootballMatch match = createValidFootballMatch("Team1", "Team2", "PlayerAB");
+        matchManager.addMatch(match.getMatchId(), match);
+        List<Player> topScorers = matchManager.getTopScorers(match.getMatchId(), 2);
+        assertEquals(2, topScorers.size());
+        assertEquals("PlayerAB1", topScorers.get(0).getName());
+        assertEquals("PlayerAB3", topScorers.get(1).getName());
+        assertEquals(22, matchManager.getTopScorers(match.getMatchId(), 50).size());
+        assertThrows(IllegalArgumentException.class, () -> matchManager.getTopScorers("xyz", 2));
+        assertTrue(matchManager.getTopScorers(match.getMatchId(), 0).isEmpty());
+        assertTrue(matchManager.getTopScorers(match.getMatchId(), -1).isEmpty());
+    }
+
+    @Test
+    void testGetPlayersRankingFollowsScoresChangedOutsideManager() {
+        FootballMatch match = createValidFootballMatch("Team1", "Team2", "PlayerAB");
+        matchManager.addMatch(match.getMatchId(), match);
+        assertEquals("PlayerAB1", matchManager.getPlayersRanking(match.getMatchId()).get(0).getName());
+
+        match.getTeamTwo().increaseScore(20, "PlayerABX4");
+        match.getTeamOne().getPlayerByNumber(5).increaseScore(12);
+
+        List<Player> rankedPlayers = matchManager.getPlayersRanking(match.getMatchId());
+        assertEquals("PlayerABX4", rankedPlayers.get(0).getName());
+        assertEquals("PlayerAB5", rankedPlayers.get(1).getName());
+        assertEquals("PlayerAB1", rankedPlayers.get(2).getName());
+        assertThrows(UnsupportedOperationException.class, () -> rankedPlayers.remove(0));
+
+        matchManager.scoreGoal(match.getMatchId(), "PlayerAB1", match.getTeamOne());
+        matchManager.scoreGoal(match.getMatchId(), "PlayerAB1", match.getTeamOne());
+        matchManager.scoreGoal(match.getMatchId(), "PlayerAB1", match.getTeamOne());
+        assertEquals(13, matchManager.getPlayerDetails("PlayerAB1").getScore());
+        assertEquals("PlayerAB1", matchManager.getTopScorers(match.getMatchId(), 2).get(1).getName());
+    }
+
+    @Test
+    void testGetPlayersRankingFollowsRosterChanges() {
+        FootballMatch match = createValidFootballMatch("Team1", "Team2", "PlayerAB");
+        matchManager.addMatch(match.getMatchId(), match);
+        Player substitute = new Player("Substitute", 40);
+        substitute.increaseScore(20);
+        match.getTeamOne().removePlayer(match.getTeamOne().getPlayers().get(10));
+        match.getTeamOne().addPlayer(substitute);
+        List<Player> rankedPlayers = matchManager.getPlayersRanking(match.getMatchId());
+        assertEquals(22, rankedPlayers.size());
+        assertSame(substitute, rankedPlayers.get(0));
+    }
+
     @Test
     void testGetPlayerDetails() {
         FootballMatch match = createValidFootballMatch("Team1", "Team2", "Player");
@@ -201,6 +474,60 @@ class MatchManagerTest {
         assertEquals("Player not found: NonExistingPlayer", exception.getMessage());
     }
 
+    @Test
+    void testGetPlayerDetailsByTeamAndNumber() {
+        FootballMatch match = createValidFootballMatch("Team1", "Team2", "Player");
+        matchManager.addMatch(match.getMatchId(), match);
+        Player foundPlayer = matchManager.getPlayerDetails("Team2", 3);
+        assertEquals("PlayerX3", foundPlayer.getName());
+        assertThrows(IllegalArgumentException.class, () -> matchManager.getPlayerDetails("Team2", 42));
+    }
+
+    @Test
+    void testGetPlayerDetailsFollowsRosterChanges() {
+        FootballMatch match = createValidFootballMatch("Team1", "Team2", "Player");
+        matchManager.addMatch(match.getMatchId(), match);
+        Player player = matchManager.getPlayerDetails("Player4");
+        match.getTeamOne().removePlayer(player);
+        assertThrows(IllegalArgumentException.class, () -> matchManager.getPlayerDetails("Player4"));
+
+        Player substitute = new Player("Substitute", 40);
+        match.getTeamOne().addPlayer(substitute);
+        assertSame(substitute, matchManager.getPlayerDetails("Substitute"));
+        assertSame(substitute, matchManager.getPlayerDetails("Team1", 40));
+    }
+
+    @Test
+    void testGetPlayerDetailsAfterMatchRemoved() {
+        FootballMatch match1 = createValidFootballMatch("TeamA", "TeamB", "PlayerAB");
+        FootballMatch match2 = createValidFootballMatch("TeamD", "TeamE", "PlayerDE");
+        matchManager.addMatch(match1.getMatchId(), match1);
+        matchManager.addMatch(match2.getMatchId(), match2);
+        matchManager.removeMatch(match1.getMatchId());
+        assertThrows(IllegalArgumentException.class, () -> matchManager.getPlayerDetails("PlayerAB1"));
+        assertNotNull(matchManager.getPlayerDetails("PlayerDE1"));
+    }
+
+    @Test
+    void testGetPlayerMatches() {
+        FootballMatch match1 = createValidFootballMatch("TeamA", "TeamB", "Player");
+        FootballMatch match2 = createValidFootballMatch("TeamD", "TeamE", "Player");
+        FootballMatch match3 = createValidFootballMatch("TeamF", "TeamG", "Other");
+        matchManager.addMatch(match1.getMatchId(), match1);
+        matchManager.addMatch(match2.getMatchId(), match2);
+        matchManager.addMatch(match3.getMatchId(), match3);
+
+        List<FootballMatch> playerMatches = matchManager.getPlayerMatches("Player1");
+        assertEquals(2, playerMatches.size());
+        assertTrue(playerMatches.contains(match1));
+        assertTrue(playerMatches.contains(match2));
+
+        FootballMatch replacement = createValidFootballMatch("TeamH", "TeamI", "Other");
+        matchManager.updateMatch(match2.getMatchId(), replacement);
+        assertEquals(List.of(match1), matchManager.getPlayerMatches("Player1"));
+        assertTrue(matchManager.getPlayerMatches("Unknown").isEmpty());
+    }
+
     @Test
     void testGetAllPlayers() {
         FootballMatch match = createValidFootballMatch("Team1", "Team2", "Player");
@@ -220,6 +547,121 @@ class MatchManagerTest {
         assertEquals("No matches found", exception.getMessage());
     }
 
+    @Test
+    void testThrowingListenerDoesNotUndoChanges() {
+        List<String> events = new ArrayList<>();
+        matchManager.addListener(new MatchListener() {
+            @Override
+            public void matchAdded(String matchId, FootballMatch match) {
+                throw new IllegalStateException("listener failed");
+            }
+
+            @Override
+            public void goalScored(String matchId, Team team, Player scorer, int points) {
+                throw new IllegalStateException("listener failed");
+            }
+
+            @Override
+            public void matchRemoved(String matchId, FootballMatch match) {
+                throw new IllegalStateException("listener failed");
+            }
+        });
+        matchManager.addListener(new MatchListener() {
+            @Override
+            public void matchAdded(String matchId, FootballMatch match) {
+                events.add("added " + matchId);
+            }
+
+            @Override
+            public void goalScored(String matchId, Team team, Player scorer, int points) {
+                events.add("goal " + scorer.getName());
+            }
+
+            @Override
+            public void matchRemoved(String matchId, FootballMatch match) {
+                events.add("removed " + matchId);
+            }
+        });
+        FootballMatch match = createValidFootballMatch("TeamA", "TeamB", "Player");
+
+        matchManager.addMatch("Match1", match);
+        matchManager.scoreGoal("Match1", "Player3", match.getTeamOne());
+
+        assertSame(match, matchManager.getMatchDetails("Match1"));
+        assertEquals(1, matchManager.getPlayerDetails("Player3").getScore());
+        assertEquals("Player3", matchManager.getPlayersRanking("Match1").get(0).getName());
+
+        matchManager.removeMatch("Match1");
+
+        assertFalse(matchManager.hasMatch("Match1"));
+        assertThrows(IllegalArgumentException.class, () -> matchManager.getPlayerDetails("Player3"));
+        matchManager.addMatch("Match1", createValidFootballMatch("TeamC", "TeamD", "Other"));
+        assertEquals(List.of("added Match1", "goal Player3", "removed Match1", "added Match1"), events);
+        assertEquals(4, matchManager.getMetrics().getListenerFailures());
+        assertEquals(0, matchManager.getMetrics().getFailureCount(MatchOperation.ADD_MATCH));
+    }
+
+    @Test
+    void testPlayerNamesSharedByManyMatches() {
+        int matchCount = 20_000;
+        assertTimeout(Duration.ofSeconds(20), () -> {
+            for (int i = 0; i < matchCount; i++) {
+                matchManager.addMatch("Match" + i, createSquadMatch(i));
+            }
+            for (int i = 0; i < matchCount; i += 2) {
+                matchManager.removeMatch("Match" + i);
+            }
+        });
+
+        assertEquals(matchCount / 2, matchManager.getPlayerMatches("Goli").size());
+        assertEquals(matchCount / 2, matchManager.getPlayerMatches("Skipper").size());
+        assertEquals(List.of(matchManager.getMatchDetails("Match1")), matchManager.getPlayerMatches("M1A5"));
+        assertNotNull(matchManager.getPlayerDetails("Skipper"));
+    }
+
+    @Test
+    void testTeamsOfARegisteredMatchCannotBeSwapped() {
+        FootballMatch match = createValidFootballMatch("TeamA", "TeamB", "Player");
+        matchManager.addMatch("Match1", match);
+        Team originalTeam = match.getTeamOne();
+        Team replacement = createTeamWithPlayers("TeamC", 11, "Other");
+
+        assertFalse(match.setTeamOne(replacement));
+        assertFalse(match.setTeamTwo(replacement));
+        assertSame(originalTeam, match.getTeamOne());
+        originalTeam.removePlayer(originalTeam.getPlayers().get(0));
+        assertThrows(IllegalArgumentException.class, () -> matchManager.getPlayerDetails("Player1"));
+
+        matchManager.removeMatch("Match1");
+        assertTrue(match.setTeamOne(replacement));
+        matchManager.addMatch("Match1", match);
+        assertEquals(List.of(match), matchManager.getPlayerMatches("Other1"));
+        assertTrue(matchManager.getPlayerMatches("Player2").isEmpty());
+    }
+
+    @Test
+    void testRemovingAPlayerKeepsTheSameNamedPlayerOfTheOtherTeam() {
+        FootballMatch match = createSquadMatch(1);
+        matchManager.addMatch("Match1", match);
+        Player opposingKeeper = match.getTeamTwo().getPlayers().get(0);
+
+        match.getTeamOne().removePlayer(match.getTeamOne().getPlayers().get(0));
+
+        assertSame(opposingKeeper, matchManager.getPlayerDetails("Goli"));
+        assertEquals(List.of(match), matchManager.getPlayerMatches("Goli"));
+        assertEquals(List.of(match), matchManager.getPlayerMatches("Skipper"));
+    }
+
+    private FootballMatch createScheduledMatch(String title, LocalDateTime startTime) {
+        return new FootballMatch.Builder()
+                .teamOne(createTeamWithPlayers(title + "A", 11, "Player"))
+                .teamTwo(createTeamWithPlayers(title + "B", 11, "PlayerX"))
+                .matchTitle(title)
+                .referee(new Player("MatchReferee", 777))
+                .startTime(startTime)
+                .build();
+    }
+
     private FootballMatch createValidFootballMatch(String teamOne, String teamTwo, String testPlayerName) {
         Team teamA = createTeamWithPlayers(teamOne, 11, testPlayerName);
         Team teamB = createTeamWithPlayers(teamTwo, 11, testPlayerName+"X");
@@ -233,6 +675,26 @@ class MatchManagerTest {
         return match;
     }
 
+    // Every squad has a "Goli" and a "Skipper", the names Team picks its goalkeeper and captain by.
+    private FootballMatch createSquadMatch(int index) {
+        return new FootballMatch.Builder()
+                .teamOne(createSquad("M" + index + "A"))
+                .teamTwo(createSquad("M" + index + "B"))
+                .matchTitle("Match " + index)
+                .referee(new Player("MatchReferee", 777))
+                .build();
+    }
+
+    private Team createSquad(String prefix) {
+        Team team = new Team(prefix);
+        team.addPlayer(new Player("Goli", 1));
+        team.addPlayer(new Player("Skipper", 2));
+        for (int i = 3; i <= 11; i++) {
+            team.addPlayer(new Player(prefix + i, i));
+        }
+        return team;
+    }
+
     private Team createTeamWithPlayers(String teamName, int numberOfPlayers, String playerNamePrefix) {
         Team team = new Team(teamName);
         for (int i = 1; i <= numberOfPlayers; i++) {
@@ -257,4 +719,110 @@ class MatchManagerTest {
         LocalDateTime retrievedStartTime = matchManager.getMatchStartTime(match.getMatchId ());
         assertNotNull(retrievedStartTime);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testMatchesAreIndexedByStartTimeAndStatus() {
+        LocalDateTime kickOff = LocalDateTime.of(2026, 5, 1, 15, 0);
+        FootballMatch early = createScheduledMatch("Early", kickOff);
+        FootballMatch late = createScheduledMatch("Late", kickOff.plusMinutes(90));
+        FootballMatch next = createScheduledMatch("Next", kickOff.plusMinutes(30));
+        matchManager.addMatch("Early", early);
+        matchManager.addMatch("Late", late);
+        matchManager.addMatch("Next", next);
+
+        assertEquals(List.of(early, next, late), matchManager.getMatchesByStatus(MatchStatus.SCHEDULED));
+        assertEquals(List.of(early, next), matchManager.getMatchesStartingBetween(kickOff, kickOff.plusMinutes(90)));
+        assertEquals(List.of(), matchManager.getMatchesStartingBetween(kickOff.plusHours(2), kickOff.plusHours(3)));
+
+        matchManager.setMatchStatus("Early", MatchStatus.IN_PROGRESS);
+        assertEquals(List.of(early), matchManager.getMatchesByStatus(MatchStatus.IN_PROGRESS));
+        assertEquals(List.of(next), matchManager.getMatchesStartingBetween(MatchStatus.SCHEDULED, kickOff, kickOff.plusHours(1)));
+
+        matchManager.setMatchStatus("Early", MatchStatus.COMPLETED);
+        matchManager.removeMatch("Early");
+        assertEquals(List.of(), matchManager.getMatchesByStatus(MatchStatus.IN_PROGRESS));
+        assertEquals(List.of(), matchManager.getMatchesByStatus(MatchStatus.COMPLETED));
+        assertEquals(List.of(next, late), matchManager.getMatchesStartingBetween(kickOff, kickOff.plusHours(2)));
+
+        FootballMatch replacement = createScheduledMatch("Next", kickOff.plusMinutes(45));
+        replacement.setMatchStatus(MatchStatus.COMPLETED);
+        matchManager.updateMatch("Next", replacement);
+        assertEquals(List.of(late), matchManager.getMatchesByStatus(MatchStatus.SCHEDULED));
+        assertEquals(List.of(replacement), matchManager.getMatchesByStatus(MatchStatus.COMPLETED));
+    }
+
+    @Test
+    void testGetMatchesStartingBetweenRejectsInvalidRange() {
+        LocalDateTime now = LocalDateTime.now();
+        assertThrows(IllegalArgumentException.class, () -> matchManager.getMatchesStartingBetween(now, now.minusMinutes(1)));
+        assertThrows(IllegalArgumentException.class, () -> matchManager.getMatchesStartingBetween(null, now));
+    }
+
+    @Test
+    void testConcurrentScoreGoal() throws Exception {
+        List<FootballMatch> liveMatches = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            FootballMatch match = createValidFootballMatch("TeamA" + i, "TeamB" + i, "Player");
+            matchManager.addMatch(match.getMatchId(), match);
+            liveMatches.add(match);
+        }
+        int threads = 8;
+        int goalsPerThread = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < goalsPerThread; i++) {
+                    FootballMatch match = liveMatches.get(i % liveMatches.size());
+                    matchManager.scoreGoal(match.getMatchId(), "Player1", match.getTeamOne());
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        int expectedPerMatch = threads * goalsPerThread / liveMatches.size();
+        for (FootballMatch match : liveMatches) {
+            assertEquals(expectedPerMatch, match.getTeamOne().getScore());
+            assertEquals(expectedPerMatch, match.getTeamOne().getPlayers().get(0).getScore());
+        }
+    }
+
+    @Test
+    void testConcurrentAddMatchRejectsDuplicates() throws Exception {
+        FootballMatch match = createValidFootballMatch("TeamA", "TeamB", "Player");
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger added = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    matchManager.addMatch(match.getMatchId(), match);
+                    added.incrementAndGet();
+                } catch (IllegalArgumentException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(1, added.get());
+        assertEquals(threads - 1, rejected.get());
+        assertEquals(1, matchManager.getAllMatches().size());
+    }
+}
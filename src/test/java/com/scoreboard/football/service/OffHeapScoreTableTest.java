@@ -0,0 +1,75 @@
+package com.scoreboard.football.service;
+
+import com.scoreboard.football.common.MatchStatus;
+import com.scoreboard.football.modal.Player;
+import com.scoreboard.football.modal.Team;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapScoreTableTest {
+
+    @Test
+    void testRecordsRoundTrip() {
+        OffHeapScoreTable table = new OffHeapScoreTable();
+        Team teamOne = createTeamWithPlayers("TeamA", 11);
+        teamOne.increaseScore(2, "Player4");
+        Team teamTwo = createTeamWithPlayers("TeamB", 9);
+        int slot = OffHeapScoreTable.slotOf(table.allocate(MatchStatus.COMPLETED, teamOne, teamTwo));
+
+        assertEquals(MatchStatus.COMPLETED, table.getStatus(slot));
+        assertEquals(2, table.getTeamScore(slot, 0));
+        assertEquals(0, table.getTeamScore(slot, 1));
+        assertEquals(11, table.getPlayerCount(slot, 0));
+        assertEquals(9, table.getPlayerCount(slot, 1));
+        assertEquals(4, table.getPlayerNumber(slot, 0, 3));
+        assertEquals(2, table.getPlayerScore(slot, 0, 3));
+    }
+
+    @Test
+    void testSlotsAreReusedAndChunksGrow() {
+        OffHeapScoreTable table = new OffHeapScoreTable();
+        Team teamOne = createTeamWithPlayers("TeamA", 11);
+        Team teamTwo = createTeamWithPlayers("TeamB", 11);
+        long first = table.allocate(MatchStatus.COMPLETED, teamOne, teamTwo);
+        long oneChunk = table.getAllocatedBytes();
+        for (int i = 0; i < 20_000; i++) {
+            table.allocate(MatchStatus.SCHEDULED, teamOne, teamTwo);
+        }
+        assertEquals(20_001, table.size());
+        assertTrue(table.getAllocatedBytes() > oneChunk);
+        assertEquals(MatchStatus.SCHEDULED, table.getStatus(20_000));
+
+        assertTrue(table.free(first));
+        long reused = table.allocate(MatchStatus.IN_PROGRESS, teamOne, teamTwo);
+        assertEquals(OffHeapScoreTable.slotOf(first), OffHeapScoreTable.slotOf(reused));
+        assertEquals(MatchStatus.IN_PROGRESS, table.getStatus(OffHeapScoreTable.slotOf(reused)));
+    }
+
+    @Test
+    void testStaleHandleDoesNotReachReusedSlot() {
+        OffHeapScoreTable table = new OffHeapScoreTable();
+        Team teamOne = createTeamWithPlayers("TeamA", 11);
+        Team teamTwo = createTeamWithPlayers("TeamB", 11);
+        long stale = table.allocate(MatchStatus.COMPLETED, teamOne, teamTwo);
+        assertNotNull(table.read("Match1", stale));
+        assertTrue(table.free(stale));
+        long reused = table.allocate(MatchStatus.SCHEDULED, teamOne, teamTwo);
+
+        assertNull(table.read("Match1", stale));
+        assertFalse(table.setStatus(stale, MatchStatus.PAUSED));
+        assertFalse(table.free(stale));
+        assertEquals(1, table.size());
+        assertEquals(MatchStatus.SCHEDULED, table.read("Match2", reused).getMatchStatus());
+        assertTrue(table.setStatus(reused, MatchStatus.COMPLETED));
+        assertEquals(MatchStatus.COMPLETED, table.read("Match2", reused).getMatchStatus());
+    }
+
+    private Team createTeamWithPlayers(String teamName, int numberOfPlayers) {
+        Team team = new Team(teamName);
+        for (int i = 1; i <= numberOfPlayers; i++) {
+            team.addPlayer(new Player("Player" + i, i));
+        }
+        return team;
+    }
+}
@@ -0,0 +1,70 @@
+package com.scoreboard.football.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentMapTest {
+
+    @Test
+    void testUpdatesLeaveEarlierVersionsUnchanged() {
+        PersistentMap<String, Integer> empty = PersistentMap.empty();
+        PersistentMap<String, Integer> one = empty.put("Match1", 1);
+        PersistentMap<String, Integer> two = one.put("Match2", 2);
+        PersistentMap<String, Integer> replaced = two.put("Match1", 10);
+        PersistentMap<String, Integer> removed = replaced.remove("Match2");
+
+        assertEquals(0, empty.size());
+        assertEquals(1, one.size());
+        assertEquals(1, one.get("Match1"));
+        assertNull(one.get("Match2"));
+        assertEquals(2, two.size());
+        assertEquals(1, two.get("Match1"));
+        assertEquals(10, replaced.get("Match1"));
+        assertEquals(2, replaced.size());
+        assertEquals(1, removed.size());
+        assertNull(removed.get("Match2"));
+        assertSame(removed, removed.remove("Unknown"));
+    }
+
+    @Test
+    void testCollidingKeys() {
+        // "Aa" and "BB" have the same String hash code.
+        PersistentMap<String, Integer> map = PersistentMap.<String, Integer>empty()
+                .put("Aa", 1)
+                .put("BB", 2)
+                .put("C", 3);
+        assertEquals(3, map.size());
+        assertEquals(1, map.get("Aa"));
+        assertEquals(2, map.get("BB"));
+        PersistentMap<String, Integer> withoutAa = map.remove("Aa");
+        assertNull(withoutAa.get("Aa"));
+        assertEquals(2, withoutAa.get("BB"));
+        assertEquals(2, withoutAa.size());
+    }
+
+    @Test
+    void testMatchesHashMapUnderRandomUpdates() {
+        Random random = new Random(42);
+        Map<String, Integer> expected = new HashMap<>();
+        PersistentMap<String, Integer> map = PersistentMap.empty();
+        for (int i = 0; i < 50_000; i++) {
+            String key = "Match" + random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                map = map.remove(key);
+            } else {
+                expected.put(key, i);
+                map = map.put(key, i);
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        Map<String, Integer> actual = new HashMap<>();
+        map.forEach(actual::put);
+        assertEquals(expected, actual);
+    }
+}
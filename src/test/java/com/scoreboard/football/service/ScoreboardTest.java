@@ -0,0 +1,127 @@
+package com.scoreboard.football.service;
+
+import com.scoreboard.football.FootballMatch;
+import com.scoreboard.football.common.MatchStatus;
+import com.scoreboard.football.modal.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.scoreboard.football.TestFixtures.createValidFootballMatch;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoreboardTest {
+    private MatchManager matchManager;
+    private Scoreboard scoreboard;
+
+    @BeforeEach
+    void setUp() {
+        matchManager = new MatchManager();
+        scoreboard = new Scoreboard();
+        matchManager.addListener(scoreboard);
+    }
+
+    @Test
+    void testSnapshotsAreImmutableAndVersioned() {
+        FootballMatch match = createValidFootballMatch("TeamA", "TeamB");
+        matchManager.addMatch("Match1", match);
+        ScoreboardSnapshot before = scoreboard.getSnapshot();
+
+        matchManager.scoreGoal("Match1", "Player3", match.getTeamOne());
+        matchManager.setMatchStatus("Match1", MatchStatus.IN_PROGRESS);
+        ScoreboardSnapshot after = scoreboard.getSnapshot();
+
+        assertTrue(after.getVersion() > before.getVersion());
+        assertEquals(0, before.getMatch("Match1").getTeamOne().getScore());
+        assertEquals(MatchStatus.SCHEDULED, before.getMatch("Match1").getMatchStatus());
+        ScoreboardSnapshot.MatchView view = after.getMatch("Match1");
+        assertEquals(1, view.getTeamOne().getScore());
+        assertEquals(1, view.getTeamOne().getPlayers().get(2).getScore());
+        assertEquals(MatchStatus.IN_PROGRESS, view.getMatchStatus());
+        assertSame(before.getMatch("Match1").getTeamTwo(), view.getTeamTwo());
+    }
+
+    @Test
+    void testTeamsSharingANameAreUpdatedBySlot() {
+        FootballMatch match = createValidFootballMatch("Reserves", "Reserves");
+        matchManager.addMatch("Match1", match);
+
+        matchManager.scoreGoal("Match1", "PlayerX2", match.getTeamTwo());
+        match.getTeamTwo().removePlayer(match.getTeamTwo().getPlayers().get(0));
+        match.getTeamTwo().addPlayer(new Player("Substitute", 20));
+
+        ScoreboardSnapshot.MatchView view = scoreboard.getSnapshot().getMatch("Match1");
+        assertEquals(0, view.getTeamOne().getScore());
+        assertEquals(11, view.getTeamOne().getPlayers().size());
+        assertEquals(1, view.getTeamTwo().getScore());
+        assertEquals(1, view.getTeamTwo().getPlayers().get(0).getScore());
+        assertEquals("Substitute", view.getTeamTwo().getPlayers().get(10).getName());
+    }
+
+    @Test
+    void testRosterChangesAndRemoval() {
+        FootballMatch match = createValidFootballMatch("TeamA", "TeamB");
+        matchManager.addMatch("Match1", match);
+        match.getTeamTwo().removePlayer(match.getTeamTwo().getPlayers().get(0));
+        assertEquals(10, scoreboard.getSnapshot().getMatch("Match1").getTeamTwo().getPlayers().size());
+        match.getTeamTwo().addPlayer(new Player("Substitute", 20));
+        assertEquals("Substitute", scoreboard.getSnapshot().getMatch("Match1").getTeamTwo().getPlayers().get(10).getName());
+
+        matchManager.removeMatch("Match1");
+        assertFalse(scoreboard.getSnapshot().hasMatch("Match1"));
+        assertEquals(0, scoreboard.getSnapshot().getMatchCount());
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.getSnapshot().getMatch("Match1"));
+    }
+
+    @Test
+    void testReadersSeeConsistentScoresWhileWritersScore() throws Exception {
+        List<FootballMatch> matches = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            FootballMatch match = createValidFootballMatch("TeamA" + i, "TeamB" + i);
+            matchManager.addMatch("Match" + i, match);
+            matches.add(match);
+        }
+        int writers = 4;
+        int goalsPerWriter = 5_000;
+        AtomicBoolean done = new AtomicBoolean();
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 1);
+        Future<?> reader = executor.submit(() -> {
+            while (!done.get()) {
+                scoreboard.getSnapshot().forEachMatch((matchId, view) -> {
+                    int playerGoals = 0;
+                    for (ScoreboardSnapshot.PlayerView player : view.getTeamOne().getPlayers()) {
+                        playerGoals += player.getScore();
+                    }
+                    assertEquals(view.getTeamOne().getScore(), playerGoals);
+                });
+            }
+        });
+        List<Future<?>> futures = new ArrayList<>();
+        for (int w = 0; w < writers; w++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < goalsPerWriter; i++) {
+                    int index = i % matches.size();
+                    matchManager.scoreGoal("Match" + index, "Player" + (i % 11 + 1), matches.get(index).getTeamOne());
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        done.set(true);
+        reader.get(60, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        ScoreboardSnapshot snapshot = scoreboard.getSnapshot();
+        for (int i = 0; i < matches.size(); i++) {
+            assertEquals(writers * goalsPerWriter / matches.size(), snapshot.getMatch("Match" + i).getTeamOne().getScore());
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.scoreboard.football.service;
+
+import com.scoreboard.football.FootballMatch;
+import com.scoreboard.football.common.MatchStatus;
+import com.scoreboard.football.modal.Player;
+import com.scoreboard.football.modal.Team;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.scoreboard.football.TestFixtures.createMatchBuilder;
+import static com.scoreboard.football.TestFixtures.createSquad;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeasonStatisticsTest {
+    @Test
+    void testOnlyCompletedMatchesAreRecorded() {
+        MatchManager matchManager = new MatchManager();
+        SeasonStatistics statistics = new SeasonStatistics();
+        matchManager.addListener(statistics);
+        FootballMatch match1 = createValidFootballMatch("TeamA", "TeamB", "Player", "RefereeOne");
+        FootballMatch match2 = createValidFootballMatch("TeamC", "TeamA", "Other", "RefereeTwo");
+        matchManager.addMatch("Match1", match1);
+        matchManager.addMatch("Match2", match2);
+        matchManager.transitionMatchStatus("Match1", MatchStatus.IN_PROGRESS);
+        matchManager.scoreGoal("Match1", "Player3", match1.getTeamOne());
+        matchManager.scoreGoal("Match1", "Player3", match1.getTeamOne());
+        matchManager.scoreGoal("Match1", "PlayerX7", match1.getTeamTwo());
+        matchManager.transitionMatchStatus("Match2", MatchStatus.IN_PROGRESS);
+        matchManager.scoreGoal("Match2", "Other1", match2.getTeamOne());
+
+        assertEquals(0, statistics.getMatchCount());
+
+        matchManager.transitionMatchStatus("Match1", MatchStatus.COMPLETED);
+        matchManager.setMatchStatus("Match1", MatchStatus.COMPLETED);
+
+        assertEquals(1, statistics.getMatchCount());
+        assertEquals(3, statistics.getGoalCount());
+        assertEquals(Map.of("TeamA", 2L, "TeamB", 1L), statistics.getGoalsByTeam());
+        assertEquals(2L, statistics.getGoalsByPlayer().get("Player3 (TeamA)"));
+        assertEquals(0L, statistics.getGoalsByPlayer().get("Player1 (TeamA)"));
+        assertEquals(22, statistics.getGoalsByPlayer().size());
+        assertEquals(Map.of("RefereeOne", 3L), statistics.getGoalsByReferee());
+        List<Leaderboard.LeaderboardEntry> topScorers = statistics.getTopScorers(3);
+        assertEquals(List.of(new Leaderboard.LeaderboardEntry("Player3 (TeamA)", 2),
+                new Leaderboard.LeaderboardEntry("PlayerX7 (TeamB)", 1),
+                new Leaderboard.LeaderboardEntry("Player1 (TeamA)", 0)), topScorers);
+        assertArrayEquals(new long[]{0, 0, 0, 1}, statistics.getMatchGoalDistribution());
+        assertArrayEquals(new long[]{20, 1, 1}, statistics.getPlayerGoalDistribution());
+
+        matchManager.transitionMatchStatus("Match2", MatchStatus.COMPLETED);
+
+        assertEquals(2, statistics.getMatchCount());
+        assertEquals(Map.of("TeamA", 2L, "TeamB", 1L, "TeamC", 1L), statistics.getGoalsByTeam());
+        assertEquals(Map.of("RefereeOne", 3L, "RefereeTwo", 1L), statistics.getGoalsByReferee());
+        assertArrayEquals(new long[]{0, 1, 0, 1}, statistics.getMatchGoalDistribution());
+    }
+
+    @Test
+    void testMatchAddedAsCompletedIsRecordedOnce() {
+        SeasonStatistics statistics = new SeasonStatistics();
+        FootballMatch match = createValidFootballMatch("TeamA", "TeamB", "Player", "Referee");
+        match.setMatchStatus(MatchStatus.COMPLETED);
+
+        statistics.matchAdded("Match1", match);
+
+        assertFalse(statistics.recordMatch("Match1", match));
+        assertEquals(1, statistics.getMatchCount());
+        assertEquals(0, statistics.getGoalCount());
+    }
+
+    @Test
+    void testPlayersSharingANameAreKeptApartByTeam() {
+        MatchManager matchManager = new MatchManager();
+        SeasonStatistics statistics = new SeasonStatistics();
+        matchManager.addListener(statistics);
+        FootballMatch match1 = createSquadMatch("TeamA", "TeamB");
+        FootballMatch match2 = createSquadMatch("TeamC", "TeamA");
+        matchManager.addMatch("Match1", match1);
+        matchManager.addMatch("Match2", match2);
+        matchManager.transitionMatchStatus("Match1", MatchStatus.IN_PROGRESS);
+        matchManager.scoreGoal("Match1", "Goli", match1.getTeamOne());
+        matchManager.scoreGoal("Match1", "Skipper", match1.getTeamTwo());
+        matchManager.transitionMatchStatus("Match1", MatchStatus.COMPLETED);
+        matchManager.transitionMatchStatus("Match2", MatchStatus.IN_PROGRESS);
+        matchManager.scoreGoal("Match2", "Goli", match2.getTeamTwo());
+        matchManager.scoreGoal("Match2", "Goli", match2.getTeamOne());
+        matchManager.transitionMatchStatus("Match2", MatchStatus.COMPLETED);
+
+        Map<String, Long> byPlayer = statistics.getGoalsByPlayer();
+        assertEquals(2L, byPlayer.get("Goli (TeamA)"));
+        assertEquals(0L, byPlayer.get("Goli (TeamB)"));
+        assertEquals(1L, byPlayer.get("Goli (TeamC)"));
+        assertEquals(1L, byPlayer.get("Skipper (TeamB)"));
+        assertEquals(0L, byPlayer.get("Skipper (TeamA)"));
+        assertEquals(33, byPlayer.size());
+        assertEquals(List.of(new Leaderboard.LeaderboardEntry("Goli (TeamA)", 2),
+                new Leaderboard.LeaderboardEntry("Goli (TeamC)", 1),
+                new Leaderboard.LeaderboardEntry("Skipper (TeamB)", 1)), statistics.getTopScorers(3));
+    }
+
+    @Test
+    void testEmptySeason() {
+        SeasonStatistics statistics = new SeasonStatistics();
+
+        assertEquals(0, statistics.getGoalCount());
+        assertTrue(statistics.getGoalsByTeam().isEmpty());
+        assertTrue(statistics.getGoalsByPlayer().isEmpty());
+        assertTrue(statistics.getTopScorers(5).isEmpty());
+        assertArrayEquals(new long[]{0}, statistics.getMatchGoalDistribution());
+    }
+
+    @Test
+    void testParallelAggregationMatchesSequentialTotals() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            SeasonStatistics statistics = new SeasonStatistics(pool);
+            Map<String, Long> teamGoals = new HashMap<>();
+            Map<String, Long> playerGoals = new HashMap<>();
+            long totalGoals = 0;
+            int matches = 20_000;
+            for (int m = 0; m < matches; m++) {
+                String home = "Team" + (m % 40);
+                String away = "Team" + ((m * 7 + 1) % 40);
+                FootballMatch match = createValidFootballMatch(home, away, home + "P", "Referee" + (m % 12));
+                for (int g = 0; g < m % 6; g++) {
+                    Team team = g % 2 == 0 ? match.getTeamOne() : match.getTeamTwo();
+                    Player scorer = team.increaseScore(1, team.getPlayers().get((m + g) % 11).getName());
+                    teamGoals.merge(team.getName(), 1L, Long::sum);
+                    playerGoals.merge(SeasonStatistics.playerKey(team.getName(), scorer.getName()), 1L, Long::sum);
+                    totalGoals++;
+                }
+                statistics.recordMatch("Match" + m, match);
+            }
+
+            assertEquals(matches, statistics.getMatchCount());
+            assertEquals(totalGoals, statistics.getGoalCount());
+            statistics.getGoalsByTeam().forEach((team, goals) -> assertEquals(teamGoals.getOrDefault(team, 0L), goals, team));
+            statistics.getGoalsByPlayer().forEach((player, goals) -> assertEquals(playerGoals.getOrDefault(player, 0L), goals, player));
+            Map<String, Long> byPlayer = statistics.getGoalsByPlayer();
+            List<Leaderboard.LeaderboardEntry> topScorers = statistics.getTopScorers(10);
+            assertEquals(10, topScorers.size());
+            long lowestTopGoals = topScorers.get(9).getGoals();
+            for (int i = 0; i < topScorers.size(); i++) {
+                Leaderboard.LeaderboardEntry entry = topScorers.get(i);
+                assertEquals(byPlayer.get(entry.getPlayerName()).longValue(), entry.getGoals());
+                if (i > 0) {
+                    assertTrue(topScorers.get(i - 1).getGoals() >= entry.getGoals());
+                }
+            }
+            assertTrue(byPlayer.values().stream().filter(goals -> goals > lowestTopGoals).count() < 10);
+            assertEquals(totalGoals, statistics.getGoalsByReferee().values().stream().mapToLong(Long::longValue).sum());
+            long[] distribution = statistics.getMatchGoalDistribution();
+            assertEquals(6, distribution.length);
+            for (long count : distribution) {
+                assertEquals(matches / 6 + (count > matches / 6 ? 1 : 0), count);
+            }
+            assertEquals(matches * 22L, sum(statistics.getPlayerGoalDistribution()));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static long sum(long[] values) {
+        long sum = 0;
+        for (long value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    private FootballMatch createValidFootballMatch(String teamOne, String teamTwo, String playerNamePrefix, String referee) {
+        return createMatchBuilder(teamOne, teamTwo, playerNamePrefix)
+                .referee(new Player(referee, 777))
+                .build();
+    }
+
+    private FootballMatch createSquadMatch(String teamOne, String teamTwo) {
+        return createMatchBuilder(createSquad(teamOne), createSquad(teamTwo))
+                .referee(new Player("Referee", 777))
+                .build();
+    }
+}
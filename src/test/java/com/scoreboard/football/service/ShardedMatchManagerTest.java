@@ -0,0 +1,110 @@
+package com.scoreboard.football.service;
+
+import com.scoreboard.football.FootballMatch;
+import com.scoreboard.football.common.MatchStatus;
+import com.scoreboard.football.modal.Player;
+import com.scoreboard.football.modal.Team;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.scoreboard.football.TestFixtures.createMatchBuilder;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShardedMatchManagerTest {
+    private ShardedMatchManager shardedManager;
+
+    @BeforeEach
+    void setUp() {
+        shardedManager = new ShardedMatchManager(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        shardedManager.close();
+    }
+
+    @Test
+    void testOperationsAreRoutedToOwningShard() {
+        FootballMatch match = createMatch("Match1");
+        shardedManager.addMatch("Match1", match).join();
+        shardedManager.scoreGoal("Match1", "Match1Player7", match.getTeamOne()).join();
+        shardedManager.scoreGoal("Match1", 3, match.getTeamTwo()).join();
+        shardedManager.transitionMatchStatus("Match1", MatchStatus.IN_PROGRESS).join();
+
+        FootballMatch details = shardedManager.getMatchDetails("Match1").join();
+        assertSame(match, details);
+        assertEquals(1, details.getTeamOne().getScore());
+        assertEquals(1, details.getTeamTwo().getScore());
+        assertEquals(MatchStatus.IN_PROGRESS, details.getMatchStatus());
+        assertEquals("Match1Player7", shardedManager.getTopScorers("Match1", 1).join().get(0).getName());
+        assertTrue(shardedManager.shardOf("Match1") < shardedManager.getShardCount());
+    }
+
+    @Test
+    void testValidationFailuresCompleteExceptionally() {
+        CompletableFuture<Void> missing = shardedManager.scoreGoal("Missing", "Player1", new Team("TeamA"));
+        CompletionException failure = assertThrows(CompletionException.class, missing::join);
+        assertTrue(failure.getCause() instanceof IllegalArgumentException);
+
+        shardedManager.addMatch("Match1", createMatch("Match1")).join();
+        assertThrows(CompletionException.class, () -> shardedManager.addMatch("Match1", createMatch("Match1")).join());
+        assertThrows(CompletionException.class, () -> shardedManager.transitionMatchStatus("Match1", MatchStatus.COMPLETED).join());
+    }
+
+    @Test
+    void testCrossShardQueriesGatherEveryShard() {
+        assertThrows(CompletionException.class, () -> shardedManager.getAllPlayers().join());
+        assertThrows(CompletionException.class, () -> shardedManager.getPlayerDetails("Match1Player1").join());
+
+        for (int i = 0; i < 20; i++) {
+            shardedManager.addMatch("Match" + i, createMatch("Match" + i)).join();
+        }
+        assertEquals(20, shardedManager.getMatchCount().join());
+        assertEquals(20 * 22, shardedManager.getAllPlayers().join().size());
+        assertEquals("Match13Player4", shardedManager.getPlayerDetails("Match13Player4").join().getName());
+        CompletionException failure = assertThrows(CompletionException.class,
+                () -> shardedManager.getPlayerDetails("Nobody").join());
+        assertTrue(failure.getCause() instanceof IllegalArgumentException);
+    }
+
+    @Test
+    void testConcurrentGoalsAreAppliedExactlyOnce() {
+        List<FootballMatch> matches = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            FootballMatch match = createMatch("Match" + i);
+            matches.add(match);
+            shardedManager.addMatch("Match" + i, match).join();
+        }
+        AtomicInteger goals = new AtomicInteger();
+        shardedManager.addListener(new MatchListener() {
+            @Override
+            public void goalScored(String matchId, Team team, Player scorer, int points) {
+                goals.incrementAndGet();
+            }
+        });
+        List<CompletableFuture<Void>> results = new ArrayList<>();
+        for (int goal = 0; goal < 1000; goal++) {
+            for (int i = 0; i < matches.size(); i++) {
+                results.add(shardedManager.scoreGoal("Match" + i, 1 + goal % 11, matches.get(i).getTeamOne()));
+            }
+        }
+        CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0])).join();
+        for (FootballMatch match : matches) {
+            assertEquals(1000, match.getTeamOne().getScore());
+        }
+        assertEquals(8000, goals.get());
+    }
+
+    private FootballMatch createMatch(String matchId) {
+        return createMatchBuilder(matchId + "A", matchId + "B", matchId + "Player")
+                .matchTitle(matchId)
+                .build();
+    }
+}
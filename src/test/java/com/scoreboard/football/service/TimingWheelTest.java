@@ -0,0 +1,83 @@
+package com.scoreboard.football.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    @Test
+    void testTasksRunOnceTheirDeadlineIsReached() {
+        TimingWheel wheel = new TimingWheel(10, 0);
+        List<String> fired = new ArrayList<>();
+        wheel.schedule(25, () -> fired.add("a"));
+        wheel.schedule(10, () -> fired.add("b"));
+
+        wheel.advanceTo(19);
+        assertEquals(List.of("b"), fired);
+        wheel.advanceTo(29);
+        assertEquals(List.of("b"), fired);
+        wheel.advanceTo(30);
+        assertEquals(List.of("b", "a"), fired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testPastDeadlineRunsOnNextTick() {
+        TimingWheel wheel = new TimingWheel(10, 1000);
+        List<String> fired = new ArrayList<>();
+        wheel.schedule(0, () -> fired.add("late"));
+        wheel.advanceTo(1009);
+        assertTrue(fired.isEmpty());
+        wheel.advanceTo(1010);
+        assertEquals(List.of("late"), fired);
+    }
+
+    @Test
+    void testTimeoutsCascadeFromHigherLevelsInDeadlineOrder() {
+        TimingWheel wheel = new TimingWheel(1, 0);
+        Random random = new Random(42);
+        List<Long> fired = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            long deadline = 1 + random.nextInt(20_000_000);
+            wheel.schedule(deadline, () -> fired.add(deadline));
+        }
+        for (long now = 0; now <= 20_000_000; now += 1_000_000) {
+            wheel.advanceTo(now);
+            for (int i = 1; i < fired.size(); i++) {
+                assertTrue(fired.get(i - 1) <= fired.get(i));
+            }
+            assertTrue(fired.isEmpty() || fired.get(fired.size() - 1) <= now);
+        }
+        assertEquals(5000, fired.size());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testCancelledTimeoutDoesNotRun() {
+        TimingWheel wheel = new TimingWheel(10, 0);
+        List<String> fired = new ArrayList<>();
+        TimingWheel.Timeout first = wheel.schedule(100, () -> fired.add("first"));
+        TimingWheel.Timeout second = wheel.schedule(100, () -> fired.add("second"));
+        wheel.schedule(100, () -> fired.add("third"));
+
+        assertTrue(second.cancel());
+        assertFalse(second.cancel());
+        assertEquals(2, wheel.size());
+        wheel.advanceTo(100);
+        assertTrue(fired.containsAll(List.of("first", "third")));
+        assertEquals(2, fired.size());
+        assertFalse(first.cancel());
+    }
+
+    @Test
+    void testDeadlineBeyondRangeIsRejected() {
+        TimingWheel wheel = new TimingWheel(1, 0);
+        assertThrows(IllegalArgumentException.class, () -> wheel.schedule(1L << 40, () -> { }));
+        assertThrows(IllegalArgumentException.class, () -> new TimingWheel(0, 0));
+    }
+}